@@ -0,0 +1,108 @@
+package tutorly.storage;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import tutorly.commons.util.FileUtil;
+import tutorly.commons.util.JsonUtil;
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+
+/**
+ * Compares reading and writing a large JSON address book through {@link FileUtil} and {@link JsonUtil} with reading
+ * and writing it through byte arrays holding the whole file, as was done before.
+ * <p>
+ * This is kept out of the tests as it depends on the allocation counters of the HotSpot JVM. Run it with
+ * {@code gradlew benchmark}, optionally passing the number of persons in the address book with {@code --args}.
+ */
+public class FileIoBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    /**
+     * Runs the benchmark and prints the median time taken and the bytes allocated by each way of reading and writing.
+     */
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(createAddressBook(personCount));
+        Path file = Files.createTempFile("tutorly-benchmark", ".json");
+
+        try {
+            JsonUtil.saveJsonFile(addressBook, file);
+            System.out.printf("Address book of %d persons, %d bytes%n", personCount, Files.size(file));
+
+            measure("save with byte array", () -> Files.write(file,
+                    JsonUtil.toJsonString(addressBook).getBytes(StandardCharsets.UTF_8)));
+            measure("save with direct buffer", () -> JsonUtil.saveJsonFile(addressBook, file));
+            measure("read with byte array", () -> JsonUtil.fromJsonString(
+                    new String(Files.readAllBytes(file), StandardCharsets.UTF_8), JsonSerializableAddressBook.class));
+            measure("read with mapped file", () -> JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class));
+
+            String content = Files.readString(file);
+            measure("write text with byte array", () -> Files.write(file, content.getBytes(StandardCharsets.UTF_8)));
+            measure("write text with direct buffer", () -> FileUtil.writeToFile(file, content));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static AddressBook createAddressBook(int personCount) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 1; i <= personCount; i++) {
+            persons.add(new PersonBuilder().withId(i).withName("Student " + toLetters(i))
+                    .withPhone(String.valueOf(80000000 + i)).withEmail("student" + i + "@example.com")
+                    .withAddress(i + ", Jurong West Ave 6, #08-111").withTags("year" + (i % 4 + 1))
+                    .withMemo("Needs help with algebra").build());
+        }
+        AddressBook addressBook = new AddressBook(personCount + 1, 1);
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        for (; number > 0; number /= 26) {
+            letters.append((char) ('a' + number % 26));
+        }
+        return letters.toString();
+    }
+
+    private static void measure(String name, Task task) throws Exception {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            task.run();
+        }
+
+        long[] times = new long[MEASURED_ITERATIONS];
+        long allocatedBytes = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            task.run();
+            times[i] = System.nanoTime() - start;
+            allocatedBytes += threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+
+        Arrays.sort(times);
+        System.out.printf("%-30s %8.2f ms %10.2f MiB allocated%n", name, times[times.length / 2] / 1e6,
+                allocatedBytes / (double) MEASURED_ITERATIONS / (1024 * 1024));
+    }
+
+    /**
+     * An operation to measure.
+     */
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+
+}
@@ -23,8 +23,11 @@ import tutorly.model.ReadOnlyUserPrefs;
 import tutorly.model.UserPrefs;
 import tutorly.model.util.SampleDataUtil;
 import tutorly.storage.AddressBookStorage;
-import tutorly.storage.JsonAddressBookStorage;
+import tutorly.storage.BinaryAddressBookStorage;
+import tutorly.storage.JournaledAddressBookStorage;
 import tutorly.storage.JsonUserPrefsStorage;
+import tutorly.storage.MigratingAddressBookStorage;
+import tutorly.storage.SaveScheduler;
 import tutorly.storage.Storage;
 import tutorly.storage.StorageManager;
 import tutorly.storage.UserPrefsStorage;
@@ -43,6 +46,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected SaveScheduler saveScheduler;
     protected Model model;
     protected Config config;
 
@@ -57,16 +61,37 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saveScheduler = new SaveScheduler(storage);
+        logic = new LogicManager(model, saveScheduler);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the data file in the format chosen in {@code userPrefs}.
+     * The binary data file is kept next to the JSON data file. If the data file in the chosen format does not exist
+     * yet, the data file in the other format is migrated.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JournaledAddressBookStorage(jsonFilePath);
+        AddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            return new MigratingAddressBookStorage(binaryStorage, jsonStorage);
+        case JSON:
+        default:
+            return new MigratingAddressBookStorage(jsonStorage, binaryStorage);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +202,14 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // The scheduler is not created if the app failed to initialise, and there is no data to save then
+        if (saveScheduler != null) {
+            try {
+                saveScheduler.flush();
+            } catch (IOException e) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,11 @@
+package tutorly.commons.core;
+
+/**
+ * The formats that the address book data file can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** A compact binary encoding, which is smaller and faster to load and save. */
+    BINARY
+}
@@ -0,0 +1,194 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.checkIndex;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list whose modifications can be grouped into a single change event. The list is backed by a
+ * {@code SharedArrayList} unless another backing list is given.
+ * Modifications made between {@link #beginBatch()} and the matching {@link #endBatch()} are reported to listeners as
+ * one change once the outermost batch ends. Batches can be nested.
+ */
+public class BatchObservableList<T> extends ModifiableObservableListBase<T> implements Snapshottable<T> {
+
+    private final List<T> backingList;
+
+    /**
+     * Constructs an empty list backed by a {@code SharedArrayList}.
+     */
+    public BatchObservableList() {
+        this(new SharedArrayList<>());
+    }
+
+    /**
+     * Constructs a list backed by {@code backingList}, which should not be modified other than through this list.
+     */
+    public BatchObservableList(List<T> backingList) {
+        this.backingList = backingList;
+    }
+
+    /**
+     * Starts grouping subsequent modifications into a single change event.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the current batch, firing the grouped change event if this is the outermost batch.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Returns a snapshot of the list. This takes constant time if the backing list is {@code Snapshottable}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> snapshot() {
+        if (backingList instanceof Snapshottable<?> snapshottable) {
+            return ((Snapshottable<T>) snapshottable).snapshot();
+        }
+        return List.copyOf(backingList);
+    }
+
+    @Override
+    public T get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, T element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected T doSet(int index, T element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected T doRemove(int index) {
+        return backingList.remove(index);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        if (elements.isEmpty()) {
+            return false;
+        }
+
+        beginChange();
+        try {
+            backingList.addAll(index, elements);
+            nextAdd(index, index + elements.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        return addAll(size(), elements);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends T> elements) {
+        beginChange();
+        try {
+            clear();
+            addAll(elements);
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int from, int to) {
+        if (from == to) {
+            return;
+        }
+
+        // Removes the range at once instead of one element at a time
+        beginChange();
+        try {
+            List<T> range = backingList.subList(from, to);
+            nextRemove(from, new ArrayList<>(range));
+            range.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the elements at the indices set in {@code indices} as a single change.
+     * This takes one pass over the list if the backing list is {@code BulkRemovable}.
+     */
+    public void removeIndices(BitSet indices) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        checkIndex(indices.length() - 1, size());
+
+        beginChange();
+        try {
+            // Each run of removed elements is reported at its index once the runs before it are removed
+            int removedCount = 0;
+            for (int from = indices.nextSetBit(0); from >= 0; ) {
+                int to = indices.nextClearBit(from);
+                nextRemove(from - removedCount, new ArrayList<>(backingList.subList(from, to)));
+                removedCount += to - from;
+                from = indices.nextSetBit(to);
+            }
+
+            if (backingList instanceof BulkRemovable bulkRemovable) {
+                bulkRemovable.removeIndices(indices);
+            } else {
+                // Removes the runs from the back, so that the indices of the runs yet to be removed do not change
+                for (int to = indices.length(); to > 0; ) {
+                    int from = indices.previousClearBit(to - 1) + 1;
+                    backingList.subList(from, to).clear();
+                    to = indices.previousSetBit(from - 1) + 1;
+                }
+            }
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (backingList.isEmpty()) {
+            return;
+        }
+
+        // Removes all elements at once instead of one at a time from the front of the backing list, reporting a
+        // snapshot of them as the removed elements
+        beginChange();
+        try {
+            nextRemove(0, snapshot());
+            backingList.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package tutorly.commons.util;
+
+import java.util.BitSet;
+
+/**
+ * A list that can remove the elements at any set of indices in a single pass.
+ */
+public interface BulkRemovable {
+
+    /**
+     * Removes the elements at the indices set in {@code indices}, shifting the remaining elements left in one pass.
+     * Every index set must be less than the size of the list.
+     */
+    void removeIndices(BitSet indices);
+
+}
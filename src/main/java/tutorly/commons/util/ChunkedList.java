@@ -0,0 +1,372 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.checkIndex;
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list stored in chunks of at most a fixed number of elements, that can take snapshots of itself in constant time.
+ * A snapshot shares the chunks of the list. The next modification of the list copies the directory of chunks and
+ * the chunks it modifies only, so a modification after a snapshot costs the size of a chunk and the number of chunks
+ * instead of the size of the list. Clearing the list never copies.
+ * <p>
+ * Each chunk is owned by the generation of the list that created it, and a new generation starts with every
+ * snapshot, so chunks created before the latest snapshot are copied before they are modified.
+ *
+ * @param <T> the type of the elements.
+ * @param <C> the type of the chunks.
+ */
+public abstract class ChunkedList<T, C extends ChunkedList.Chunk<T, C>> extends AbstractList<T>
+        implements RandomAccess, Snapshottable<T>, BulkRemovable {
+
+    public static final int DEFAULT_CHUNK_CAPACITY = 256;
+
+    public static final String MESSAGE_INVALID_CHUNK_CAPACITY = "Chunk capacity must be at least 2.";
+
+    private static final Object[] EMPTY_CHUNKS = {};
+    private static final int[] EMPTY_STARTS = {};
+
+    protected final int chunkCapacity;
+
+    // The chunks in order, and the index of the first element of each chunk
+    private Object[] chunks = EMPTY_CHUNKS;
+    private int[] starts = EMPTY_STARTS;
+    private int chunkCount;
+    private int size;
+
+    // True if the directory of chunks is shared with a snapshot and must be copied before it is modified
+    private boolean isDirectoryShared;
+    private Object generation = new Object();
+
+    // The chunk that was last looked up, as consecutive elements are usually read together
+    private int lastChunk;
+
+    /**
+     * Constructs an empty list with chunks of at most {@code chunkCapacity} elements.
+     */
+    protected ChunkedList(int chunkCapacity) {
+        checkArgument(chunkCapacity >= 2, MESSAGE_INVALID_CHUNK_CAPACITY);
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    /**
+     * Returns a new empty chunk owned by {@code generation}.
+     */
+    protected abstract C newChunk(Object generation);
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size);
+        int chunk = locate(index);
+        return getChunk(chunk).get(index - starts[chunk]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T set(int index, T element) {
+        checkIndex(index, size);
+        int chunk = locate(index);
+        return getWritableChunk(chunk).set(index - starts[chunk], element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkIndex(index, size + 1);
+        prepareDirectoryForWrite();
+        if (chunkCount == 0) {
+            insertChunk(0, newChunk(generation), 0);
+        }
+
+        int chunk = index == size ? chunkCount - 1 : locate(index);
+        int offset = index - starts[chunk];
+        C target = getWritableChunk(chunk);
+        if (target.size == chunkCapacity) {
+            if (offset == chunkCapacity) {
+                // Appending to a full chunk starts a new chunk instead of leaving two half-full chunks behind
+                target = newChunk(generation);
+            } else {
+                target = target.split(chunkCapacity / 2, newChunk(generation));
+            }
+            insertChunk(chunk + 1, target, starts[chunk] + getChunk(chunk).size);
+            if (offset >= getChunk(chunk).size) {
+                offset -= getChunk(chunk).size;
+                chunk++;
+            } else {
+                target = getChunk(chunk);
+            }
+        }
+
+        target.add(offset, element);
+        for (int i = chunk + 1; i < chunkCount; i++) {
+            starts[i]++;
+        }
+        lastChunk = chunk;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = get(index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+    @Override
+    protected void removeRange(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        BitSet indices = new BitSet();
+        indices.set(from, to);
+        removeIndices(indices);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the chunks that contain removed elements are modified, and chunks left small enough are merged with the
+     * chunk before them.
+     */
+    @Override
+    public void removeIndices(BitSet indices) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        checkIndex(indices.length() - 1, size);
+
+        prepareDirectoryForWrite();
+        int newChunkCount = 0;
+        int newSize = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            C chunk = getChunk(i);
+            int start = starts[i];
+            int chunkSize = chunk.size;
+            int next = indices.nextSetBit(start);
+            if (next >= 0 && next < start + chunkSize) {
+                chunk = getWritableChunk(i);
+                chunk.removeIndices(indices.get(start, start + chunkSize));
+            }
+
+            if (chunk.size == 0) {
+                continue;
+            }
+            if (newChunkCount > 0 && getChunk(newChunkCount - 1).size + chunk.size <= chunkCapacity / 2) {
+                C previous = getWritableChunk(newChunkCount - 1);
+                for (int j = 0; j < chunk.size; j++) {
+                    previous.add(previous.size, chunk.get(j));
+                }
+            } else {
+                chunks[newChunkCount] = chunk;
+                starts[newChunkCount] = newSize;
+                newChunkCount++;
+            }
+            newSize += chunk.size;
+        }
+
+        Arrays.fill(chunks, newChunkCount, chunkCount, null);
+        chunkCount = newChunkCount;
+        size = newSize;
+        lastChunk = 0;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        chunks = EMPTY_CHUNKS;
+        starts = EMPTY_STARTS;
+        chunkCount = 0;
+        size = 0;
+        isDirectoryShared = false;
+        lastChunk = 0;
+        modCount++;
+    }
+
+    @Override
+    public List<T> snapshot() {
+        isDirectoryShared = true;
+        generation = new Object();
+        return Collections.unmodifiableList(new Snapshot<>(chunks, starts, chunkCount, size));
+    }
+
+    /**
+     * Returns the number of chunks of this list.
+     */
+    protected int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns the index of the first element of the chunk at {@code chunk}.
+     */
+    protected int getChunkStart(int chunk) {
+        checkIndex(chunk, chunkCount);
+        return starts[chunk];
+    }
+
+    /**
+     * Returns the chunk at {@code chunk}, which must not be modified.
+     */
+    @SuppressWarnings("unchecked")
+    protected C getChunk(int chunk) {
+        checkIndex(chunk, chunkCount);
+        return (C) chunks[chunk];
+    }
+
+    /**
+     * Returns the index of the chunk containing the element at {@code index}.
+     */
+    protected int locate(int index) {
+        int chunk = lastChunk;
+        if (chunk < chunkCount && starts[chunk] <= index && index < starts[chunk] + getChunk(chunk).size) {
+            return chunk;
+        }
+        chunk = locate(starts, chunkCount, index);
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    /**
+     * Returns the index of the last of the first {@code chunkCount} chunks that starts at or before {@code index}.
+     */
+    private static int locate(int[] starts, int chunkCount, int index) {
+        int chunk = Arrays.binarySearch(starts, 0, chunkCount, index);
+        if (chunk < 0) {
+            return -chunk - 2;
+        }
+        // Chunks are never empty, so no two chunks start at the same index
+        return chunk;
+    }
+
+    /**
+     * Returns the chunk at {@code chunk}, copying it first if it is shared with a snapshot.
+     */
+    private C getWritableChunk(int chunk) {
+        C current = getChunk(chunk);
+        if (current.isOwnedBy(generation)) {
+            return current;
+        }
+
+        prepareDirectoryForWrite();
+        C copy = current.copy(newChunk(generation));
+        chunks[chunk] = copy;
+        return copy;
+    }
+
+    /**
+     * Copies the directory of chunks if it is shared with a snapshot.
+     */
+    private void prepareDirectoryForWrite() {
+        if (!isDirectoryShared) {
+            return;
+        }
+
+        chunks = chunks.clone();
+        starts = starts.clone();
+        isDirectoryShared = false;
+    }
+
+    private void insertChunk(int index, C chunk, int start) {
+        if (chunkCount == chunks.length) {
+            int capacity = Math.max(4, chunkCount + (chunkCount >> 1));
+            chunks = Arrays.copyOf(chunks, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+        }
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+        System.arraycopy(starts, index, starts, index + 1, chunkCount - index);
+        chunks[index] = chunk;
+        starts[index] = start;
+        chunkCount++;
+    }
+
+    /**
+     * A chunk of consecutive elements of a {@code ChunkedList}, which is only modified by the generation of the list
+     * that owns it.
+     *
+     * @param <T> the type of the elements.
+     * @param <C> the type of the chunk itself.
+     */
+    protected abstract static class Chunk<T, C extends Chunk<T, C>> {
+        private final Object generation;
+        protected int size;
+
+        protected Chunk(Object generation) {
+            this.generation = generation;
+        }
+
+        boolean isOwnedBy(Object generation) {
+            return this.generation == generation;
+        }
+
+        /**
+         * Returns the element at {@code offset} in this chunk.
+         */
+        protected abstract T get(int offset);
+
+        /**
+         * Replaces the element at {@code offset} in this chunk, and returns the replaced element.
+         */
+        protected abstract T set(int offset, T element);
+
+        /**
+         * Inserts {@code element} at {@code offset} in this chunk, which is not full.
+         */
+        protected abstract void add(int offset, T element);
+
+        /**
+         * Removes the elements at the offsets set in {@code offsets} from this chunk in one pass.
+         */
+        protected abstract void removeIndices(BitSet offsets);
+
+        /**
+         * Copies the elements of this chunk into the empty chunk {@code copy}, and returns {@code copy}.
+         */
+        protected abstract C copy(C copy);
+
+        /**
+         * Moves the elements of this chunk from {@code from} onwards into the empty chunk {@code tail}, and returns
+         * {@code tail}.
+         */
+        protected abstract C split(int from, C tail);
+    }
+
+    /**
+     * A view of the chunks of a list as they were when the snapshot was taken. The chunks are no longer modified.
+     */
+    private static class Snapshot<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] chunks;
+        private final int[] starts;
+        private final int chunkCount;
+        private final int size;
+
+        Snapshot(Object[] chunks, int[] starts, int chunkCount, int size) {
+            this.chunks = chunks;
+            this.starts = starts;
+            this.chunkCount = chunkCount;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            checkIndex(index, size);
+            int chunk = locate(starts, chunkCount, index);
+            return ((Chunk<T, ?>) chunks[chunk]).get(index - starts[chunk]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+}
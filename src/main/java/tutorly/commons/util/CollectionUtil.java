@@ -2,9 +2,14 @@ package tutorly.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,34 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the {@code limit} smallest of {@code items} according to {@code comparator}, from the smallest.
+     * Only a heap of the smallest items seen so far is kept, so this takes O(n log limit) time instead of sorting all
+     * the items.
+     */
+    public static <T> List<T> getSmallest(Iterable<? extends T> items, Comparator<? super T> comparator, int limit) {
+        requireAllNonNull(items, comparator);
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // The largest of the smallest items seen so far is at the head, so it can be replaced by a smaller item
+        PriorityQueue<T> smallest = new PriorityQueue<>(Math.min(limit, 16), comparator.reversed());
+        for (T item : items) {
+            if (smallest.size() < limit) {
+                smallest.add(item);
+            } else if (comparator.compare(item, smallest.peek()) < 0) {
+                smallest.poll();
+                smallest.add(item);
+            }
+        }
+
+        List<T> result = new ArrayList<>(smallest.size());
+        while (!smallest.isEmpty()) {
+            result.add(smallest.poll());
+        }
+        Collections.reverse(result);
+        return result;
+    }
 }
@@ -0,0 +1,328 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of a source list, with a predicate that also depends on the contents of other observable lists.
+ * Changes to the source are handled like in a {@code FilteredList}, by testing only the added or updated elements.
+ * When a dependency changes, the elements of the source that the change may affect are tested again, and the view
+ * reports a single change with only the elements that entered or left it.
+ * <p>
+ * A dependency can be keyed, in which case the predicate may only depend on the elements of the dependency with the
+ * same key as the element being tested, such as the session with the ID of an attendance record. Only the elements
+ * with a key of an added, removed or updated element of the dependency are then tested again, and they are looked up
+ * from an index of the source by key, which is rebuilt on the first change to the dependency after the source changes.
+ * Changes to an unkeyed dependency test every element again, as any element may depend on them.
+ *
+ * @param <T> the type of the elements.
+ */
+public class DependentFilteredList<T> extends TransformationList<T, T> {
+
+    private final Predicate<? super T> predicate;
+
+    // The indices of the matching elements in the source, in increasing order
+    private List<Integer> sourceIndices = new ArrayList<>();
+
+    // The indices of the source by the key of each keyed dependency
+    private final List<KeyIndex> keyIndices = new ArrayList<>();
+
+    /**
+     * Constructs a view of the elements of {@code source} that match {@code predicate}.
+     */
+    public DependentFilteredList(ObservableList<T> source, Predicate<? super T> predicate) {
+        super(source);
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                sourceIndices.add(i);
+            }
+        }
+    }
+
+    /**
+     * Tests every element again whenever {@code dependency} changes.
+     *
+     * @return This list.
+     */
+    public DependentFilteredList<T> dependsOn(ObservableList<?> dependency) {
+        requireNonNull(dependency);
+        dependency.addListener((ListChangeListener<Object>) change -> {
+            BitSet allSourceIndices = new BitSet();
+            allSourceIndices.set(0, getSource().size());
+            refilter(allSourceIndices);
+        });
+        return this;
+    }
+
+    /**
+     * Tests the elements with the key of a changed element of {@code dependency} again whenever it changes.
+     * The predicate must only depend on the elements of {@code dependency} whose key equals the key of the element
+     * being tested.
+     *
+     * @param dependencyKey Returns the key of an element of the dependency.
+     * @param elementKey Returns the key of an element of the source.
+     * @return This list.
+     */
+    public <D> DependentFilteredList<T> dependsOn(ObservableList<D> dependency,
+            Function<? super D, ?> dependencyKey, Function<? super T, ?> elementKey) {
+        requireAllNonNull(dependency, dependencyKey, elementKey);
+        KeyIndex keyIndex = new KeyIndex(elementKey);
+        keyIndices.add(keyIndex);
+        dependency.addListener((ListChangeListener<D>) change -> {
+            Set<Object> changedKeys = new HashSet<>();
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(element -> changedKeys.add(dependencyKey.apply(element)));
+                // Added and updated elements are both in the range from getFrom() to getTo()
+                change.getList().subList(change.getFrom(), change.getTo())
+                        .forEach(element -> changedKeys.add(dependencyKey.apply(element)));
+            }
+
+            if (!changedKeys.isEmpty()) {
+                refilter(keyIndex.getSourceIndices(changedKeys));
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Tests the elements of the source at {@code affectedSourceIndices} again, and reports the elements that entered
+     * or left the view as a single change.
+     */
+    private void refilter(BitSet affectedSourceIndices) {
+        List<Integer> newSourceIndices = new ArrayList<>(sourceIndices.size());
+        int oldViewIndex = 0;
+
+        beginChange();
+        for (int i = affectedSourceIndices.nextSetBit(0); i >= 0; i = affectedSourceIndices.nextSetBit(i + 1)) {
+            // Keep the matching elements before this one as they are
+            while (oldViewIndex < sourceIndices.size() && sourceIndices.get(oldViewIndex) < i) {
+                newSourceIndices.add(sourceIndices.get(oldViewIndex++));
+            }
+            boolean wasMatching = oldViewIndex < sourceIndices.size() && sourceIndices.get(oldViewIndex) == i;
+            if (wasMatching) {
+                oldViewIndex++;
+            }
+
+            T element = getSource().get(i);
+            boolean isMatching = predicate.test(element);
+            // The view index is the number of elements before this one after the earlier changes
+            int viewIndex = newSourceIndices.size();
+            if (isMatching) {
+                newSourceIndices.add(i);
+            }
+
+            if (wasMatching && !isMatching) {
+                nextRemove(viewIndex, element);
+            } else if (!wasMatching && isMatching) {
+                nextAdd(viewIndex, viewIndex + 1);
+            }
+        }
+        newSourceIndices.addAll(sourceIndices.subList(oldViewIndex, sourceIndices.size()));
+        sourceIndices = newSourceIndices;
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends T> change) {
+        keyIndices.forEach(KeyIndex::invalidate);
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    update(i);
+                }
+            } else {
+                removeSourceRange(change.getFrom(), change.getRemoved());
+                addSourceRange(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Moves the matching elements to their new positions after the source was permuted by {@code change}, and reports
+     * the view as replaced in the new order.
+     */
+    private void permute(ListChangeListener.Change<? extends T> change) {
+        List<T> removed = new ArrayList<>(sourceIndices.size());
+        for (int viewIndex = 0; viewIndex < sourceIndices.size(); viewIndex++) {
+            int sourceIndex = sourceIndices.get(viewIndex);
+            if (sourceIndex >= change.getFrom() && sourceIndex < change.getTo()) {
+                sourceIndex = change.getPermutation(sourceIndex);
+                sourceIndices.set(viewIndex, sourceIndex);
+            }
+            removed.add(getSource().get(sourceIndex));
+        }
+        sourceIndices.sort(null);
+        nextReplace(0, sourceIndices.size(), removed);
+    }
+
+    /**
+     * Removes the {@code removed} elements, which were at {@code from} in the source.
+     */
+    private void removeSourceRange(int from, List<? extends T> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        int start = getViewIndexAtOrAfter(from);
+        int end = getViewIndexAtOrAfter(from + removed.size());
+        List<T> removedFromView = new ArrayList<>(end - start);
+        for (int viewIndex = start; viewIndex < end; viewIndex++) {
+            removedFromView.add(removed.get(sourceIndices.get(viewIndex) - from));
+        }
+
+        sourceIndices.subList(start, end).clear();
+        shiftSourceIndices(start, -removed.size());
+        if (!removedFromView.isEmpty()) {
+            nextRemove(start, removedFromView);
+        }
+    }
+
+    /**
+     * Adds the elements that match from {@code from} to {@code to} in the source.
+     */
+    private void addSourceRange(int from, int to) {
+        if (from == to) {
+            return;
+        }
+
+        int start = getViewIndexAtOrAfter(from);
+        shiftSourceIndices(start, to - from);
+        List<Integer> added = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            if (predicate.test(getSource().get(i))) {
+                added.add(i);
+            }
+        }
+
+        sourceIndices.addAll(start, added);
+        if (!added.isEmpty()) {
+            nextAdd(start, start + added.size());
+        }
+    }
+
+    /**
+     * Tests the element at {@code sourceIndex} again after it was updated.
+     */
+    private void update(int sourceIndex) {
+        int viewIndex = getViewIndexAtOrAfter(sourceIndex);
+        boolean wasMatching = viewIndex < sourceIndices.size() && sourceIndices.get(viewIndex) == sourceIndex;
+        boolean isMatching = predicate.test(getSource().get(sourceIndex));
+        if (wasMatching && isMatching) {
+            nextUpdate(viewIndex);
+        } else if (wasMatching) {
+            sourceIndices.remove(viewIndex);
+            nextRemove(viewIndex, getSource().get(sourceIndex));
+        } else if (isMatching) {
+            sourceIndices.add(viewIndex, sourceIndex);
+            nextAdd(viewIndex, viewIndex + 1);
+        }
+    }
+
+    private void shiftSourceIndices(int fromViewIndex, int offset) {
+        for (int viewIndex = fromViewIndex; viewIndex < sourceIndices.size(); viewIndex++) {
+            sourceIndices.set(viewIndex, sourceIndices.get(viewIndex) + offset);
+        }
+    }
+
+    /**
+     * Returns the index in the view of the first matching element at or after {@code sourceIndex} in the source.
+     */
+    private int getViewIndexAtOrAfter(int sourceIndex) {
+        int low = 0;
+        int high = sourceIndices.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sourceIndices.get(mid) < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return sourceIndices.get(index);
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = getViewIndexAtOrAfter(index);
+        return viewIndex < sourceIndices.size() && sourceIndices.get(viewIndex) == index ? viewIndex : -1;
+    }
+
+    @Override
+    public T get(int index) {
+        return getSource().get(sourceIndices.get(index));
+    }
+
+    @Override
+    public int size() {
+        return sourceIndices.size();
+    }
+
+    /**
+     * The indices of the elements of the source by their key for a keyed dependency.
+     */
+    private class KeyIndex {
+        private final Function<? super T, ?> elementKey;
+        private final Map<Object, List<Integer>> sourceIndicesByKey = new HashMap<>();
+        private boolean isStale = true;
+
+        KeyIndex(Function<? super T, ?> elementKey) {
+            this.elementKey = elementKey;
+        }
+
+        /**
+         * Marks the index as out of date, so that it is rebuilt when it is next used.
+         */
+        void invalidate() {
+            isStale = true;
+        }
+
+        /**
+         * Returns the indices of the elements of the source with any of {@code keys}.
+         */
+        BitSet getSourceIndices(Set<Object> keys) {
+            if (isStale) {
+                sourceIndicesByKey.clear();
+                for (int i = 0; i < getSource().size(); i++) {
+                    sourceIndicesByKey.computeIfAbsent(elementKey.apply(getSource().get(i)), k -> new ArrayList<>())
+                            .add(i);
+                }
+                isStale = false;
+            }
+
+            BitSet indices = new BitSet();
+            for (Object key : keys) {
+                sourceIndicesByKey.getOrDefault(key, List.of()).forEach(indices::set);
+            }
+            return indices;
+        }
+    }
+
+}
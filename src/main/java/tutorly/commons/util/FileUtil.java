@@ -1,17 +1,41 @@
 package tutorly.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
 
 /**
  * Writes and reads files
+ * <p>
+ * Streams read and write files through a {@code FileChannel} and a direct buffer, so the operating system copies the
+ * data straight into or out of the buffer. Streams over files of at least {@link #MAPPED_READ_THRESHOLD} bytes map the
+ * file into memory instead of reading it into a buffer, so the file is read without copying it first.
  */
 public class FileUtil {
 
+    /** The size in bytes from which files are mapped into memory when they are read through a stream. */
+    static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Windows cannot replace or truncate a file while it is mapped, and a mapping is only released once it is garbage
+    // collected, so files are never mapped there
+    private static final boolean CAN_MAP_FILES = !System.getProperty("os.name", "").startsWith("Windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +96,205 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns a buffered stream that reads the contents of {@code file}, which is mapped into memory if it is large.
+     * Assumes file exists
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if (shouldMap(channel)) {
+                // The mapping stays valid after the channel is closed
+                ByteBuffer mappedFile = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                channel.close();
+                return new ByteBufferInputStream(null, mappedFile);
+            }
+            return new ByteBufferInputStream(channel, ByteBuffer.allocateDirect(BUFFER_SIZE).limit(0));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static boolean shouldMap(FileChannel channel) throws IOException {
+        long size = channel.size();
+        return CAN_MAP_FILES && size >= MAPPED_READ_THRESHOLD && size <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns a stream that writes to {@code file} through a direct buffer, for serializers that write their output
+     * piece by piece. Creates the file if it does not exist yet, and replaces its contents otherwise.
+     */
+    public static OutputStream newOutputStream(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new ByteBufferOutputStream(channel, ByteBuffer.allocateDirect(BUFFER_SIZE));
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, replacing it. Where the file system supports it, the move is atomic,
+     * so {@code target} is never partly written.
+     */
+    public static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        // Encodes the content a piece at a time into reused buffers, rather than into an array as large as the file
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // Each character takes at most 3 bytes, or 4 bytes for 2 characters of a surrogate pair
+        char[] chars = new char[BUFFER_SIZE / 3];
+        ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        try (OutputStream outputStream = newOutputStream(file)) {
+            int start = 0;
+            while (start < content.length()) {
+                int end = Math.min(start + chars.length, content.length());
+                if (end < content.length() && Character.isHighSurrogate(content.charAt(end - 1))) {
+                    end--; // Keeps surrogate pairs in one piece
+                }
+                content.getChars(start, end, chars, 0);
+                encoder.reset().encode(CharBuffer.wrap(chars, 0, end - start), bytes, true);
+                encoder.flush(bytes);
+                outputStream.write(bytes.array(), 0, bytes.position());
+                bytes.clear();
+                start = end;
+            }
+        }
+    }
+
+    /**
+     * Reads from a buffer, which is refilled from a channel when it runs out if there is one.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(FileChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns true if there are bytes left in the buffer after refilling it if needed.
+         */
+        private boolean fill() throws IOException {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            if (channel == null) {
+                return false;
+            }
+            buffer.clear();
+            int bytesRead;
+            do {
+                bytesRead = channel.read(buffer);
+            } while (bytesRead == 0);
+            buffer.flip();
+            return bytesRead > 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return fill() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int bytesRead = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, bytesRead);
+            return bytesRead;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Writes to a channel through a buffer, which is written out whenever it is full.
+     */
+    private static class ByteBufferOutputStream extends OutputStream {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        ByteBufferOutputStream(FileChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private void writeBuffer() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                writeBuffer();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    writeBuffer();
+                }
+                int bytesWritten = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, bytesWritten);
+                offset += bytesWritten;
+                length -= bytesWritten;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (channel.isOpen()) {
+                writeBuffer();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!channel.isOpen()) {
+                return;
+            }
+            try {
+                writeBuffer();
+            } finally {
+                channel.close();
+            }
+        }
     }
 
 }
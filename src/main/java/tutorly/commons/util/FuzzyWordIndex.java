@@ -0,0 +1,213 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of elements by the lowercased words of a text, used to find the elements with a word within a small edit
+ * distance of a query word.
+ * Words are stored in a BK-tree over the Damerau-Levenshtein distance, which counts insertions, deletions,
+ * substitutions and transpositions of adjacent characters. As the distance is a metric, a search only needs to descend
+ * into the subtrees whose distance to their parent is within the maximum distance of the query's distance to that
+ * parent, so only a small part of the tree is visited for small maximum distances. Elements are compared by identity.
+ * <p>
+ * Words are never removed from the tree, only the elements under them, so {@code clear()} should be called when most
+ * of the indexed elements are replaced.
+ *
+ * @param <T> the type of the indexed elements.
+ */
+public class FuzzyWordIndex<T> {
+
+    private final Map<String, Node<T>> nodesByWord = new HashMap<>();
+    private Node<T> root;
+
+    /**
+     * A word in the tree, with the elements that have it and its children keyed by their distance to the word.
+     */
+    private static class Node<T> {
+        private final String word;
+        private final Set<T> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Integer, Node<T>> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+
+    /**
+     * Returns the Damerau-Levenshtein distance between {@code first} and {@code second}.
+     */
+    public static int getDistance(String first, String second) {
+        requireAllNonNull(first, second);
+        int firstLength = first.length();
+        int secondLength = second.length();
+        int maxDistance = firstLength + secondLength;
+
+        // Offset by one row and column of maxDistance, so that transpositions never look before the strings
+        int[][] distances = new int[firstLength + 2][secondLength + 2];
+        distances[0][0] = maxDistance;
+        for (int i = 0; i <= firstLength; i++) {
+            distances[i + 1][0] = maxDistance;
+            distances[i + 1][1] = i;
+        }
+        for (int j = 0; j <= secondLength; j++) {
+            distances[0][j + 1] = maxDistance;
+            distances[1][j + 1] = j;
+        }
+
+        // Last row in which each character of first was seen
+        Map<Character, Integer> lastRows = new HashMap<>();
+        for (int i = 1; i <= firstLength; i++) {
+            int lastMatchingColumn = 0;
+            for (int j = 1; j <= secondLength; j++) {
+                int lastMatchingRow = lastRows.getOrDefault(second.charAt(j - 1), 0);
+                int previousMatchingColumn = lastMatchingColumn;
+                int cost = 1;
+                if (first.charAt(i - 1) == second.charAt(j - 1)) {
+                    cost = 0;
+                    lastMatchingColumn = j;
+                }
+
+                int substitution = distances[i][j] + cost;
+                int insertion = distances[i + 1][j] + 1;
+                int deletion = distances[i][j + 1] + 1;
+                int transposition = distances[lastMatchingRow][previousMatchingColumn]
+                        + (i - lastMatchingRow - 1) + 1 + (j - previousMatchingColumn - 1);
+                distances[i + 1][j + 1] = Math.min(Math.min(substitution, insertion),
+                        Math.min(deletion, transposition));
+            }
+            lastRows.put(first.charAt(i - 1), i);
+        }
+        return distances[firstLength + 1][secondLength + 1];
+    }
+
+    /**
+     * Returns the smallest Damerau-Levenshtein distance between {@code word} and a word of {@code text}, ignoring
+     * case, or {@code Integer.MAX_VALUE} if the text has no words.
+     */
+    public static int getMinDistance(String text, String word) {
+        requireAllNonNull(text, word);
+        String lowerCaseWord = word.toLowerCase();
+        int minDistance = Integer.MAX_VALUE;
+        for (String textWord : getWords(text)) {
+            minDistance = Math.min(minDistance, getDistance(lowerCaseWord, textWord));
+        }
+        return minDistance;
+    }
+
+    /**
+     * Returns the maximum edit distance at which a word is considered a misspelling of {@code word}.
+     * Short words tolerate fewer edits, so that they do not match most other short words.
+     */
+    public static int getTypoTolerance(String word) {
+        requireNonNull(word);
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Indexes {@code element} under the lowercased words of {@code text}.
+     */
+    public void add(T element, String text) {
+        requireAllNonNull(element, text);
+        for (String word : getWords(text)) {
+            Node<T> node = nodesByWord.get(word);
+            if (node == null) {
+                node = insert(word);
+            }
+            node.elements.add(element);
+        }
+    }
+
+    /**
+     * Removes {@code element}, which was indexed with {@code text}, from the index.
+     */
+    public void remove(T element, String text) {
+        requireAllNonNull(element, text);
+        for (String word : getWords(text)) {
+            Node<T> node = nodesByWord.get(word);
+            if (node != null) {
+                node.elements.remove(element);
+            }
+        }
+    }
+
+    /**
+     * Removes all words and elements from the index.
+     */
+    public void clear() {
+        nodesByWord.clear();
+        root = null;
+    }
+
+    /**
+     * Returns the indexed elements with a word within {@code maxDistance} of {@code word}, ignoring case.
+     *
+     * @return A map from each element found to the smallest distance between {@code word} and one of its words.
+     */
+    public Map<T, Integer> search(String word, int maxDistance) {
+        requireNonNull(word);
+        Map<T, Integer> distances = new IdentityHashMap<>();
+        if (root == null) {
+            return distances;
+        }
+
+        String lowerCaseWord = word.toLowerCase();
+        Deque<Node<T>> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node<T> node = nodesToVisit.pop();
+            int distance = getDistance(lowerCaseWord, node.word);
+            if (distance <= maxDistance) {
+                for (T element : node.elements) {
+                    distances.merge(element, distance, Math::min);
+                }
+            }
+
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node<T> child = node.children.get(childDistance);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+        return distances;
+    }
+
+    private Node<T> insert(String word) {
+        Node<T> newNode = new Node<>(word);
+        nodesByWord.put(word, newNode);
+        if (root == null) {
+            root = newNode;
+            return newNode;
+        }
+
+        Node<T> node = root;
+        while (true) {
+            int distance = getDistance(word, node.word);
+            Node<T> child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, newNode);
+                return newNode;
+            }
+            node = child;
+        }
+    }
+
+    private static String[] getWords(String text) {
+        String trimmedText = text.trim().toLowerCase();
+        return trimmedText.isEmpty() ? new String[0] : trimmedText.split("\\s+");
+    }
+
+}
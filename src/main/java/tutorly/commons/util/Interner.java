@@ -0,0 +1,49 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A weak canonicalising cache that maps keys to a single shared instance of an immutable value.
+ * Values are created on first use and stay cached for as long as they are reachable elsewhere. Each value should hold
+ * a strong reference to the key it was created from, such as the string of a value object, so that the entry is not
+ * cleared while the value is still in use.
+ *
+ * @param <K> the type of the keys, which must implement {@code equals} and {@code hashCode}.
+ * @param <V> the type of the interned values.
+ */
+public class Interner<K, V> {
+
+    private final Map<K, WeakReference<V>> cache = new WeakHashMap<>();
+    private final Function<? super K, ? extends V> factory;
+
+    /**
+     * Constructs an interner that creates values from their keys using {@code factory}.
+     */
+    public Interner(Function<? super K, ? extends V> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the shared value for {@code key}, creating it with the factory if there is none.
+     * Exceptions thrown by the factory are propagated and nothing is cached.
+     */
+    public synchronized V intern(K key) {
+        requireNonNull(key);
+        WeakReference<V> reference = cache.get(key);
+        V value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            // Removes any stale entry first, as putting would keep its key instead of the key held by the new value
+            cache.remove(key);
+            cache.put(key, new WeakReference<>(value));
+        }
+        return value;
+    }
+
+}
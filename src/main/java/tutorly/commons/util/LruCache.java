@@ -0,0 +1,105 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * A cache that evicts its least recently used entries once the total weight of its values exceeds a maximum.
+ * The weight of a value should be proportional to the memory it holds, such as the number of elements in a
+ * collection, so that the memory used by the cache is bounded. Values heavier than the maximum are not cached.
+ *
+ * @param <K> the type of the keys, which must implement {@code equals} and {@code hashCode}.
+ * @param <V> the type of the cached values.
+ */
+public class LruCache<K, V> {
+
+    public static final String MESSAGE_CONSTRAINTS = "The maximum weight of a cache must not be negative.";
+
+    // Iterates from the least to the most recently used entry
+    private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private long weight = 0;
+
+    /**
+     * Constructs an empty cache that holds values with a total weight of at most {@code maxWeight}, as given by
+     * {@code weigher}.
+     */
+    public LruCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        requireNonNull(weigher);
+        checkArgument(maxWeight >= 0, MESSAGE_CONSTRAINTS);
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the value cached for {@code key}, marking it as the most recently used.
+     */
+    public Optional<V> get(K key) {
+        requireNonNull(key);
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, replacing any value cached for it, and evicts the least recently used
+     * entries until the total weight is within the maximum.
+     */
+    public void put(K key, V value) {
+        requireAllNonNull(key, value);
+        remove(key);
+
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return;
+        }
+
+        entries.put(key, value);
+        weight += valueWeight;
+        Iterator<V> leastRecentlyUsed = entries.values().iterator();
+        while (weight > maxWeight) {
+            weight -= weigher.applyAsLong(leastRecentlyUsed.next());
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Removes the value cached for {@code key}, if any.
+     */
+    public void remove(K key) {
+        requireNonNull(key);
+        V removed = entries.remove(key);
+        if (removed != null) {
+            weight -= weigher.applyAsLong(removed);
+        }
+    }
+
+    /**
+     * Removes all values from the cache.
+     */
+    public void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Returns the number of cached values.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total weight of the cached values.
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+}
@@ -0,0 +1,163 @@
+package tutorly.commons.util;
+
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the n-grams of the words in a text to the elements the text belongs to.
+ * Words are split on whitespace and lowercased in the same way as {@code StringUtil#containsWordIgnoreCase}, and every
+ * substring of up to {@value #MAX_GRAM_LENGTH} characters of each word is indexed. A keyword that is a substring of
+ * a word must then be indexed itself if it is short, or share all of its trigrams with the word if it is longer, so
+ * the index can rule out most elements without looking at their text. Elements are compared by identity.
+ *
+ * @param <T> the type of the indexed elements.
+ * @see StringUtil#containsWordIgnoreCase(String, String)
+ */
+public class NgramIndex<T> {
+
+    public static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+    private final Set<T> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Indexes {@code element} under the n-grams of the words in {@code text}.
+     */
+    public void add(T element, String text) {
+        requireAllNonNull(element, text);
+        elements.add(element);
+        for (String gram : getTextGrams(text)) {
+            postings.computeIfAbsent(gram, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(element);
+        }
+    }
+
+    /**
+     * Removes {@code element}, which was indexed with {@code text}, from the index.
+     */
+    public void remove(T element, String text) {
+        requireAllNonNull(element, text);
+        if (!elements.remove(element)) {
+            return;
+        }
+
+        for (String gram : getTextGrams(text)) {
+            Set<T> posting = postings.get(gram);
+            if (posting != null && posting.remove(element) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes all elements from the index.
+     */
+    public void clear() {
+        postings.clear();
+        elements.clear();
+    }
+
+    /**
+     * Returns the indexed elements that may have a word containing {@code keyword}, ignoring case.
+     * The result is a superset of the elements that do, and must be verified against the text of each element.
+     */
+    public Set<T> getCandidates(String keyword) {
+        List<String> grams = getQueryGrams(keyword);
+        if (grams.isEmpty()) {
+            return Collections.unmodifiableSet(elements);
+        }
+
+        // Intersects the postings starting from the smallest, so that the result only shrinks from there
+        List<Set<T>> postingsOfGrams = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<T> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            postingsOfGrams.add(posting);
+        }
+        postingsOfGrams.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(postingsOfGrams.get(0));
+        for (int i = 1; i < postingsOfGrams.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingsOfGrams.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the indexed elements that may have a word containing any of {@code keywords}, ignoring case.
+     * The result is a superset of the elements that do, and must be verified against the text of each element.
+     */
+    public Set<T> getCandidatesForAny(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            candidates.addAll(getCandidates(keyword));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns false if {@code element} is indexed and cannot have a word containing {@code keyword}, ignoring case.
+     * Elements that are not indexed are never ruled out.
+     */
+    public boolean mayContain(T element, String keyword) {
+        requireAllNonNull(element, keyword);
+        return !elements.contains(element) || hasAllGrams(element, getQueryGrams(keyword));
+    }
+
+    private boolean hasAllGrams(T element, List<String> grams) {
+        for (String gram : grams) {
+            Set<T> posting = postings.get(gram);
+            if (posting == null || !posting.contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns every distinct n-gram of the lowercased words in {@code text}.
+     */
+    private static Set<String> getTextGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : text.split("\\s+")) {
+            String lowerCaseWord = word.toLowerCase();
+            for (int start = 0; start < lowerCaseWord.length(); start++) {
+                int maxEnd = Math.min(start + MAX_GRAM_LENGTH, lowerCaseWord.length());
+                for (int end = start + 1; end <= maxEnd; end++) {
+                    grams.add(lowerCaseWord.substring(start, end));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the n-grams that a word containing {@code keyword} must have, which is the keyword itself if it is
+     * short, and its trigrams otherwise.
+     */
+    private static List<String> getQueryGrams(String keyword) {
+        String preppedKeyword = keyword.trim().toLowerCase();
+        if (preppedKeyword.length() <= MAX_GRAM_LENGTH) {
+            return preppedKeyword.isEmpty() ? List.of() : List.of(preppedKeyword);
+        }
+
+        List<String> grams = new ArrayList<>(preppedKeyword.length() - MAX_GRAM_LENGTH + 1);
+        for (int start = 0; start + MAX_GRAM_LENGTH <= preppedKeyword.length(); start++) {
+            grams.add(preppedKeyword.substring(start, start + MAX_GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+}
@@ -4,9 +4,7 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 
 /**
  * Utility class for observable lists.
@@ -29,19 +27,17 @@ public class ObservableListUtil {
 
     /**
      * Creates a filtered list that is updated whenever the list or the dependencies change.
+     * Changes to a dependency test every element again, but only the elements that enter or leave the filtered list
+     * are reported to its listeners.
+     *
+     * @see DependentFilteredList
      */
-    public static <T> FilteredList<T> filteredList(ObservableList<T> list, Predicate<T> predicate,
+    public static <T> DependentFilteredList<T> filteredList(ObservableList<T> list, Predicate<T> predicate,
             List<ObservableList<?>> dependencies) {
-        FilteredList<T> filteredList = new FilteredList<>(list, predicate);
-
+        DependentFilteredList<T> filteredList = new DependentFilteredList<>(list, predicate);
         for (ObservableList<?> dependency : dependencies) {
-            dependency.addListener((ListChangeListener<? super Object>) change -> {
-                // Reset the predicate to refilter the list
-                filteredList.setPredicate(t -> false);
-                filteredList.setPredicate(predicate);
-            });
+            filteredList.dependsOn(dependency);
         }
-
         return filteredList;
     }
 
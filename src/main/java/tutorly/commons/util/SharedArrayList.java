@@ -0,0 +1,92 @@
+package tutorly.commons.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An array-backed list that can take snapshots of itself in constant time.
+ * The elements are stored in arrays of at most {@value ChunkedList#DEFAULT_CHUNK_CAPACITY} elements, and a snapshot
+ * shares those arrays with the list, so a modification after a snapshot only copies the arrays it modifies.
+ *
+ * @see ChunkedList
+ */
+public class SharedArrayList<T> extends ChunkedList<T, SharedArrayList.ArrayChunk<T>> {
+
+    /**
+     * Constructs an empty list.
+     */
+    public SharedArrayList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with arrays of at most {@code chunkCapacity} elements.
+     */
+    SharedArrayList(int chunkCapacity) {
+        super(chunkCapacity);
+    }
+
+    @Override
+    protected ArrayChunk<T> newChunk(Object generation) {
+        return new ArrayChunk<>(generation, chunkCapacity);
+    }
+
+    /**
+     * A chunk of elements stored in an array.
+     */
+    protected static class ArrayChunk<T> extends ChunkedList.Chunk<T, ArrayChunk<T>> {
+        private final Object[] elements;
+
+        ArrayChunk(Object generation, int capacity) {
+            super(generation);
+            elements = new Object[capacity];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected T get(int offset) {
+            return (T) elements[offset];
+        }
+
+        @Override
+        protected T set(int offset, T element) {
+            T replaced = get(offset);
+            elements[offset] = element;
+            return replaced;
+        }
+
+        @Override
+        protected void add(int offset, T element) {
+            System.arraycopy(elements, offset, elements, offset + 1, size - offset);
+            elements[offset] = element;
+            size++;
+        }
+
+        @Override
+        protected void removeIndices(BitSet offsets) {
+            int newSize = offsets.nextSetBit(0);
+            for (int i = offsets.nextClearBit(newSize); i < size; i = offsets.nextClearBit(i + 1)) {
+                elements[newSize++] = elements[i];
+            }
+            Arrays.fill(elements, newSize, size, null);
+            size = newSize;
+        }
+
+        @Override
+        protected ArrayChunk<T> copy(ArrayChunk<T> copy) {
+            System.arraycopy(elements, 0, copy.elements, 0, size);
+            copy.size = size;
+            return copy;
+        }
+
+        @Override
+        protected ArrayChunk<T> split(int from, ArrayChunk<T> tail) {
+            System.arraycopy(elements, from, tail.elements, 0, size - from);
+            tail.size = size - from;
+            Arrays.fill(elements, from, size, null);
+            size = from;
+            return tail;
+        }
+    }
+
+}
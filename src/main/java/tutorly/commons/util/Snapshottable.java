@@ -0,0 +1,15 @@
+package tutorly.commons.util;
+
+import java.util.List;
+
+/**
+ * A list that can take immutable snapshots of its current contents.
+ */
+public interface Snapshottable<T> {
+
+    /**
+     * Returns an unmodifiable list of the current elements that is not affected by later modifications.
+     */
+    List<T> snapshot();
+
+}
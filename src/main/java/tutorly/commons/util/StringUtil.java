@@ -2,16 +2,23 @@ package tutorly.commons.util;
 
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     /**
      * Returns true if {@code keyword} is a substring of any word in {@code sentence}.
      *   Ignores case and a partial match within a word is allowed.
@@ -25,18 +32,59 @@ public class StringUtil {
      */
     public static boolean containsWordIgnoreCase(String sentence, String keyword) {
         requireNonNull(sentence);
+        String preppedKeyword = prepareKeyword(keyword);
+
+        String[] wordsInSentence = WHITESPACE.split(sentence);
+
+        return Arrays.stream(wordsInSentence)
+                .anyMatch(w -> w.toLowerCase().contains(preppedKeyword));
+    }
+
+    /**
+     * Returns a predicate that tests if any of {@code keywords} is a substring of any word in a sentence, ignoring
+     * case, as {@code containsWordIgnoreCase} would.
+     * The keywords are validated and lowercased once, shorter keywords are tried first as they are more likely to
+     * match, and each sentence is split only once.
+     *
+     * @param keywords cannot be null, and each keyword is subject to the same conditions as in
+     *                 {@code containsWordIgnoreCase}
+     */
+    public static Predicate<String> containsAnyWordIgnoreCase(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        String[] preppedKeywords = keywords.stream()
+                .map(StringUtil::prepareKeyword)
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length))
+                .toArray(String[]::new);
+        if (preppedKeywords.length == 0) {
+            return sentence -> false;
+        }
+
+        return sentence -> {
+            for (String word : WHITESPACE.split(sentence)) {
+                String lowerCaseWord = word.toLowerCase();
+                for (String preppedKeyword : preppedKeywords) {
+                    if (lowerCaseWord.contains(preppedKeyword)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns {@code keyword} trimmed and lowercased, after checking that it is a single word.
+     */
+    private static String prepareKeyword(String keyword) {
         requireNonNull(keyword);
 
         String preppedKeyword = keyword.trim();
         checkArgument(!preppedKeyword.isEmpty(), "Keyword parameter cannot be empty");
         checkArgument(
-                preppedKeyword.split("\\s+").length == 1,
+                WHITESPACE.split(preppedKeyword).length == 1,
                 "Keyword parameter should be a single word");
-
-        String[] wordsInSentence = sentence.split("\\s+");
-
-        return Arrays.stream(wordsInSentence)
-                .anyMatch(w -> w.toLowerCase().contains(preppedKeyword.toLowerCase()));
+        return preppedKeyword.toLowerCase();
     }
 
     /**
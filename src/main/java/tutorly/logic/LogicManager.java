@@ -19,6 +19,7 @@ import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
+import tutorly.storage.SaveScheduler;
 import tutorly.storage.Storage;
 
 /**
@@ -35,17 +36,26 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final SaveScheduler saveScheduler;
     private final AddressBookParser addressBookParser;
 
     private final Stack<Command> undoStack = new Stack<>();
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that saves the address book
+     * to {@code storage} before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new SaveScheduler(storage, Runnable::run));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, that saves the address book with
+     * {@code saveScheduler} after each command.
+     */
+    public LogicManager(Model model, SaveScheduler saveScheduler) {
         this.model = model;
-        this.storage = storage;
+        this.saveScheduler = saveScheduler;
         addressBookParser = new AddressBookParser();
     }
 
@@ -59,6 +69,39 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(Command command) throws CommandException {
+        // Modifications made by the command are published as one change per list, and undone if the command fails
+        model.beginTransaction();
+        CommandResult commandResult;
+        try {
+            commandResult = executeInTransaction(command);
+        } catch (CommandException | RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        // The modifications are kept once the commit starts, even if a listener notified of them throws
+        model.commitTransaction();
+
+        // Failures to save are reported by the command after the save, if the save is not done before this returns.
+        // The command itself has succeeded by then, so the failure is reported as a warning instead of an error.
+        saveScheduler.schedule(model.getAddressBookSnapshot());
+        try {
+            saveScheduler.checkFailure();
+        } catch (AccessDeniedException e) {
+            logger.warning("Failed to save data: " + e);
+            return new CommandResult.Builder(commandResult)
+                    .withWarning(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()))
+                    .build();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data: " + ioe);
+            return new CommandResult.Builder(commandResult)
+                    .withWarning(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()))
+                    .build();
+        }
+
+        return commandResult;
+    }
+
+    private CommandResult executeInTransaction(Command command) throws CommandException {
         CommandResult commandResult = command.execute(model);
 
         if (commandResult.hasReverseCommand()) {
@@ -71,21 +114,20 @@ public class LogicManager implements Logic {
                 throw new CommandException(UNDO_STACK_EMPTY);
             }
             Command lastCommand = undoStack.pop();
-            CommandResult undoCommandResult = lastCommand.execute(model);
+            CommandResult undoCommandResult;
+            try {
+                undoCommandResult = lastCommand.execute(model);
+            } catch (CommandException | RuntimeException e) {
+                // The command was not undone, so it can still be undone later
+                undoStack.push(lastCommand);
+                throw e;
+            }
 
             commandResult = new CommandResult.Builder(undoCommandResult)
                     .withFeedback(commandResult.getFeedbackToUser() + "\n" + undoCommandResult.getFeedbackToUser())
                     .build();
         }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
-
         return commandResult;
     }
 
@@ -4,6 +4,7 @@ import static tutorly.logic.parser.ParserUtil.DATE_FORMATTER;
 import static tutorly.logic.parser.ParserUtil.TIME_FORMATTER;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -21,6 +22,7 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_PERSON_NOT_FOUND = "Student not found!";
+    public static final String MESSAGE_DID_YOU_MEAN = " Did you mean: %1$s?";
     public static final String MESSAGE_SESSION_NOT_FOUND = "Session not found!";
     public static final String MESSAGE_DUPLICATE_PERSON = "This student already exists.";
     public static final String MESSAGE_SESSION_OVERLAP = "This session overlaps with another session.";
@@ -45,6 +47,21 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns an error message indicating that the student was not found, suggesting the {@code similarPersons} if
+     * there are any.
+     */
+    public static String getPersonNotFoundMessage(List<Person> similarPersons) {
+        if (similarPersons.isEmpty()) {
+            return MESSAGE_PERSON_NOT_FOUND;
+        }
+
+        String suggestions = similarPersons.stream()
+                .map(person -> person.getName() + " (ID: " + person.getId() + ")")
+                .collect(Collectors.joining(", "));
+        return MESSAGE_PERSON_NOT_FOUND + String.format(MESSAGE_DID_YOU_MEAN, suggestions);
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
@@ -4,10 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_TIMESLOT;
 
+import java.util.List;
+
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.session.Session;
 import tutorly.ui.Tab;
 
@@ -34,15 +37,29 @@ public class AddSessionCommand extends SessionCommand {
             + "Use the clear command to reset.";
 
     private final Session toCreate;
+    private final List<AttendanceRecord> attendanceRecords;
 
     /**
-     * Creates a CreateSessionCommand to add the specified {@code Session}.
+     * Creates a CreateSessionCommand to add the specified {@code Session} together with its {@code attendanceRecords}.
+     * This is used to restore a deleted session.
      *
      * @param session The session to be created.
+     * @param attendanceRecords The attendance records of the session.
      */
-    public AddSessionCommand(Session session) {
+    public AddSessionCommand(Session session, List<AttendanceRecord> attendanceRecords) {
         requireNonNull(session);
+        requireNonNull(attendanceRecords);
         toCreate = session;
+        this.attendanceRecords = List.copyOf(attendanceRecords);
+    }
+
+    /**
+     * Creates a CreateSessionCommand to add the specified {@code Session}.
+     *
+     * @param session The session to be created.
+     */
+    public AddSessionCommand(Session session) {
+        this(session, List.of());
     }
 
     @Override
@@ -60,6 +77,7 @@ public class AddSessionCommand extends SessionCommand {
         } catch (IllegalStateException e) {
             throw new CommandException(MESSAGE_LIMIT_REACHED);
         }
+        attendanceRecords.forEach(model::addAttendanceRecord);
 
         model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
         return new CommandResult.Builder(String.format(MESSAGE_SUCCESS, Messages.format(toCreate)))
@@ -78,7 +96,8 @@ public class AddSessionCommand extends SessionCommand {
             return false;
         }
 
-        return toCreate.equals(otherCommand.toCreate);
+        return toCreate.equals(otherCommand.toCreate)
+                && attendanceRecords.equals(otherCommand.attendanceRecords);
     }
 
     @Override
@@ -8,10 +8,13 @@ import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
+
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Person;
 import tutorly.ui.Tab;
@@ -47,13 +50,24 @@ public class AddStudentCommand extends StudentCommand {
             + "Use the clear command to reset.";
 
     private final Person toAdd;
+    private final List<AttendanceRecord> attendanceRecords;
 
     /**
-     * Creates an AddCommand to add the specified {@code Person}
+     * Creates an AddCommand to add the specified {@code Person} together with their {@code attendanceRecords}.
+     * This is used to restore a deleted person.
      */
-    public AddStudentCommand(Person person) {
+    public AddStudentCommand(Person person, List<AttendanceRecord> attendanceRecords) {
         requireNonNull(person);
+        requireNonNull(attendanceRecords);
         toAdd = person;
+        this.attendanceRecords = List.copyOf(attendanceRecords);
+    }
+
+    /**
+     * Creates an AddCommand to add the specified {@code Person}
+     */
+    public AddStudentCommand(Person person) {
+        this(person, List.of());
     }
 
     @Override
@@ -69,6 +83,7 @@ public class AddStudentCommand extends StudentCommand {
         } catch (IllegalStateException e) {
             throw new CommandException(MESSAGE_LIMIT_REACHED);
         }
+        attendanceRecords.forEach(model::addAttendanceRecord);
 
         model.updateFilteredPersonList(Model.FILTER_SHOW_ALL_PERSONS);
         return new CommandResult.Builder(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)))
@@ -88,7 +103,8 @@ public class AddStudentCommand extends StudentCommand {
             return false;
         }
 
-        return toAdd.equals(otherAddCommand.toAdd);
+        return toAdd.equals(otherAddCommand.toAdd)
+                && attendanceRecords.equals(otherAddCommand.attendanceRecords);
     }
 
     @Override
@@ -52,7 +52,7 @@ public class AttendanceUnmarkSessionCommand extends SessionCommand {
 
         Optional<Person> person = model.getPersonByIdentity(identity);
         if (person.isEmpty()) {
-            throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
+            throw new CommandException(Messages.getPersonNotFoundMessage(model.getSimilarPersons(identity)));
         }
 
         Optional<Session> session = model.getSessionById(sessionId);
@@ -40,7 +40,7 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        ReadOnlyAddressBook currentAddressBook = new AddressBook(model.getAddressBook());
+        ReadOnlyAddressBook currentAddressBook = model.getAddressBookSnapshot();
         model.setAddressBook(addressBook.orElseGet(() -> new AddressBook()));
 
         return new CommandResult.Builder(addressBook.isPresent() ? MESSAGE_RESTORE_SUCCESS : MESSAGE_CLEAR_SUCCESS)
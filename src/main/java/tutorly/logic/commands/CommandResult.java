@@ -31,6 +31,9 @@ public class CommandResult {
     /** The command that undoes the effects of this command. */
     private final Optional<Command> reverseCommand;
 
+    /** Warning about a problem that did not stop the command, such as a failure to save the data. */
+    private final Optional<String> warning;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -44,6 +47,7 @@ public class CommandResult {
         this.shouldReverseLast = shouldReverseLast;
         this.tab = Optional.ofNullable(tab);
         this.reverseCommand = Optional.ofNullable(reverseCommand);
+        this.warning = Optional.empty();
     }
 
     /**
@@ -69,6 +73,7 @@ public class CommandResult {
         this.shouldReverseLast = builder.shouldReverseLast;
         this.tab = builder.tab;
         this.reverseCommand = builder.reverseCommand;
+        this.warning = builder.warning;
     }
 
     public String getFeedbackToUser() {
@@ -103,6 +108,14 @@ public class CommandResult {
         return reverseCommand.isPresent();
     }
 
+    public String getWarning() {
+        return warning.get();
+    }
+
+    public boolean hasWarning() {
+        return warning.isPresent();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -120,12 +133,14 @@ public class CommandResult {
                 && shouldExit == otherCommandResult.shouldExit
                 && shouldReverseLast == otherCommandResult.shouldReverseLast
                 && tab.equals(otherCommandResult.tab)
-                && reverseCommand.equals(otherCommandResult.reverseCommand);
+                && reverseCommand.equals(otherCommandResult.reverseCommand)
+                && warning.equals(otherCommandResult.warning);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, shouldShowHelp, shouldExit, shouldReverseLast, tab, reverseCommand);
+        return Objects.hash(feedbackToUser, shouldShowHelp, shouldExit, shouldReverseLast, tab, reverseCommand,
+                warning);
     }
 
     @Override
@@ -137,6 +152,7 @@ public class CommandResult {
                 .add("shouldReverseLast", shouldReverseLast)
                 .add("tab", tab.orElse(null))
                 .add("reverseCommand", reverseCommand.orElse(null))
+                .add("warning", warning.orElse(null))
                 .toString();
     }
 
@@ -150,6 +166,7 @@ public class CommandResult {
         private boolean shouldReverseLast;
         private Optional<Tab> tab;
         private Optional<Command> reverseCommand;
+        private Optional<String> warning;
 
         /**
          * Constructs a {@code CommandResult.Builder} with the specified feedback.
@@ -158,6 +175,7 @@ public class CommandResult {
             this.feedbackToUser = feedbackToUser;
             this.tab = Optional.empty();
             this.reverseCommand = Optional.empty();
+            this.warning = Optional.empty();
         }
 
         /**
@@ -170,6 +188,7 @@ public class CommandResult {
             this.shouldReverseLast = commandResult.shouldReverseLast();
             this.tab = commandResult.tab;
             this.reverseCommand = commandResult.reverseCommand;
+            this.warning = commandResult.warning;
         }
 
         /**
@@ -219,6 +238,14 @@ public class CommandResult {
             return this;
         }
 
+        /**
+         * Sets the warning shown to the user together with the feedback.
+         */
+        public Builder withWarning(String warning) {
+            this.warning = Optional.of(warning);
+            return this;
+        }
+
         /**
          * Sets that help information should be shown to the user.
          */
@@ -2,12 +2,14 @@ package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Optional;
 
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.session.Session;
 import tutorly.ui.Tab;
 
@@ -41,11 +43,12 @@ public class DeleteSessionCommand extends SessionCommand {
             throw new CommandException(Messages.MESSAGE_SESSION_NOT_FOUND);
         }
 
+        List<AttendanceRecord> attendanceRecords = model.getSessionAttendanceRecords(sessionId);
         model.deleteSession(toDelete.get());
         model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
         return new CommandResult.Builder(String.format(MESSAGE_DELETE_SESSION_SUCCESS, Messages.format(toDelete.get())))
                 .withTab(Tab.session())
-                .withReverseCommand(new AddSessionCommand(toDelete.get()))
+                .withReverseCommand(new AddSessionCommand(toDelete.get(), attendanceRecords))
                 .build();
     }
 
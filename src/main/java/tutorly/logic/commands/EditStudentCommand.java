@@ -95,7 +95,7 @@ public class EditStudentCommand extends StudentCommand {
 
         Optional<Person> personToEdit = model.getPersonByIdentity(identity);
         if (personToEdit.isEmpty()) {
-            throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
+            throw new CommandException(Messages.getPersonNotFoundMessage(model.getSimilarPersons(identity)));
         }
 
         Person editedPerson = createEditedPerson(personToEdit.get(), editPersonDescriptor);
@@ -1,26 +1,86 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 import static tutorly.model.Model.FILTER_SHOW_ALL_SESSIONS;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
 import tutorly.model.Model;
+import tutorly.model.session.Session;
+import tutorly.model.sort.SessionSortKey;
+import tutorly.model.sort.SortKey;
+import tutorly.model.sort.SortOrder;
 import tutorly.ui.Tab;
 
 /**
- * Lists all sessions in the address book to the user.
+ * Lists all sessions in the address book to the user, optionally sorted and limited to the first few.
  */
 public class ListSessionCommand extends SessionCommand {
 
     public static final String COMMAND_WORD = "list";
     public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
 
+    public static final String MESSAGE_SORT_KEYS = "Sessions can be sorted by: "
+            + Arrays.stream(SessionSortKey.values()).map(SortKey::getKeyword).collect(Collectors.joining(", "))
+            + ".";
+
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Lists all sessions, sorted by the given key and limited to the first COUNT sessions if given. "
+            + MESSAGE_SORT_KEYS
+            + "\nParameters: "
+            + "[" + PREFIX_SORT + "SORT_KEY] "
+            + "[" + PREFIX_LIMIT + "COUNT]"
+            + "\nExample: " + COMMAND_STRING + " " + PREFIX_SORT + "time " + PREFIX_LIMIT + "10";
+
     public static final String MESSAGE_SUCCESS = "Listed all sessions";
 
+    private final SortOrder<Session> order;
+
+    public ListSessionCommand() {
+        this(SortOrder.none());
+    }
+
+    /**
+     * Creates a ListSessionCommand to list all sessions in the given {@code order}.
+     */
+    public ListSessionCommand(SortOrder<Session> order) {
+        requireNonNull(order);
+        this.order = order;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredSessionList(FILTER_SHOW_ALL_SESSIONS);
-        return new CommandResult.Builder(MESSAGE_SUCCESS).withTab(Tab.session()).build();
+        model.updateFilteredSessionList(FILTER_SHOW_ALL_SESSIONS, order);
+        String message = order.getLimit() == SortOrder.NO_LIMIT
+                ? MESSAGE_SUCCESS
+                : String.format(Messages.MESSAGE_SESSIONS_LISTED_OVERVIEW, model.getFilteredSessionList().size());
+        return new CommandResult.Builder(message).withTab(Tab.session()).build();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListSessionCommand otherListCommand)) {
+            return false;
+        }
+
+        return order.equals(otherListCommand.order);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("order", order)
+                .toString();
     }
 }
@@ -1,26 +1,86 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 import static tutorly.model.Model.FILTER_SHOW_ALL_PERSONS;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
 import tutorly.model.Model;
+import tutorly.model.person.Person;
+import tutorly.model.sort.PersonSortKey;
+import tutorly.model.sort.SortKey;
+import tutorly.model.sort.SortOrder;
 import tutorly.ui.Tab;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, optionally sorted and limited to the first few.
  */
 public class ListStudentCommand extends StudentCommand {
 
     public static final String COMMAND_WORD = "list";
     public static final String COMMAND_STRING = StudentCommand.COMMAND_STRING + " " + COMMAND_WORD;
 
+    public static final String MESSAGE_SORT_KEYS = "Students can be sorted by: "
+            + Arrays.stream(PersonSortKey.values()).map(SortKey::getKeyword).collect(Collectors.joining(", "))
+            + ".";
+
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Lists all students, sorted by the given key and limited to the first COUNT students if given. "
+            + MESSAGE_SORT_KEYS
+            + "\nParameters: "
+            + "[" + PREFIX_SORT + "SORT_KEY] "
+            + "[" + PREFIX_LIMIT + "COUNT]"
+            + "\nExample: " + COMMAND_STRING + " " + PREFIX_SORT + "attendance " + PREFIX_LIMIT + "20";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
+    private final SortOrder<Person> order;
+
+    public ListStudentCommand() {
+        this(SortOrder.none());
+    }
+
+    /**
+     * Creates a ListStudentCommand to list all persons in the given {@code order}.
+     */
+    public ListStudentCommand(SortOrder<Person> order) {
+        requireNonNull(order);
+        this.order = order;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS);
-        return new CommandResult.Builder(MESSAGE_SUCCESS).withTab(Tab.student()).build();
+        model.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS, order);
+        String message = order.getLimit() == SortOrder.NO_LIMIT
+                ? MESSAGE_SUCCESS
+                : String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        return new CommandResult.Builder(message).withTab(Tab.student()).build();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListStudentCommand otherListCommand)) {
+            return false;
+        }
+
+        return order.equals(otherListCommand.order);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("order", order)
+                .toString();
     }
 }
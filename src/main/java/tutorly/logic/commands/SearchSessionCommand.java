@@ -1,18 +1,27 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorly.logic.parser.CliSyntax.PREFIX_DATE;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FROM;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_MONTH;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TO;
+import static tutorly.logic.parser.CliSyntax.PREFIX_WEEK;
 
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.model.Model;
 import tutorly.model.filter.Filter;
 import tutorly.model.session.Session;
+import tutorly.model.sort.SortOrder;
 import tutorly.ui.Tab;
 
 /**
- * Finds and lists all sessions on a particular date or whose subject contains any of the keywords.
+ * Finds and lists all sessions on a particular date or in a range of dates, or whose subject contains any of the
+ * keywords.
  * Keyword matching is case-insensitive.
  */
 public class SearchSessionCommand extends SessionCommand {
@@ -21,23 +30,42 @@ public class SearchSessionCommand extends SessionCommand {
     public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
 
     public static final String MESSAGE_USAGE = COMMAND_STRING
-            + ": Searches for all sessions on a particular date, or "
+            + ": Searches for all sessions on a particular date, within a date range, week or month, or "
             + "whose subject contain any of the specified keywords (case-insensitive) and displays them as a list."
             + "\nParameters: "
             + "[" + PREFIX_DATE + "DATE] "
-            + "[" + PREFIX_SUBJECT + "SUBJECT_KEYWORDS]"
-            + "\nExample: " + COMMAND_STRING + " " + PREFIX_DATE + "18 Mar 2025 " + PREFIX_SUBJECT + "Math Eng";
+            + "[" + PREFIX_FROM + "START_DATE] "
+            + "[" + PREFIX_TO + "END_DATE] "
+            + "[" + PREFIX_WEEK + "DATE_IN_WEEK] "
+            + "[" + PREFIX_MONTH + "MONTH] "
+            + "[" + PREFIX_SUBJECT + "SUBJECT_KEYWORDS] "
+            + "[" + PREFIX_SORT + "SORT_KEY] "
+            + "[" + PREFIX_LIMIT + "COUNT]"
+            + "\nGroups of parameters can be combined with AND, OR, NOT and parentheses. "
+            + ListSessionCommand.MESSAGE_SORT_KEYS
+            + "\nExample: " + COMMAND_STRING + " " + PREFIX_FROM + "18 Mar 2025 " + PREFIX_SUBJECT + "Math Eng "
+            + PREFIX_SORT + "time " + PREFIX_LIMIT + "10";
 
     private final Filter<Session> filter;
+    private final SortOrder<Session> order;
 
     public SearchSessionCommand(Filter<Session> filter) {
+        this(filter, SortOrder.none());
+    }
+
+    /**
+     * Creates a SearchSessionCommand to list the sessions matching {@code filter} in the given {@code order}.
+     */
+    public SearchSessionCommand(Filter<Session> filter, SortOrder<Session> order) {
+        requireAllNonNull(filter, order);
         this.filter = filter;
+        this.order = order;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredSessionList(filter);
+        model.updateFilteredSessionList(filter, order);
         return new CommandResult.Builder(
                 String.format(Messages.MESSAGE_SESSIONS_LISTED_OVERVIEW, model.getFilteredSessionList().size()))
                 .withTab(Tab.session())
@@ -55,13 +83,14 @@ public class SearchSessionCommand extends SessionCommand {
             return false;
         }
 
-        return filter.equals(otherSearchCommand.filter);
+        return filter.equals(otherSearchCommand.filter) && order.equals(otherSearchCommand.order);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("filter", filter)
+                .add("order", order)
                 .toString();
     }
 }
@@ -1,20 +1,30 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ABSENT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ALL_SESSIONS;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ALL_TAGS;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ATTENDANCE_BELOW;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TAG;
 
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.model.Model;
 import tutorly.model.filter.Filter;
 import tutorly.model.person.Person;
+import tutorly.model.sort.SortOrder;
 import tutorly.ui.Tab;
 
 /**
- * Finds and lists all persons in address book whose fields contains any of the argument keywords, or attends the
- * session with the session id.
+ * Finds and lists all persons in address book whose fields contains any of the argument keywords, or whose attendance
+ * matches any of the given session criteria.
  * Keyword matching is case-insensitive.
  */
 public class SearchStudentCommand extends StudentCommand {
@@ -23,25 +33,48 @@ public class SearchStudentCommand extends StudentCommand {
     public static final String COMMAND_STRING = StudentCommand.COMMAND_STRING + " " + COMMAND_WORD;
 
     public static final String MESSAGE_USAGE = COMMAND_STRING
-            + ": Searches for all students who attended a session or "
-            + "whose fields contain any of the specified keywords (case-insensitive) and displays them as a list."
+            + ": Searches for all students who attended any of the given sessions, attended all of the given "
+            + "sessions, were absent from a session, have an attendance rate below a percentage, have any or all of "
+            + "the given tags (case-insensitive), or "
+            + "whose fields contain any of the specified keywords (case-insensitive) and displays them as a list. "
+            + "Names searched with " + PREFIX_FUZZY_NAME + " may be misspelt, and the closest matches are listed first."
             + "\nParameters: "
-            + "[" + PREFIX_SESSION + "SESSION_ID] "
+            + "[" + PREFIX_SESSION + "SESSION_ID...] "
+            + "[" + PREFIX_ALL_SESSIONS + "SESSION_ID...] "
+            + "[" + PREFIX_ABSENT + "SESSION_ID] "
+            + "[" + PREFIX_ATTENDANCE_BELOW + "PERCENTAGE] "
             + "[" + PREFIX_NAME + "NAME_KEYWORDS] "
-            + "[" + PREFIX_PHONE + "PHONE_KEYWORDS]"
+            + "[" + PREFIX_FUZZY_NAME + "NAME_KEYWORDS] "
+            + "[" + PREFIX_PHONE + "PHONE_KEYWORDS] "
+            + "[" + PREFIX_TAG + "TAG...] "
+            + "[" + PREFIX_ALL_TAGS + "TAG...] "
+            + "[" + PREFIX_SORT + "SORT_KEY] "
+            + "[" + PREFIX_LIMIT + "COUNT]"
+            + "\nGroups of parameters can be combined with AND, OR, NOT and parentheses. "
+            + ListStudentCommand.MESSAGE_SORT_KEYS
             + "\nExample: " + COMMAND_STRING + " " + PREFIX_SESSION + "1 " + PREFIX_NAME + "ali bob charli "
-            + PREFIX_PHONE + "9124 86192";
+            + PREFIX_PHONE + "9124 86192 " + PREFIX_SORT + "attendance " + PREFIX_LIMIT + "20";
 
     private final Filter<Person> filter;
+    private final SortOrder<Person> order;
 
     public SearchStudentCommand(Filter<Person> filter) {
+        this(filter, SortOrder.none());
+    }
+
+    /**
+     * Creates a SearchStudentCommand to list the persons matching {@code filter} in the given {@code order}.
+     */
+    public SearchStudentCommand(Filter<Person> filter, SortOrder<Person> order) {
+        requireAllNonNull(filter, order);
         this.filter = filter;
+        this.order = order;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(filter);
+        model.updateFilteredPersonList(filter, order);
         return new CommandResult.Builder(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()))
                 .withTab(Tab.student())
@@ -59,13 +92,14 @@ public class SearchStudentCommand extends StudentCommand {
             return false;
         }
 
-        return filter.equals(otherSearchCommand.filter);
+        return filter.equals(otherSearchCommand.filter) && order.equals(otherSearchCommand.order);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("filter", filter)
+                .add("order", order)
                 .toString();
     }
 }
@@ -19,4 +19,25 @@ public class CliSyntax {
     public static final Prefix PREFIX_SUBJECT = new Prefix("sub/");
     public static final Prefix PREFIX_SESSION = new Prefix("ses/");
     public static final Prefix PREFIX_FEEDBACK = new Prefix("f/");
+
+    /* Prefix definitions for session date searches */
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_WEEK = new Prefix("week/");
+    public static final Prefix PREFIX_MONTH = new Prefix("month/");
+
+    /* Prefix definitions for attendance searches */
+    public static final Prefix PREFIX_ALL_SESSIONS = new Prefix("sesall/");
+    public static final Prefix PREFIX_ABSENT = new Prefix("abs/");
+    public static final Prefix PREFIX_ATTENDANCE_BELOW = new Prefix("att/");
+
+    /* Prefix definitions for tag searches */
+    public static final Prefix PREFIX_ALL_TAGS = new Prefix("tagall/");
+
+    /* Prefix definitions for typo-tolerant searches */
+    public static final Prefix PREFIX_FUZZY_NAME = new Prefix("fn/");
+
+    /* Prefix definitions for sorting and limiting lists */
+    public static final Prefix PREFIX_SORT = new Prefix("sort/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("limit/");
 }
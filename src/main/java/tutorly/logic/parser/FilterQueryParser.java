@@ -0,0 +1,154 @@
+package tutorly.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.Filter;
+
+/**
+ * Parses a search query that combines groups of search criteria with the operators {@code AND}, {@code OR} and
+ * {@code NOT}, and with parentheses.
+ * Operators must be written in upper case. {@code NOT} binds the tightest and {@code OR} the loosest, so
+ * {@code NOT a AND b OR c} is read as {@code ((NOT a) AND b) OR c}. Each group of criteria between operators is parsed
+ * by the search command's own parser, so the criteria within a group still match if any of them does.
+ *
+ * @param <T> the type of the elements being searched.
+ */
+public class FilterQueryParser<T> {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+    public static final String OPEN_GROUP = "(";
+    public static final String CLOSE_GROUP = ")";
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid search query! Search criteria must be joined by "
+            + OPERATOR_AND + ", " + OPERATOR_OR + " or " + OPERATOR_NOT + ", and every " + OPEN_GROUP
+            + " must be closed by a " + CLOSE_GROUP + ".";
+
+    private static final Set<String> SYMBOLS = Set.of(OPERATOR_AND, OPERATOR_OR, OPERATOR_NOT, OPEN_GROUP,
+            CLOSE_GROUP);
+
+    private final List<String> tokens;
+    private final CriteriaParser<T> criteriaParser;
+    private int position = 0;
+
+    /**
+     * Parses a group of search criteria into a filter.
+     */
+    @FunctionalInterface
+    public interface CriteriaParser<T> {
+        Filter<T> parse(String criteria) throws ParseException;
+    }
+
+    private FilterQueryParser(List<String> tokens, CriteriaParser<T> criteriaParser) {
+        this.tokens = tokens;
+        this.criteriaParser = criteriaParser;
+    }
+
+    /**
+     * Parses {@code args} into a filter, using {@code criteriaParser} to parse each group of search criteria.
+     * Arguments without any operators or parentheses are passed to {@code criteriaParser} as they are.
+     *
+     * @throws ParseException if the query is malformed, or a group of criteria cannot be parsed.
+     */
+    public static <T> Filter<T> parse(String args, CriteriaParser<T> criteriaParser) throws ParseException {
+        List<String> tokens = tokenize(args);
+        if (tokens.stream().noneMatch(SYMBOLS::contains)) {
+            return criteriaParser.parse(args);
+        }
+
+        FilterQueryParser<T> parser = new FilterQueryParser<>(tokens, criteriaParser);
+        Filter<T> filter = parser.parseOr();
+        if (parser.position < tokens.size()) {
+            throw new ParseException(MESSAGE_INVALID_QUERY);
+        }
+        return filter;
+    }
+
+    /**
+     * Splits {@code args} into operators, parentheses and groups of criteria. Each group of criteria is returned with
+     * a leading space, so that its first prefix can be recognised by {@code ArgumentTokenizer}.
+     */
+    private static List<String> tokenize(String args) {
+        String[] words = args.replace(OPEN_GROUP, " " + OPEN_GROUP + " ")
+                .replace(CLOSE_GROUP, " " + CLOSE_GROUP + " ")
+                .trim()
+                .split("\\s+");
+
+        List<String> tokens = new ArrayList<>();
+        StringBuilder criteria = new StringBuilder();
+        for (String word : words) {
+            if (word.isEmpty()) {
+                continue;
+            }
+
+            if (SYMBOLS.contains(word)) {
+                if (!criteria.isEmpty()) {
+                    tokens.add(criteria.toString());
+                    criteria.setLength(0);
+                }
+                tokens.add(word);
+            } else {
+                criteria.append(' ').append(word);
+            }
+        }
+        if (!criteria.isEmpty()) {
+            tokens.add(criteria.toString());
+        }
+        return tokens;
+    }
+
+    private Filter<T> parseOr() throws ParseException {
+        List<Filter<T>> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (consume(OPERATOR_OR)) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : Filter.any(operands);
+    }
+
+    private Filter<T> parseAnd() throws ParseException {
+        List<Filter<T>> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (consume(OPERATOR_AND)) {
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : Filter.all(operands);
+    }
+
+    private Filter<T> parseNot() throws ParseException {
+        if (consume(OPERATOR_NOT)) {
+            return Filter.not(parseNot());
+        }
+
+        if (consume(OPEN_GROUP)) {
+            Filter<T> filter = parseOr();
+            if (!consume(CLOSE_GROUP)) {
+                throw new ParseException(MESSAGE_INVALID_QUERY);
+            }
+            return filter;
+        }
+
+        if (position >= tokens.size() || SYMBOLS.contains(tokens.get(position))) {
+            throw new ParseException(MESSAGE_INVALID_QUERY);
+        }
+        return criteriaParser.parse(tokens.get(position++));
+    }
+
+    /**
+     * Advances past the next token if it is {@code symbol}.
+     *
+     * @return True if the next token was {@code symbol}.
+     */
+    private boolean consume(String symbol) {
+        if (position < tokens.size() && tokens.get(position).equals(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,27 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
+
+import java.util.List;
+
+import tutorly.logic.commands.ListStudentCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.sort.PersonSortKey;
+
+/**
+ * Parses input arguments and creates a new ListStudentCommand object
+ */
+public class ListStudentCommandParser implements Parser<ListStudentCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListStudentCommand
+     * and returns a ListStudentCommand object for execution.
+     * @throws ParseException if the sort key or limit does not conform the expected format
+     */
+    public ListStudentCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT, PREFIX_LIMIT);
+        return new ListStudentCommand(ParserUtil.parseSortOrder(argMultimap, List.of(PersonSortKey.values())));
+    }
+
+}
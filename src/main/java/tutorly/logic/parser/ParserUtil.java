@@ -1,18 +1,26 @@
 package tutorly.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import tutorly.commons.util.StringUtil;
 import tutorly.logic.parser.exceptions.ParseException;
@@ -26,6 +34,8 @@ import tutorly.model.person.Phone;
 import tutorly.model.session.Session;
 import tutorly.model.session.Subject;
 import tutorly.model.session.Timeslot;
+import tutorly.model.sort.SortKey;
+import tutorly.model.sort.SortOrder;
 import tutorly.model.tag.Tag;
 
 /**
@@ -41,11 +51,22 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_TIMESLOT_FORMAT = "Invalid timeslot or incorrect timeslot format. "
             + "Please ensure it follows the format 'dd MMM yyyy HH:mm-HH:mm' or 'dd MMM yyyy HH:mm-dd MMM yyyy HH:mm' "
             + "(e.g. '25 Dec 2025 10:00-25 Dec 2025 12:00'), and the date and time provided is valid.";
+    public static final String MESSAGE_INVALID_MONTH_FORMAT = "Invalid month or incorrect month format. "
+            + "Please ensure it follows the format 'MMM yyyy' (e.g. 'Dec 2025').";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date must not be after the end date.";
+    public static final String MESSAGE_INVALID_PERCENTAGE = "Percentage should be a whole number from 0 to 100.";
+    public static final String MESSAGE_INVALID_SORT_KEY = "Sort key should be one of: %1$s.";
+    public static final String MESSAGE_INVALID_LIMIT = "Limit should be a positive whole number.";
     public static final DateTimeFormatter DATE_FORMATTER = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .appendPattern("d MMM uuuu")
             .toFormatter(Locale.ENGLISH)
             .withResolverStyle(ResolverStyle.STRICT);
+    public static final DateTimeFormatter MONTH_FORMATTER = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendPattern("MMM uuuu")
+            .toFormatter(Locale.ENGLISH)
+            .withResolverStyle(ResolverStyle.STRICT);
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("H:mm")
             .withResolverStyle(ResolverStyle.STRICT);
 
@@ -89,6 +110,35 @@ public class ParserUtil {
         return Integer.parseInt(trimmedId);
     }
 
+    /**
+     * Parses {@code String ids} of whitespace-separated session IDs into a list of {@code int}s.
+     *
+     * @throws ParseException if any of the specified ids is invalid (not non-zero unsigned integer).
+     */
+    public static List<Integer> parseSessionIds(String ids) throws ParseException {
+        requireNonNull(ids);
+        List<Integer> sessionIds = new ArrayList<>();
+        for (String id : ids.trim().split("\\s+")) {
+            sessionIds.add(parseSessionId(id));
+        }
+        return sessionIds;
+    }
+
+    /**
+     * Parses {@code String percentage} into an {@code int} from 0 to 100 and returns it. Leading and trailing
+     * whitespaces will be trimmed.
+     *
+     * @throws ParseException if the specified percentage is not a whole number from 0 to 100.
+     */
+    public static int parsePercentage(String percentage) throws ParseException {
+        requireNonNull(percentage);
+        String trimmedPercentage = percentage.trim();
+        if (!trimmedPercentage.matches("\\d{1,3}") || Integer.parseInt(trimmedPercentage) > 100) {
+            throw new ParseException(MESSAGE_INVALID_PERCENTAGE);
+        }
+        return Integer.parseInt(trimmedPercentage);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -163,7 +213,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -210,6 +260,21 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String month} into a {@code YearMonth}.
+     * The month format must be MMM yyyy.
+     *
+     * @throws ParseException if the given {@code month} is invalid.
+     */
+    public static YearMonth parseMonth(String month) throws ParseException {
+        requireNonNull(month);
+        try {
+            return YearMonth.parse(month.trim(), MONTH_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_MONTH_FORMAT);
+        }
+    }
+
     /**
      * Parses a {@code String timeslot} into a {@code Timeslot}.
      * The timeslot format must be d MMM yyyy H:mm-H:mm or d MMM yyyy H:mm-d MMM yyyy H:mm.
@@ -287,7 +352,7 @@ public class ParserUtil {
         if (!Subject.isValidSubject(trimmedSubject)) {
             throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(trimmedSubject);
+        return Subject.of(trimmedSubject);
     }
 
     /**
@@ -304,4 +369,64 @@ public class ParserUtil {
         }
         return new Feedback(trimmedFeedback);
     }
+
+    /**
+     * Parses {@code String key} into the sort key in {@code sortKeys} with that keyword, ignoring case. Leading and
+     * trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if no sort key in {@code sortKeys} has the given keyword.
+     */
+    public static <T> SortKey<T> parseSortKey(String key, List<? extends SortKey<T>> sortKeys)
+            throws ParseException {
+        requireAllNonNull(key, sortKeys);
+        String trimmedKey = key.trim();
+        for (SortKey<T> sortKey : sortKeys) {
+            if (sortKey.getKeyword().equalsIgnoreCase(trimmedKey)) {
+                return sortKey;
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_SORT_KEY,
+                sortKeys.stream().map(SortKey::getKeyword).collect(Collectors.joining(", "))));
+    }
+
+    /**
+     * Parses {@code String limit} into a positive {@code int} and returns it. Leading and trailing whitespaces will be
+     * trimmed. Limits too large to be an {@code int} do not limit the list.
+     *
+     * @throws ParseException if the specified limit is not a positive whole number.
+     */
+    public static int parseLimit(String limit) throws ParseException {
+        requireNonNull(limit);
+        String trimmedLimit = limit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+        if (!StringUtil.isParsableNonZeroUnsignedInteger(trimmedLimit)) {
+            return SortOrder.NO_LIMIT;
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
+    /**
+     * Parses the values of {@code PREFIX_SORT} and {@code PREFIX_LIMIT} in {@code argMultimap} into a
+     * {@code SortOrder}, with the sort key being one of {@code sortKeys}.
+     *
+     * @throws ParseException if either prefix is repeated, or its value is invalid.
+     */
+    public static <T> SortOrder<T> parseSortOrder(ArgumentMultimap argMultimap, List<? extends SortKey<T>> sortKeys)
+            throws ParseException {
+        requireAllNonNull(argMultimap, sortKeys);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SORT, PREFIX_LIMIT);
+
+        Optional<SortKey<T>> sortKey = Optional.empty();
+        if (argMultimap.getValue(PREFIX_SORT).isPresent()) {
+            sortKey = Optional.of(parseSortKey(argMultimap.getValue(PREFIX_SORT).get(), sortKeys));
+        }
+
+        int limit = SortOrder.NO_LIMIT;
+        if (argMultimap.getValue(PREFIX_LIMIT).isPresent()) {
+            limit = parseLimit(argMultimap.getValue(PREFIX_LIMIT).get());
+        }
+        return new SortOrder<>(sortKey, limit);
+    }
 }
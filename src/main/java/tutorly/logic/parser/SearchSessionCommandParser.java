@@ -2,13 +2,20 @@ package tutorly.logic.parser;
 
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_DATE;
-import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
-import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
-import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FROM;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_MONTH;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TO;
+import static tutorly.logic.parser.CliSyntax.PREFIX_WEEK;
+import static tutorly.logic.parser.ParserUtil.MESSAGE_INVALID_DATE_RANGE;
 import static tutorly.logic.parser.ParserUtil.parseDate;
+import static tutorly.logic.parser.ParserUtil.parseMonth;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -16,10 +23,13 @@ import java.util.Optional;
 
 import tutorly.logic.commands.SearchSessionCommand;
 import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.DateRangeSessionFilter;
 import tutorly.model.filter.DateSessionFilter;
 import tutorly.model.filter.Filter;
 import tutorly.model.filter.SubjectContainsKeywordsFilter;
 import tutorly.model.session.Session;
+import tutorly.model.sort.SessionSortKey;
+import tutorly.model.sort.SortOrder;
 
 /**
  * Parses input arguments and creates a new SearchSessionCommand object
@@ -31,15 +41,33 @@ public class SearchSessionCommandParser implements Parser<SearchSessionCommand>
      * @throws ParseException if the user input does not conform the expected format
      */
     public SearchSessionCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_SUBJECT);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION, PREFIX_NAME, PREFIX_PHONE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT, PREFIX_LIMIT);
+        SortOrder<Session> order = ParserUtil.parseSortOrder(argMultimap, List.of(SessionSortKey.values()));
+
+        // The sort key and limit follow the search query, which is left as it is if neither is given
+        boolean isSorted = argMultimap.getValue(PREFIX_SORT).isPresent()
+                || argMultimap.getValue(PREFIX_LIMIT).isPresent();
+        String query = isSorted ? " " + argMultimap.getPreamble() : args;
+        Filter<Session> filter = FilterQueryParser.parse(query, SearchSessionCommandParser::parseCriteria);
+        return new SearchSessionCommand(filter, order);
+    }
+
+    /**
+     * Parses a group of search criteria, which match if any of them does, into a filter.
+     * @throws ParseException if the criteria do not conform the expected format
+     */
+    private static Filter<Session> parseCriteria(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_FROM, PREFIX_TO,
+                PREFIX_WEEK, PREFIX_MONTH, PREFIX_SUBJECT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_FROM, PREFIX_TO, PREFIX_WEEK, PREFIX_MONTH,
+                PREFIX_SUBJECT);
 
         if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchSessionCommand.MESSAGE_USAGE));
         }
 
-        return new SearchSessionCommand(initFilter(argMultimap));
+        return initFilter(argMultimap);
     }
 
     /**
@@ -54,6 +82,29 @@ public class SearchSessionCommandParser implements Parser<SearchSessionCommand>
             filters.add(new DateSessionFilter(date));
         }
 
+        Optional<String> fromQuery = argMultimap.getValue(PREFIX_FROM).filter(query -> !query.isBlank());
+        Optional<String> toQuery = argMultimap.getValue(PREFIX_TO).filter(query -> !query.isBlank());
+        if (fromQuery.isPresent() || toQuery.isPresent()) {
+            LocalDate from = fromQuery.isPresent() ? parseDate(fromQuery.get()) : LocalDate.MIN;
+            LocalDate to = toQuery.isPresent() ? parseDate(toQuery.get()) : LocalDate.MAX;
+            if (from.isAfter(to)) {
+                throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+            }
+            filters.add(new DateRangeSessionFilter(from, to));
+        }
+
+        Optional<String> weekQuery = argMultimap.getValue(PREFIX_WEEK);
+        if (weekQuery.isPresent() && !weekQuery.get().isBlank()) {
+            LocalDate monday = parseDate(weekQuery.get()).with(DayOfWeek.MONDAY);
+            filters.add(new DateRangeSessionFilter(monday, monday.plusDays(6)));
+        }
+
+        Optional<String> monthQuery = argMultimap.getValue(PREFIX_MONTH);
+        if (monthQuery.isPresent() && !monthQuery.get().isBlank()) {
+            YearMonth month = parseMonth(monthQuery.get());
+            filters.add(new DateRangeSessionFilter(month.atDay(1), month.atEndOfMonth()));
+        }
+
         Optional<String> subjectQuery = argMultimap.getValue(PREFIX_SUBJECT);
         if (subjectQuery.isPresent() && !subjectQuery.get().isBlank()) {
             String[] subjectKeywords = subjectQuery.get().trim().split("\\s+");
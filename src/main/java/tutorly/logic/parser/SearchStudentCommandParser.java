@@ -1,10 +1,20 @@
 package tutorly.logic.parser;
 
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ABSENT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ALL_SESSIONS;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ALL_TAGS;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ATTENDANCE_BELOW;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TAG;
+import static tutorly.logic.parser.ParserUtil.parsePercentage;
 import static tutorly.logic.parser.ParserUtil.parseSessionId;
+import static tutorly.logic.parser.ParserUtil.parseSessionIds;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -13,11 +23,19 @@ import java.util.Optional;
 
 import tutorly.logic.commands.SearchStudentCommand;
 import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.AbsentSessionFilter;
+import tutorly.model.filter.AttendAllSessionsFilter;
 import tutorly.model.filter.AttendSessionFilter;
+import tutorly.model.filter.AttendanceBelowFilter;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.FuzzyNameFilter;
+import tutorly.model.filter.HasAllTagsFilter;
+import tutorly.model.filter.HasTagFilter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
 import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.person.Person;
+import tutorly.model.sort.PersonSortKey;
+import tutorly.model.sort.SortOrder;
 
 /**
  * Parses input arguments and creates a new SearchCommand object
@@ -30,15 +48,34 @@ public class SearchStudentCommandParser implements Parser<SearchStudentCommand>
      * @throws ParseException if the user input does not conform the expected format
      */
     public SearchStudentCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION, PREFIX_NAME, PREFIX_PHONE);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION, PREFIX_NAME, PREFIX_PHONE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT, PREFIX_LIMIT);
+        SortOrder<Person> order = ParserUtil.parseSortOrder(argMultimap, List.of(PersonSortKey.values()));
+
+        // The sort key and limit follow the search query, which is left as it is if neither is given
+        boolean isSorted = argMultimap.getValue(PREFIX_SORT).isPresent()
+                || argMultimap.getValue(PREFIX_LIMIT).isPresent();
+        String query = isSorted ? " " + argMultimap.getPreamble() : args;
+        Filter<Person> filter = FilterQueryParser.parse(query, SearchStudentCommandParser::parseCriteria);
+        return new SearchStudentCommand(filter, order);
+    }
+
+    /**
+     * Parses a group of search criteria, which match if any of them does, into a filter.
+     * @throws ParseException if the criteria do not conform the expected format
+     */
+    private static Filter<Person> parseCriteria(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION, PREFIX_ALL_SESSIONS,
+                PREFIX_ABSENT, PREFIX_ATTENDANCE_BELOW, PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_PHONE, PREFIX_TAG,
+                PREFIX_ALL_TAGS);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION, PREFIX_ALL_SESSIONS, PREFIX_ABSENT,
+                PREFIX_ATTENDANCE_BELOW, PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_PHONE, PREFIX_TAG, PREFIX_ALL_TAGS);
 
         if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchStudentCommand.MESSAGE_USAGE));
         }
 
-        return new SearchStudentCommand(initFilter(argMultimap));
+        return initFilter(argMultimap);
     }
 
     /**
@@ -49,8 +86,24 @@ public class SearchStudentCommandParser implements Parser<SearchStudentCommand>
 
         Optional<String> sessionIdQuery = argMultimap.getValue(PREFIX_SESSION);
         if (sessionIdQuery.isPresent() && !sessionIdQuery.get().isBlank()) {
-            int sessionId = parseSessionId(sessionIdQuery.get());
-            filters.add(new AttendSessionFilter(sessionId));
+            for (int sessionId : parseSessionIds(sessionIdQuery.get())) {
+                filters.add(new AttendSessionFilter(sessionId));
+            }
+        }
+
+        Optional<String> allSessionIdsQuery = argMultimap.getValue(PREFIX_ALL_SESSIONS);
+        if (allSessionIdsQuery.isPresent() && !allSessionIdsQuery.get().isBlank()) {
+            filters.add(new AttendAllSessionsFilter(parseSessionIds(allSessionIdsQuery.get())));
+        }
+
+        Optional<String> absentSessionIdQuery = argMultimap.getValue(PREFIX_ABSENT);
+        if (absentSessionIdQuery.isPresent() && !absentSessionIdQuery.get().isBlank()) {
+            filters.add(new AbsentSessionFilter(parseSessionId(absentSessionIdQuery.get())));
+        }
+
+        Optional<String> attendanceBelowQuery = argMultimap.getValue(PREFIX_ATTENDANCE_BELOW);
+        if (attendanceBelowQuery.isPresent() && !attendanceBelowQuery.get().isBlank()) {
+            filters.add(new AttendanceBelowFilter(parsePercentage(attendanceBelowQuery.get())));
         }
 
         Optional<String> nameQuery = argMultimap.getValue(PREFIX_NAME);
@@ -59,12 +112,30 @@ public class SearchStudentCommandParser implements Parser<SearchStudentCommand>
             filters.add(new NameContainsKeywordsFilter(Arrays.asList(nameKeywords)));
         }
 
+        Optional<String> fuzzyNameQuery = argMultimap.getValue(PREFIX_FUZZY_NAME);
+        if (fuzzyNameQuery.isPresent() && !fuzzyNameQuery.get().isBlank()) {
+            String[] fuzzyNameKeywords = fuzzyNameQuery.get().trim().split("\\s+");
+            filters.add(new FuzzyNameFilter(Arrays.asList(fuzzyNameKeywords)));
+        }
+
         Optional<String> phoneQuery = argMultimap.getValue(PREFIX_PHONE);
         if (phoneQuery.isPresent() && !phoneQuery.get().isBlank()) {
             String[] phoneKeywords = phoneQuery.get().trim().split("\\s+");
             filters.add(new PhoneContainsKeywordsFilter(Arrays.asList(phoneKeywords)));
         }
 
+        Optional<String> tagQuery = argMultimap.getValue(PREFIX_TAG);
+        if (tagQuery.isPresent() && !tagQuery.get().isBlank()) {
+            String[] tagNames = tagQuery.get().trim().split("\\s+");
+            filters.add(new HasTagFilter(Arrays.asList(tagNames)));
+        }
+
+        Optional<String> allTagsQuery = argMultimap.getValue(PREFIX_ALL_TAGS);
+        if (allTagsQuery.isPresent() && !allTagsQuery.get().isBlank()) {
+            String[] tagNames = allTagsQuery.get().trim().split("\\s+");
+            filters.add(new HasAllTagsFilter(Arrays.asList(tagNames)));
+        }
+
         return Filter.any(filters);
     }
 }
@@ -31,7 +31,7 @@ public class SessionCommandParser extends AddressBookParser {
             return new ViewSessionCommandParser().parse(args);
 
         case ListSessionCommand.COMMAND_WORD:
-            return new ListSessionCommand();
+            return new ListSessionCommandParser().parse(args);
 
         case AddSessionCommand.COMMAND_WORD:
             return new AddSessionCommandParser().parse(args);
@@ -26,7 +26,7 @@ public class StudentCommandParser extends AddressBookParser {
             return new ViewStudentCommandParser().parse(args);
 
         case ListStudentCommand.COMMAND_WORD:
-            return new ListStudentCommand();
+            return new ListStudentCommandParser().parse(args);
 
         case AddStudentCommand.COMMAND_WORD:
             return new AddStudentCommandParser().parse(args);
@@ -1,27 +1,45 @@
 package tutorly.model;
 
 import static java.util.Objects.requireNonNull;
-
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.AttendanceRecordKey;
 import tutorly.model.attendancerecord.UniqueAttendanceRecordList;
 import tutorly.model.person.Name;
 import tutorly.model.person.Person;
 import tutorly.model.person.UniquePersonList;
 import tutorly.model.session.Session;
 import tutorly.model.session.UniqueSessionList;
+import tutorly.model.uniquelist.UniqueList;
 
 /**
  * Wraps all data at the address-book level.
  * Duplicates are not allowed.
+ * Modifications can be grouped into a transaction, which reports them to listeners as a single change per list and
+ * can be rolled back.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    public static final String MESSAGE_TRANSACTION_IN_PROGRESS = "A transaction is already in progress.";
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction in progress.";
+
     private final UniquePersonList persons;
     private final UniqueSessionList sessions;
     private final UniqueAttendanceRecordList attendanceRecords;
@@ -29,6 +47,16 @@ public class AddressBook implements ReadOnlyAddressBook {
     private int nextPersonId;
     private int nextSessionId;
 
+    // Actions that undo the modifications of the current transaction, most recent first
+    private Deque<Runnable> rollbackLog;
+
+    // The changes up to the latest recorded version, and the keys of the elements modified since then
+    private AddressBookChanges changes;
+    private boolean isReset = true;
+    private final Set<Integer> modifiedPersonIds = new HashSet<>();
+    private final Set<Integer> modifiedSessionIds = new HashSet<>();
+    private final Set<AttendanceRecordKey> modifiedRecordKeys = new HashSet<>();
+
     /**
      * Creates an AddressBook.
      */
@@ -57,6 +85,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+
+        // The copy has the same contents, so later changes can be collected from the changes of the original
+        toBeCopied.getChanges().ifPresent(originalChanges -> {
+            changes = originalChanges;
+            isReset = false;
+        });
     }
 
     //// list overwrite operations
@@ -66,6 +100,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        logSetAll(this.persons);
+        recordReset();
         this.persons.setAll(persons);
     }
 
@@ -74,6 +110,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code sessions} must not contain duplicate sessions.
      */
     public void setSessions(List<Session> sessions) {
+        logSetAll(this.sessions);
+        recordReset();
         this.sessions.setAll(sessions);
     }
 
@@ -81,6 +119,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Replaces the contents of the attendance records list with {@code attendanceRecords}.
      */
     public void setAttendanceRecords(List<AttendanceRecord> attendanceRecords) {
+        logSetAll(this.attendanceRecords);
+        recordReset();
         this.attendanceRecords.setAll(attendanceRecords);
     }
 
@@ -94,8 +134,32 @@ public class AddressBook implements ReadOnlyAddressBook {
         setSessions(newData.getSessionList());
         setAttendanceRecords(newData.getAttendanceRecordsList());
 
+        int previousNextPersonId = nextPersonId;
+        int previousNextSessionId = nextSessionId;
         nextPersonId = newData.getNextPersonId();
         nextSessionId = newData.getNextSessionId();
+        logRollback(() -> {
+            nextPersonId = previousNextPersonId;
+            nextSessionId = previousNextSessionId;
+        });
+    }
+
+    /**
+     * Sets the next person and session IDs, which must not be less than the current ones, so that they stay greater
+     * than the IDs of the persons and sessions in the address book.
+     */
+    public void setNextIds(int nextPersonId, int nextSessionId) {
+        checkArgument(nextPersonId >= this.nextPersonId && nextSessionId >= this.nextSessionId,
+                "Next IDs cannot be less than the current next IDs");
+
+        int previousNextPersonId = this.nextPersonId;
+        int previousNextSessionId = this.nextSessionId;
+        this.nextPersonId = nextPersonId;
+        this.nextSessionId = nextSessionId;
+        logRollback(() -> {
+            this.nextPersonId = previousNextPersonId;
+            this.nextSessionId = previousNextSessionId;
+        });
     }
 
     //// person-level operations
@@ -113,7 +177,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        if (p.getId() == 0) {
+        int previousNextPersonId = nextPersonId;
+        boolean isIdAssigned = p.getId() == 0;
+        if (isIdAssigned) {
             // Set the student ID of the person if it has not been set
             if (nextPersonId >= Integer.MAX_VALUE) {
                 throw new IllegalStateException();
@@ -124,12 +190,22 @@ public class AddressBook implements ReadOnlyAddressBook {
             nextPersonId = p.getId() + 1;
         }
 
+        logRollback(() -> {
+            nextPersonId = previousNextPersonId;
+            if (isIdAssigned) {
+                p.clearId();
+            }
+        });
+
         persons.add(p);
+        recordPersonModified(p.getId());
+        logRollback(() -> persons.remove(p));
     }
 
     /**
      * Returns the person with the given ID if it exists in the persons address book.
      */
+    @Override
     public Optional<Person> getPersonById(int id) {
         return persons.getPersonById(id);
     }
@@ -149,14 +225,24 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.set(target, editedPerson);
+        recordPersonModified(target.getId());
+        recordPersonModified(editedPerson.getId());
+        logRollback(() -> persons.set(editedPerson, target));
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} and its attendance records from this {@code AddressBook}.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        List<AttendanceRecord> removedRecords = attendanceRecords.removeByStudentId(key.getId());
+        recordPersonModified(key.getId());
+        removedRecords.forEach(this::recordAttendanceRecordModified);
+        logRollback(() -> {
+            persons.add(key);
+            removedRecords.forEach(attendanceRecords::add);
+        });
     }
 
     //// session-level operations
@@ -177,12 +263,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return sessions.hasOverlappingSession(toCheck);
     }
 
+    /**
+     * Returns the sessions in the address book that overlap with the range from {@code start} to {@code end},
+     * ordered by their start time.
+     */
+    public List<Session> getSessionsInRange(LocalDateTime start, LocalDateTime end) {
+        return sessions.getSessionsInRange(start, end);
+    }
+
     /**
      * Adds a session to the address book.
      * The session must not already exist in the address book.
      */
     public void addSession(Session s) {
-        if (s.getId() == 0) {
+        int previousNextSessionId = nextSessionId;
+        boolean isIdAssigned = s.getId() == 0;
+        if (isIdAssigned) {
             // Set the session ID of the session if it has not been set
             if (nextSessionId >= Integer.MAX_VALUE) {
                 throw new IllegalStateException();
@@ -193,7 +289,16 @@ public class AddressBook implements ReadOnlyAddressBook {
             nextSessionId = s.getId() + 1;
         }
 
+        logRollback(() -> {
+            nextSessionId = previousNextSessionId;
+            if (isIdAssigned) {
+                s.clearId();
+            }
+        });
+
         sessions.add(s);
+        recordSessionModified(s.getId());
+        logRollback(() -> sessions.remove(s));
     }
 
     /**
@@ -211,14 +316,24 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setSession(Session target, Session editedSession) {
         requireNonNull(editedSession);
         sessions.set(target, editedSession);
+        recordSessionModified(target.getId());
+        recordSessionModified(editedSession.getId());
+        logRollback(() -> sessions.set(editedSession, target));
     }
 
     /**
-     * Removes {@code session} from this {@code AddressBook}.
+     * Removes {@code session} and its attendance records from this {@code AddressBook}.
      * {@code session} must exist in the address book.
      */
     public void removeSession(Session session) {
         sessions.remove(session);
+        List<AttendanceRecord> removedRecords = attendanceRecords.removeBySessionId(session.getId());
+        recordSessionModified(session.getId());
+        removedRecords.forEach(this::recordAttendanceRecordModified);
+        logRollback(() -> {
+            sessions.add(session);
+            removedRecords.forEach(attendanceRecords::add);
+        });
     }
 
     //// attendance record-level operations
@@ -244,6 +359,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addAttendanceRecord(AttendanceRecord attendanceRecord) {
         attendanceRecords.add(attendanceRecord);
+        recordAttendanceRecordModified(attendanceRecord);
+        logRollback(() -> attendanceRecords.remove(attendanceRecord));
     }
 
     /**
@@ -254,6 +371,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedAttendanceRecord);
 
         attendanceRecords.set(target, editedAttendanceRecord);
+        recordAttendanceRecordModified(target);
+        recordAttendanceRecordModified(editedAttendanceRecord);
+        logRollback(() -> attendanceRecords.set(editedAttendanceRecord, target));
     }
 
     /**
@@ -262,10 +382,239 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeAttendanceRecord(AttendanceRecord key) {
         attendanceRecords.remove(key);
+        recordAttendanceRecordModified(key);
+        logRollback(() -> attendanceRecords.add(key));
+    }
+
+    //// transaction operations
+
+    /**
+     * Starts a transaction. Modifications made until the transaction is committed or rolled back are reported to
+     * listeners as a single change per list.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    public void beginTransaction() {
+        if (isInTransaction()) {
+            throw new IllegalStateException(MESSAGE_TRANSACTION_IN_PROGRESS);
+        }
+
+        rollbackLog = new ArrayDeque<>();
+        beginBatches();
+    }
+
+    /**
+     * Ends the current transaction, keeping its modifications and notifying listeners of them.
+     * The transaction is ended even if a listener throws, and can no longer be rolled back.
+     *
+     * @throws IllegalStateException if there is no transaction in progress.
+     */
+    public void commitTransaction() {
+        requireTransaction();
+        rollbackLog = null;
+        endBatches();
+    }
+
+    /**
+     * Ends the current transaction, undoing its modifications.
+     *
+     * @throws IllegalStateException if there is no transaction in progress.
+     */
+    public void rollbackTransaction() {
+        requireTransaction();
+
+        // Undo actions are run outside the transaction so that they are not logged themselves
+        Deque<Runnable> log = rollbackLog;
+        rollbackLog = null;
+        try {
+            log.forEach(Runnable::run);
+        } finally {
+            endBatches();
+        }
+    }
+
+    /**
+     * Notifies listeners of the modifications made so far in the current transaction, so that views recomputed from
+     * the lists now are not sent those modifications again when the transaction ends. Later modifications are still
+     * grouped, and are rolled back together with the earlier ones. Does nothing if there is no transaction in progress.
+     */
+    public void publishChanges() {
+        if (!isInTransaction()) {
+            return;
+        }
+
+        try {
+            endBatches();
+        } finally {
+            beginBatches();
+        }
+    }
+
+    /**
+     * Returns true if a transaction is in progress.
+     */
+    public boolean isInTransaction() {
+        return rollbackLog != null;
+    }
+
+    private void requireTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException(MESSAGE_NO_TRANSACTION);
+        }
+    }
+
+    private void logRollback(Runnable undo) {
+        if (isInTransaction()) {
+            rollbackLog.push(undo);
+        }
+    }
+
+    private <T> void logSetAll(UniqueList<T> list) {
+        if (isInTransaction()) {
+            List<T> previous = list.snapshot();
+            rollbackLog.push(() -> list.setAll(previous));
+        }
+    }
+
+    private void beginBatches() {
+        persons.beginBatch();
+        sessions.beginBatch();
+        attendanceRecords.beginBatch();
+    }
+
+    /**
+     * Ends the batch of every list, even if a listener of an earlier list throws.
+     */
+    private void endBatches() {
+        try {
+            persons.endBatch();
+        } finally {
+            try {
+                sessions.endBatch();
+            } finally {
+                attendanceRecords.endBatch();
+            }
+        }
+    }
+
+    //// change recording
+
+    /**
+     * Returns the changes from the previously recorded version of this address book to its current version, which
+     * are linked to the changes recorded before them. Modifications that were rolled back are recorded with the
+     * values they were rolled back to.
+     */
+    @Override
+    public Optional<AddressBookChanges> getChanges() {
+        return Optional.of(recordChanges());
+    }
+
+    private AddressBookChanges recordChanges() {
+        boolean isModified = isReset || !modifiedPersonIds.isEmpty() || !modifiedSessionIds.isEmpty()
+                || !modifiedRecordKeys.isEmpty();
+        if (changes != null && !isModified && changes.getNextPersonId() == nextPersonId
+                && changes.getNextSessionId() == nextSessionId) {
+            return changes;
+        }
+
+        // Elements are looked up only now, so that each is recorded once with its latest value
+        Map<Integer, Person> changedPersons = new HashMap<>();
+        Set<Integer> removedPersonIds = new HashSet<>();
+        modifiedPersonIds.forEach(id -> persons.getPersonById(id).ifPresentOrElse(
+                person -> changedPersons.put(id, person), () -> removedPersonIds.add(id)));
+        Map<Integer, Session> changedSessions = new HashMap<>();
+        Set<Integer> removedSessionIds = new HashSet<>();
+        modifiedSessionIds.forEach(id -> sessions.getSessionById(id).ifPresentOrElse(
+                session -> changedSessions.put(id, session), () -> removedSessionIds.add(id)));
+        Map<AttendanceRecordKey, AttendanceRecord> changedRecords = new HashMap<>();
+        Set<AttendanceRecordKey> removedRecordKeys = new HashSet<>();
+        modifiedRecordKeys.forEach(key -> attendanceRecords.find(key).ifPresentOrElse(
+                record -> changedRecords.put(key, record), () -> removedRecordKeys.add(key)));
+
+        AddressBookChanges newChanges = new AddressBookChanges(isReset, changedPersons, removedPersonIds,
+                changedSessions, removedSessionIds, changedRecords, removedRecordKeys, nextPersonId, nextSessionId);
+        if (changes != null) {
+            // Fails if another copy of the same version was modified first, so later changes cannot be collected
+            // from the changes before them
+            changes.link(newChanges);
+        }
+        changes = newChanges;
+        isReset = false;
+        modifiedPersonIds.clear();
+        modifiedSessionIds.clear();
+        modifiedRecordKeys.clear();
+        return changes;
+    }
+
+    private void recordReset() {
+        isReset = true;
+        modifiedPersonIds.clear();
+        modifiedSessionIds.clear();
+        modifiedRecordKeys.clear();
+    }
+
+    private void recordPersonModified(int id) {
+        if (!isReset) {
+            modifiedPersonIds.add(id);
+        }
+    }
+
+    private void recordSessionModified(int id) {
+        if (!isReset) {
+            modifiedSessionIds.add(id);
+        }
+    }
+
+    private void recordAttendanceRecordModified(AttendanceRecord record) {
+        if (!isReset) {
+            modifiedRecordKeys.add(AttendanceRecordKey.of(record));
+        }
     }
 
     //// util methods
 
+    /**
+     * Returns an immutable snapshot of this {@code AddressBook} in constant time.
+     * The snapshot shares storage with this address book until it is next modified.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), sessions.snapshot(), attendanceRecords.snapshot(),
+                nextPersonId, nextSessionId, recordChanges());
+    }
+
+    /**
+     * Returns the version of this address book, which increases with every modification of its persons, sessions or
+     * attendance records, including those that are rolled back. Data derived from an address book can be reused for
+     * as long as its version is unchanged.
+     */
+    public long getVersion() {
+        return persons.getVersion() + sessions.getVersion() + attendanceRecords.getVersion();
+    }
+
+    /**
+     * Returns the version of the given lists of this address book, which increases with every modification of those
+     * lists only. Data derived from those lists alone can be reused for as long as this version is unchanged.
+     */
+    public long getVersion(Collection<AddressBookList> lists) {
+        long version = 0;
+        for (AddressBookList list : lists) {
+            version += getList(list).getVersion();
+        }
+        return version;
+    }
+
+    private UniqueList<?> getList(AddressBookList list) {
+        switch (list) {
+        case PERSONS:
+            return persons;
+        case SESSIONS:
+            return sessions;
+        case ATTENDANCE_RECORDS:
+        default:
+            return attendanceRecords;
+        }
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -290,6 +639,51 @@ public class AddressBook implements ReadOnlyAddressBook {
         return attendanceRecords.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<AttendanceRecord> getSessionAttendanceRecords(int sessionId) {
+        return attendanceRecords.getRecordsBySessionId(sessionId);
+    }
+
+    @Override
+    public List<AttendanceRecord> getStudentAttendanceRecords(int studentId) {
+        return attendanceRecords.getRecordsByStudentId(studentId);
+    }
+
+    @Override
+    public Optional<Set<Person>> getNameKeywordsCandidates(List<String> keywords) {
+        return Optional.of(persons.getNameKeywordsCandidates(keywords));
+    }
+
+    @Override
+    public Optional<Set<Person>> getPhoneKeywordsCandidates(List<String> keywords) {
+        return Optional.of(persons.getPhoneKeywordsCandidates(keywords));
+    }
+
+    @Override
+    public Optional<Set<Session>> getSubjectKeywordsCandidates(List<String> keywords) {
+        return Optional.of(sessions.getSubjectKeywordsCandidates(keywords));
+    }
+
+    @Override
+    public Map<Person, Integer> getPersonsWithNameNear(String word) {
+        return persons.getPersonsWithNameNear(word);
+    }
+
+    @Override
+    public BitSet getPersonIdsWithAnyTag(Collection<String> tagNames) {
+        return persons.getPersonIdsWithAnyTag(tagNames);
+    }
+
+    @Override
+    public BitSet getPersonIdsWithAllTags(Collection<String> tagNames) {
+        return persons.getPersonIdsWithAllTags(tagNames);
+    }
+
+    @Override
+    public List<Session> getSessionsOnDates(LocalDate from, LocalDate to) {
+        return sessions.getSessionsOnDates(from, to);
+    }
+
     @Override
     public int getNextPersonId() {
         return nextPersonId;
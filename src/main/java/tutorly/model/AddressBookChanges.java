@@ -0,0 +1,195 @@
+package tutorly.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.AttendanceRecordKey;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+
+/**
+ * The persons, sessions and attendance records changed in an {@code AddressBook} between two of its versions, and its
+ * next IDs in the later version. Each changed element is recorded with its value in the later version, or by its key
+ * if it was removed. The lists may instead have been replaced as a whole, in which case the changed elements are not
+ * recorded.
+ * <p>
+ * Changes are linked to the changes recorded next in the same address book, so the changes since any earlier version
+ * can be collected without comparing the two versions.
+ *
+ * @see AddressBook#getChanges()
+ */
+public class AddressBookChanges {
+
+    private final boolean isReset;
+    private final Map<Integer, Person> persons;
+    private final Set<Integer> removedPersonIds;
+    private final Map<Integer, Session> sessions;
+    private final Set<Integer> removedSessionIds;
+    private final Map<AttendanceRecordKey, AttendanceRecord> attendanceRecords;
+    private final Set<AttendanceRecordKey> removedAttendanceRecordKeys;
+    private final int nextPersonId;
+    private final int nextSessionId;
+
+    // The changes recorded next, which may be linked from another thread than the one collecting changes
+    private final AtomicReference<AddressBookChanges> next = new AtomicReference<>();
+
+    /**
+     * Creates changes with the given changed and removed elements.
+     */
+    AddressBookChanges(boolean isReset, Map<Integer, Person> persons, Set<Integer> removedPersonIds,
+            Map<Integer, Session> sessions, Set<Integer> removedSessionIds,
+            Map<AttendanceRecordKey, AttendanceRecord> attendanceRecords,
+            Set<AttendanceRecordKey> removedAttendanceRecordKeys, int nextPersonId, int nextSessionId) {
+        this.isReset = isReset;
+        this.persons = persons;
+        this.removedPersonIds = removedPersonIds;
+        this.sessions = sessions;
+        this.removedSessionIds = removedSessionIds;
+        this.attendanceRecords = attendanceRecords;
+        this.removedAttendanceRecordKeys = removedAttendanceRecordKeys;
+        this.nextPersonId = nextPersonId;
+        this.nextSessionId = nextSessionId;
+    }
+
+    /**
+     * Returns true if the lists were replaced as a whole, so the changed elements are not recorded.
+     */
+    public boolean isReset() {
+        return isReset;
+    }
+
+    /**
+     * Returns true if no element was changed or removed and the lists were not replaced.
+     * The next IDs may still have changed.
+     */
+    public boolean isEmpty() {
+        return !isReset && persons.isEmpty() && removedPersonIds.isEmpty() && sessions.isEmpty()
+                && removedSessionIds.isEmpty() && attendanceRecords.isEmpty() && removedAttendanceRecordKeys.isEmpty();
+    }
+
+    /**
+     * Returns the added or edited persons by ID.
+     */
+    public Map<Integer, Person> getPersons() {
+        return Collections.unmodifiableMap(persons);
+    }
+
+    public Set<Integer> getRemovedPersonIds() {
+        return Collections.unmodifiableSet(removedPersonIds);
+    }
+
+    /**
+     * Returns the added or edited sessions by ID.
+     */
+    public Map<Integer, Session> getSessions() {
+        return Collections.unmodifiableMap(sessions);
+    }
+
+    public Set<Integer> getRemovedSessionIds() {
+        return Collections.unmodifiableSet(removedSessionIds);
+    }
+
+    /**
+     * Returns the added or edited attendance records by key.
+     */
+    public Map<AttendanceRecordKey, AttendanceRecord> getAttendanceRecords() {
+        return Collections.unmodifiableMap(attendanceRecords);
+    }
+
+    public Set<AttendanceRecordKey> getRemovedAttendanceRecordKeys() {
+        return Collections.unmodifiableSet(removedAttendanceRecordKeys);
+    }
+
+    public int getNextPersonId() {
+        return nextPersonId;
+    }
+
+    public int getNextSessionId() {
+        return nextSessionId;
+    }
+
+    /**
+     * Returns the changes from the version of {@code earlier} to the version of these changes, or
+     * {@code Optional.empty()} if these changes were not recorded after {@code earlier} in the same address book.
+     * Only the changes recorded in between are visited.
+     */
+    public Optional<AddressBookChanges> getChangesSince(AddressBookChanges earlier) {
+        requireNonNull(earlier);
+        boolean isMergedReset = false;
+        Map<Integer, Person> mergedPersons = new LinkedHashMap<>();
+        Set<Integer> mergedRemovedPersonIds = new LinkedHashSet<>();
+        Map<Integer, Session> mergedSessions = new LinkedHashMap<>();
+        Set<Integer> mergedRemovedSessionIds = new LinkedHashSet<>();
+        Map<AttendanceRecordKey, AttendanceRecord> mergedRecords = new LinkedHashMap<>();
+        Set<AttendanceRecordKey> mergedRemovedRecordKeys = new LinkedHashSet<>();
+
+        for (AddressBookChanges changes = earlier; changes != this; ) {
+            changes = changes.next.get();
+            if (changes == null) {
+                return Optional.empty();
+            }
+
+            isMergedReset |= changes.isReset;
+            merge(mergedPersons, mergedRemovedPersonIds, changes.persons, changes.removedPersonIds);
+            merge(mergedSessions, mergedRemovedSessionIds, changes.sessions, changes.removedSessionIds);
+            merge(mergedRecords, mergedRemovedRecordKeys, changes.attendanceRecords,
+                    changes.removedAttendanceRecordKeys);
+        }
+
+        if (isMergedReset) {
+            return Optional.of(new AddressBookChanges(true, Map.of(), Set.of(), Map.of(), Set.of(), Map.of(), Set.of(),
+                    nextPersonId, nextSessionId));
+        }
+        return Optional.of(new AddressBookChanges(false, mergedPersons, mergedRemovedPersonIds, mergedSessions,
+                mergedRemovedSessionIds, mergedRecords, mergedRemovedRecordKeys, nextPersonId, nextSessionId));
+    }
+
+    /**
+     * Applies the later changes {@code changed} and {@code removed} on top of {@code mergedChanged} and
+     * {@code mergedRemoved}.
+     */
+    private static <K, V> void merge(Map<K, V> mergedChanged, Set<K> mergedRemoved, Map<K, V> changed,
+            Set<K> removed) {
+        changed.forEach((key, value) -> {
+            mergedRemoved.remove(key);
+            mergedChanged.put(key, value);
+        });
+        removed.forEach(key -> {
+            mergedChanged.remove(key);
+            mergedRemoved.add(key);
+        });
+    }
+
+    /**
+     * Links {@code next} as the changes recorded after these changes.
+     * Returns false if other changes were already linked, as when two address books are copied from the same
+     * version, in which case {@code next} cannot be collected from these changes.
+     */
+    boolean link(AddressBookChanges next) {
+        requireNonNull(next);
+        return this.next.compareAndSet(null, next);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isReset", isReset)
+                .add("persons", persons.keySet())
+                .add("removedPersonIds", removedPersonIds)
+                .add("sessions", sessions.keySet())
+                .add("removedSessionIds", removedSessionIds)
+                .add("attendanceRecords", attendanceRecords.keySet())
+                .add("removedAttendanceRecordKeys", removedAttendanceRecordKeys)
+                .toString();
+    }
+
+}
@@ -0,0 +1,10 @@
+package tutorly.model;
+
+/**
+ * Represents the lists of an address book, which are modified independently of each other.
+ */
+public enum AddressBookList {
+    PERSONS,
+    SESSIONS,
+    ATTENDANCE_RECORDS
+}
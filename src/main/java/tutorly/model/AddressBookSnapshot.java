@@ -0,0 +1,158 @@
+package tutorly.model;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tutorly.commons.util.FuzzyWordIndex;
+import tutorly.commons.util.ObservableListUtil;
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.person.Person;
+import tutorly.model.person.UniquePersonList;
+import tutorly.model.session.Session;
+
+/**
+ * An immutable snapshot of an {@code AddressBook}.
+ * The snapshot shares storage with the address book it was taken from until that address book is next modified, so
+ * taking a snapshot takes constant time.
+ * As a snapshot has no indexes, its queries scan its lists instead.
+ *
+ * @see AddressBook#snapshot()
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Session> sessions;
+    private final ObservableList<AttendanceRecord> attendanceRecords;
+    private final int nextPersonId;
+    private final int nextSessionId;
+    private final AddressBookChanges changes;
+
+    /**
+     * Creates a snapshot from unmodifiable lists that will not change.
+     * {@code changes} are the changes up to the version of the snapshot, or null if they are not recorded.
+     */
+    AddressBookSnapshot(List<Person> persons, List<Session> sessions, List<AttendanceRecord> attendanceRecords,
+            int nextPersonId, int nextSessionId, AddressBookChanges changes) {
+        this.persons = ObservableListUtil.unmodifiableList(FXCollections.observableList(persons));
+        this.sessions = ObservableListUtil.unmodifiableList(FXCollections.observableList(sessions));
+        this.attendanceRecords = ObservableListUtil.unmodifiableList(FXCollections.observableList(attendanceRecords));
+        this.nextPersonId = nextPersonId;
+        this.nextSessionId = nextSessionId;
+        this.changes = changes;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Session> getSessionList() {
+        return sessions;
+    }
+
+    @Override
+    public ObservableList<AttendanceRecord> getAttendanceRecordsList() {
+        return attendanceRecords;
+    }
+
+    @Override
+    public List<AttendanceRecord> getSessionAttendanceRecords(int sessionId) {
+        return attendanceRecords.stream().filter(record -> record.getSessionId() == sessionId).toList();
+    }
+
+    @Override
+    public List<AttendanceRecord> getStudentAttendanceRecords(int studentId) {
+        return attendanceRecords.stream().filter(record -> record.getStudentId() == studentId).toList();
+    }
+
+    @Override
+    public int getNextPersonId() {
+        return nextPersonId;
+    }
+
+    @Override
+    public int getNextSessionId() {
+        return nextSessionId;
+    }
+
+    @Override
+    public Optional<AddressBookChanges> getChanges() {
+        return Optional.ofNullable(changes);
+    }
+
+    @Override
+    public Optional<Person> getPersonById(int id) {
+        return persons.stream().filter(person -> person.getId() == id).findFirst();
+    }
+
+    @Override
+    public BitSet getPersonIdsWithAnyTag(Collection<String> tagNames) {
+        Set<String> tagKeys = getTagKeys(tagNames);
+        BitSet personIds = new BitSet();
+        for (Person person : persons) {
+            if (person.getId() > 0 && person.getTags().stream()
+                    .anyMatch(tag -> tagKeys.contains(UniquePersonList.getTagKey(tag.tagName)))) {
+                personIds.set(person.getId());
+            }
+        }
+        return personIds;
+    }
+
+    @Override
+    public BitSet getPersonIdsWithAllTags(Collection<String> tagNames) {
+        Set<String> tagKeys = getTagKeys(tagNames);
+        BitSet personIds = new BitSet();
+        if (tagKeys.isEmpty()) {
+            return personIds;
+        }
+        for (Person person : persons) {
+            if (person.getId() > 0 && getTagKeys(person.getTags().stream().map(tag -> tag.tagName).toList())
+                    .containsAll(tagKeys)) {
+                personIds.set(person.getId());
+            }
+        }
+        return personIds;
+    }
+
+    private static Set<String> getTagKeys(Collection<String> tagNames) {
+        return tagNames.stream().map(UniquePersonList::getTagKey).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<Person, Integer> getPersonsWithNameNear(String word) {
+        int maxDistance = FuzzyWordIndex.getTypoTolerance(word);
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        for (Person person : persons) {
+            int distance = FuzzyWordIndex.getMinDistance(person.getName().fullName, word);
+            if (distance <= maxDistance) {
+                distances.put(person, distance);
+            }
+        }
+        return distances;
+    }
+
+    @Override
+    public List<Session> getSessionsOnDates(LocalDate from, LocalDate to) {
+        return sessions.stream().filter(session -> session.getTimeslot().overlapsDates(from, to)).toList();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("sessions", sessions)
+                .add("attendanceRecords", attendanceRecords)
+                .toString();
+    }
+}
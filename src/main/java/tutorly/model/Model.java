@@ -1,6 +1,7 @@
 package tutorly.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
@@ -11,6 +12,7 @@ import tutorly.model.person.Identity;
 import tutorly.model.person.Name;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
+import tutorly.model.sort.SortOrder;
 
 /**
  * The API of the Model component.
@@ -61,18 +63,39 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook, which is not affected by later modifications.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Starts a transaction on the address book. Modifications made until the transaction is committed or rolled back
+     * are reported to listeners as a single change per list.
+     */
+    void beginTransaction();
+
+    /**
+     * Commits the current transaction on the address book.
+     */
+    void commitTransaction();
+
+    /**
+     * Rolls back the current transaction on the address book, undoing its modifications.
+     */
+    void rollbackTransaction();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
     /**
-     * Deletes the given person.
+     * Deletes the given person and their attendance records.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
@@ -105,6 +128,12 @@ public interface Model {
      */
     Optional<Person> getPersonByIdentity(Identity identity);
 
+    /**
+     * Returns the persons with names similar to the name of the given identity, from the most to the least similar.
+     * Returns an empty list if the identity is an ID.
+     */
+    List<Person> getSimilarPersons(Identity identity);
+
     /**
      * Returns an unmodifiable view of the person list
      */
@@ -130,6 +159,16 @@ public interface Model {
      */
     ObservableList<AttendanceRecord> getAttendanceRecordList();
 
+    /**
+     * Returns the attendance records of the session with the given ID.
+     */
+    List<AttendanceRecord> getSessionAttendanceRecords(int sessionId);
+
+    /**
+     * Returns the attendance records of the student with the given ID.
+     */
+    List<AttendanceRecord> getStudentAttendanceRecords(int studentId);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code filter}.
      *
@@ -137,6 +176,13 @@ public interface Model {
      */
     void updateFilteredPersonList(Filter<Person> filter);
 
+    /**
+     * Updates the filtered person list to show the persons matching {@code filter} in the given {@code order}.
+     *
+     * @throws NullPointerException if {@code filter} or {@code order} is null.
+     */
+    void updateFilteredPersonList(Filter<Person> filter, SortOrder<Person> order);
+
     /**
      * Updates the filter of the filtered session list to filter by the given {@code filter}.
      *
@@ -144,6 +190,13 @@ public interface Model {
      */
     void updateFilteredSessionList(Filter<Session> filter);
 
+    /**
+     * Updates the filtered session list to show the sessions matching {@code filter} in the given {@code order}.
+     *
+     * @throws NullPointerException if {@code filter} or {@code order} is null.
+     */
+    void updateFilteredSessionList(Filter<Session> filter, SortOrder<Session> order);
+
     /**
      * Returns true if a session with the same identity as {@code session} exists in the address book.
      */
@@ -161,7 +214,7 @@ public interface Model {
     void addSession(Session toCreate);
 
     /**
-     * Deletes the given session.
+     * Deletes the given session and its attendance records.
      * {@code session} must already exist in the address book.
      */
     void deleteSession(Session target);
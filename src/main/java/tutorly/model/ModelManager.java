@@ -4,30 +4,52 @@ import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import tutorly.commons.core.GuiSettings;
 import tutorly.commons.core.LogsCenter;
+import tutorly.commons.util.CollectionUtil;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.FuzzyNameFilter;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Name;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
+import tutorly.model.sort.SortOrder;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    public static final int MAX_SIMILAR_PERSONS = 3;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Session> filteredSessions;
+    private final SortedList<Person> sortedPersons;
+    private final SortedList<Session> sortedSessions;
+    private final View<Person> personView;
+    private final View<Session> sessionView;
+
+    // Whether a transaction is being committed or rolled back, while some lists may not have reported their changes
+    private boolean isEndingTransaction;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,6 +63,18 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredSessions = new FilteredList<>(this.addressBook.getSessionList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        sortedSessions = new SortedList<>(filteredSessions);
+        personView = new View<>(this.addressBook.getPersonList(), filteredPersons, sortedPersons,
+                FILTER_SHOW_ALL_PERSONS, AddressBookList.PERSONS, Person::getId);
+        sessionView = new View<>(this.addressBook.getSessionList(), filteredSessions, sortedSessions,
+                FILTER_SHOW_ALL_SESSIONS, AddressBookList.SESSIONS, Session::getId);
+
+        // Registered after the filtered lists, so that they have handled a change before the views are recomputed
+        ListChangeListener<Object> refresher = change -> refreshFilteredLists();
+        this.addressBook.getPersonList().addListener(refresher);
+        this.addressBook.getSessionList().addListener(refresher);
+        this.addressBook.getAttendanceRecordsList().addListener(refresher);
     }
 
     public ModelManager() {
@@ -89,11 +123,43 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void beginTransaction() {
+        addressBook.beginTransaction();
+    }
+
+    @Override
+    public void commitTransaction() {
+        isEndingTransaction = true;
+        try {
+            addressBook.commitTransaction();
+        } finally {
+            isEndingTransaction = false;
+        }
+        refreshFilteredLists();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        isEndingTransaction = true;
+        try {
+            addressBook.rollbackTransaction();
+        } finally {
+            isEndingTransaction = false;
+        }
+        refreshFilteredLists();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -138,6 +204,25 @@ public class ModelManager implements Model {
         return Optional.empty();
     }
 
+    /**
+     * {@inheritDoc}
+     * Persons are ranked by the score of the words in the name against the words of their names, and then by ID.
+     */
+    @Override
+    public List<Person> getSimilarPersons(Identity identity) {
+        requireNonNull(identity);
+        if (identity.isIdPresent() || !identity.isNamePresent()) {
+            return List.of();
+        }
+
+        List<String> words = List.of(identity.getName().fullName.trim().split("\\s+"));
+        Map<Person, Integer> scores = FuzzyNameFilter.getScores(addressBook, words);
+        return scores.keySet().stream()
+                .sorted(Comparator.<Person>comparingInt(scores::get).reversed().thenComparingInt(Person::getId))
+                .limit(MAX_SIMILAR_PERSONS)
+                .toList();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     @Override
@@ -147,7 +232,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
@@ -157,7 +242,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Session> getFilteredSessionList() {
-        return filteredSessions;
+        return sortedSessions;
     }
 
     @Override
@@ -165,16 +250,161 @@ public class ModelManager implements Model {
         return addressBook.getAttendanceRecordsList();
     }
 
+    @Override
+    public List<AttendanceRecord> getSessionAttendanceRecords(int sessionId) {
+        return addressBook.getSessionAttendanceRecords(sessionId);
+    }
+
+    @Override
+    public List<AttendanceRecord> getStudentAttendanceRecords(int studentId) {
+        return addressBook.getStudentAttendanceRecords(studentId);
+    }
+
     @Override
     public void updateFilteredPersonList(Filter<Person> filter) {
-        requireNonNull(filter);
-        filteredPersons.setPredicate(filter.toPredicate(getAddressBook()));
+        updateFilteredPersonList(filter, SortOrder.none());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The persons matching the filter are cached, and reused until the address book changes.
+     */
+    @Override
+    public void updateFilteredPersonList(Filter<Person> filter, SortOrder<Person> order) {
+        requireAllNonNull(filter, order);
+        // The lists are refiltered and resorted against the current elements, so the modifications they have not been
+        // notified of yet must not be sent to them afterwards
+        addressBook.publishChanges();
+        personView.update(filter, order);
     }
 
     @Override
     public void updateFilteredSessionList(Filter<Session> filter) {
-        requireNonNull(filter);
-        filteredSessions.setPredicate(filter.toPredicate(getAddressBook()));
+        updateFilteredSessionList(filter, SortOrder.none());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The sessions matching the filter are cached, and reused until the address book changes.
+     */
+    @Override
+    public void updateFilteredSessionList(Filter<Session> filter, SortOrder<Session> order) {
+        requireAllNonNull(filter, order);
+        addressBook.publishChanges();
+        sessionView.update(filter, order);
+    }
+
+    /**
+     * Recomputes the filtered lists whose filter or order may depend on data that has changed since they were last
+     * computed. The lists are only recomputed once every list of the address book has reported its changes.
+     */
+    private void refreshFilteredLists() {
+        if (addressBook.isInTransaction() || isEndingTransaction) {
+            return;
+        }
+
+        personView.refresh();
+        sessionView.refresh();
+    }
+
+    /**
+     * The filter and order of a filtered and sorted list of the address book.
+     * Unless all elements are shown in their existing order, the list is recomputed once the address book changes,
+     * as the filter, the selection of a limited number of elements and the sort keys may all depend on other data in
+     * the address book, such as the attendance records of a student.
+     */
+    private class View<T> {
+        private final List<T> elements;
+        private final FilteredList<T> filteredList;
+        private final SortedList<T> sortedList;
+        private final SearchResultCache<T> searchResults;
+        private final Filter<T> showAllFilter;
+        private final AddressBookList list;
+        private final ToIntFunction<T> idOf;
+        private final Comparator<T> idOrder;
+
+        private Filter<T> filter;
+        private SortOrder<T> order = SortOrder.none();
+        private Set<AddressBookList> dependencies = Set.of();
+        private long version;
+
+        View(List<T> elements, FilteredList<T> filteredList, SortedList<T> sortedList, Filter<T> showAllFilter,
+                AddressBookList list, ToIntFunction<T> idOf) {
+            this.elements = elements;
+            this.filteredList = filteredList;
+            this.sortedList = sortedList;
+            this.searchResults = new SearchResultCache<>(list, idOf);
+            this.showAllFilter = showAllFilter;
+            this.list = list;
+            this.idOf = idOf;
+            this.idOrder = Comparator.comparingInt(idOf);
+            this.filter = showAllFilter;
+        }
+
+        /**
+         * Shows the elements matching {@code filter} in the given {@code order}.
+         */
+        void update(Filter<T> filter, SortOrder<T> order) {
+            this.filter = filter;
+            this.order = order;
+            dependencies = filter == showAllFilter ? EnumSet.of(list) : searchResults.getDependencies(filter);
+            order.getKey().ifPresent(key -> dependencies.addAll(key.getDependencies()));
+            apply();
+        }
+
+        /**
+         * Recomputes the list if any of the lists that the filter and the order depend on have changed since it was
+         * computed. Changes to other lists, such as the attendance records while searching persons by name, leave
+         * the list as it is.
+         */
+        void refresh() {
+            boolean isShowingAll = filter == showAllFilter && order.equals(SortOrder.none());
+            if (!isShowingAll && version != addressBook.getVersion(dependencies)) {
+                apply();
+            }
+        }
+
+        /**
+         * Updates the lists to show the elements matching the filter in the order, with ties broken by the ranking of
+         * the filter and then by ID.
+         * If the order has a limit below the number of matches, only the matches within the limit are selected with
+         * a bounded heap, so the sorted list only sorts those instead of every match.
+         */
+        private void apply() {
+            version = addressBook.getVersion(dependencies);
+
+            int matchCount;
+            Predicate<T> predicate;
+            Optional<Comparator<T>> ranking;
+            if (filter == showAllFilter) {
+                matchCount = elements.size();
+                predicate = null;
+                ranking = Optional.empty();
+            } else {
+                SearchResultCache.Result<T> result = searchResults.getResult(filter, addressBook, elements);
+                matchCount = result.size();
+                predicate = result.getPredicate();
+                ranking = result.getRanking();
+            }
+
+            Optional<Comparator<T>> comparator = order.getKey().map(key -> key.toComparator(addressBook));
+            if (ranking.isPresent()) {
+                comparator = Optional.of(comparator.map(c -> c.thenComparing(ranking.get())).orElse(ranking.get()));
+            }
+
+            if (order.getLimit() < matchCount) {
+                Comparator<T> selectionOrder = comparator.map(c -> c.thenComparing(idOrder)).orElse(idOrder);
+                List<T> matches = predicate == null ? elements : elements.stream().filter(predicate).toList();
+                BitSet selected = new BitSet();
+                for (T element : CollectionUtil.getSmallest(matches, selectionOrder, order.getLimit())) {
+                    selected.set(idOf.applyAsInt(element));
+                }
+                predicate = element -> selected.get(idOf.applyAsInt(element));
+            }
+
+            filteredList.setPredicate(predicate);
+            sortedList.setComparator(comparator.orElse(null));
+        }
     }
 
     @Override
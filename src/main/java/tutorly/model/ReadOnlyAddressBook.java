@@ -1,6 +1,15 @@
 package tutorly.model;
 
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 import javafx.collections.ObservableList;
+import tutorly.commons.util.FuzzyWordIndex;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
@@ -26,6 +35,16 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<AttendanceRecord> getAttendanceRecordsList();
 
+    /**
+     * Returns the attendance records of the session with the given ID.
+     */
+    List<AttendanceRecord> getSessionAttendanceRecords(int sessionId);
+
+    /**
+     * Returns the attendance records of the student with the given ID.
+     */
+    List<AttendanceRecord> getStudentAttendanceRecords(int studentId);
+
     /**
      * Returns the next person ID.
      */
@@ -36,4 +55,66 @@ public interface ReadOnlyAddressBook {
      */
     int getNextSessionId();
 
+    /**
+     * Returns the changes from the previously recorded version of the address book to this version, if its changes
+     * are recorded.
+     */
+    default Optional<AddressBookChanges> getChanges() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the person with the given ID if it exists.
+     */
+    Optional<Person> getPersonById(int id);
+
+    /**
+     * Returns a superset of the persons with a word in their name that contains any of {@code keywords}, ignoring
+     * case, if it can be looked up from an index.
+     */
+    default Optional<Set<Person>> getNameKeywordsCandidates(List<String> keywords) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a superset of the persons with a word in their phone that contains any of {@code keywords}, ignoring
+     * case, if it can be looked up from an index.
+     */
+    default Optional<Set<Person>> getPhoneKeywordsCandidates(List<String> keywords) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a superset of the sessions with a word in their subject that contains any of {@code keywords}, ignoring
+     * case, if it can be looked up from an index.
+     */
+    default Optional<Set<Session>> getSubjectKeywordsCandidates(List<String> keywords) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the IDs of the persons with a tag named any of {@code tagNames}, ignoring case.
+     * Persons without an ID yet are never included.
+     */
+    BitSet getPersonIdsWithAnyTag(Collection<String> tagNames);
+
+    /**
+     * Returns the IDs of the persons with a tag named each of {@code tagNames}, ignoring case.
+     * Persons without an ID yet are never included.
+     */
+    BitSet getPersonIdsWithAllTags(Collection<String> tagNames);
+
+    /**
+     * Returns the persons with a word in their name within the typo tolerance of {@code word}, ignoring case.
+     *
+     * @return A map from each person found to the smallest distance between {@code word} and a word in their name.
+     * @see FuzzyWordIndex#getTypoTolerance(String)
+     */
+    Map<Person, Integer> getPersonsWithNameNear(String word);
+
+    /**
+     * Returns the sessions with a timeslot that falls on any date from {@code from} to {@code to} (both inclusive).
+     */
+    List<Session> getSessionsOnDates(LocalDate from, LocalDate to);
+
 }
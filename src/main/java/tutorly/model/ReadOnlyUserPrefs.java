@@ -2,6 +2,7 @@ package tutorly.model;
 
 import java.nio.file.Path;
 
+import tutorly.commons.core.AddressBookFormat;
 import tutorly.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
 }
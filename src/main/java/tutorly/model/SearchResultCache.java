@@ -0,0 +1,128 @@
+package tutorly.model;
+
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import tutorly.commons.util.LruCache;
+import tutorly.model.filter.Filter;
+
+/**
+ * Caches the IDs of the elements of an address book that match each recently applied filter, so that repeating a
+ * search on an unchanged address book does not evaluate the filter again.
+ * Each result is tagged with the version of the lists it was found from, which are the list being searched and the
+ * dependencies of the filter, and is only reused while that version is unchanged. Changes to the other lists of the
+ * address book do not invalidate the result. Results are evicted from the least recently used once they hold more
+ * than {@value #MAX_CACHED_ELEMENTS} elements in total.
+ *
+ * @param <T> the type of the elements being searched.
+ * @see AddressBook#getVersion(java.util.Collection)
+ * @see Filter#getDependencies()
+ */
+public class SearchResultCache<T> {
+
+    public static final long MAX_CACHED_ELEMENTS = 100_000;
+
+    private final AddressBookList list;
+    private final ToIntFunction<T> idOf;
+    private final LruCache<Filter<T>, Result<T>> results =
+            new LruCache<>(MAX_CACHED_ELEMENTS, result -> result.size + 1);
+
+    /**
+     * Creates a cache of the results of searching {@code list}, whose elements are identified by {@code idOf}.
+     */
+    public SearchResultCache(AddressBookList list, ToIntFunction<T> idOf) {
+        requireAllNonNull(list, idOf);
+        this.list = list;
+        this.idOf = idOf;
+    }
+
+    /**
+     * The IDs of the elements that matched a filter, and the ranking of the filter, in a version of an address book.
+     */
+    public static class Result<T> {
+        private final long version;
+        private final BitSet ids;
+        private final int size;
+        private final Predicate<T> predicate;
+        private final Comparator<T> ranking;
+
+        private Result(long version, BitSet ids, ToIntFunction<T> idOf, Comparator<T> ranking) {
+            this.version = version;
+            this.ids = ids;
+            this.size = ids.cardinality();
+            this.predicate = element -> ids.get(idOf.applyAsInt(element));
+            this.ranking = ranking;
+        }
+
+        /**
+         * Returns the number of matching elements.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns a predicate that tests if an element has the ID of one of the matching elements.
+         */
+        public Predicate<T> getPredicate() {
+            return predicate;
+        }
+
+        /**
+         * Returns the ranking of the filter, if it ranks its matches.
+         */
+        public Optional<Comparator<T>> getRanking() {
+            return Optional.ofNullable(ranking);
+        }
+    }
+
+    /**
+     * Returns the result of applying {@code filter} to {@code elements} of {@code addressBook}, reusing the cached
+     * result if none of the lists it was found from have changed since.
+     */
+    public Result<T> getResult(Filter<T> filter, AddressBook addressBook, List<T> elements) {
+        requireAllNonNull(filter, addressBook, elements);
+        long version = addressBook.getVersion(getDependencies(filter));
+        Optional<Result<T>> cachedResult = results.get(filter);
+        if (cachedResult.isPresent() && cachedResult.get().version == version) {
+            return cachedResult.get();
+        }
+
+        Predicate<T> predicate = filter.compile(addressBook);
+        BitSet ids = new BitSet();
+        for (T element : elements) {
+            if (predicate.test(element)) {
+                ids.set(idOf.applyAsInt(element));
+            }
+        }
+
+        Result<T> result = new Result<>(version, ids, idOf, filter.toRanking(addressBook).orElse(null));
+        results.put(filter, result);
+        return result;
+    }
+
+    /**
+     * Returns the lists that the result of applying {@code filter} to the searched list is found from.
+     */
+    public Set<AddressBookList> getDependencies(Filter<T> filter) {
+        Set<AddressBookList> dependencies = EnumSet.of(list);
+        dependencies.addAll(filter.getDependencies());
+        return dependencies;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        results.clear();
+    }
+
+}
@@ -0,0 +1,229 @@
+package tutorly.model.attendancerecord;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import tutorly.commons.util.ChunkedList;
+
+/**
+ * A list of attendance records stored column by column instead of as one object per record.
+ * The rows are stored in chunks. Within a chunk, student and session IDs are held in parallel {@code int} arrays,
+ * attendance in a {@code BitSet}, and only non-empty feedback is kept in a side table keyed by the (student ID,
+ * session ID) pair. {@code AttendanceRecord} views are created when elements are read and are not retained by the list.
+ * Snapshots share the chunks of the list, and only the chunks modified afterwards are copied.
+ * <p>
+ * Rows are expected to have distinct (student ID, session ID) pairs and be sorted by student ID then session ID, as
+ * maintained by {@code UniqueAttendanceRecordList}, so that rows can be looked up by binary search.
+ *
+ * @see ChunkedList
+ */
+class AttendanceRecordColumns extends ChunkedList<AttendanceRecord, AttendanceRecordColumns.Rows> {
+
+    /**
+     * Constructs an empty list.
+     */
+    AttendanceRecordColumns() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with chunks of at most {@code chunkCapacity} rows.
+     */
+    AttendanceRecordColumns(int chunkCapacity) {
+        super(chunkCapacity);
+    }
+
+    @Override
+    protected Rows newChunk(Object generation) {
+        return new Rows(generation, chunkCapacity);
+    }
+
+    @Override
+    public AttendanceRecord set(int index, AttendanceRecord record) {
+        return super.set(index, requireNonNull(record));
+    }
+
+    @Override
+    public void add(int index, AttendanceRecord record) {
+        super.add(index, requireNonNull(record));
+    }
+
+    /**
+     * Returns the index of the first row whose (student ID, session ID) pair is not less than the given pair.
+     */
+    int lowerBound(int studentId, int sessionId) {
+        // The first chunk whose last row is not less than the given pair
+        int low = 0;
+        int high = getChunkCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getChunk(mid).compareLast(studentId, sessionId) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == getChunkCount()) {
+            return size();
+        }
+        return getChunkStart(low) + getChunk(low).lowerBound(studentId, sessionId);
+    }
+
+    /**
+     * Returns the index of the row for the given student and session, or -1 if there is no such row.
+     */
+    int indexOf(int studentId, int sessionId) {
+        int index = lowerBound(studentId, sessionId);
+        if (index == size()) {
+            return -1;
+        }
+        int chunk = locate(index);
+        Rows rows = getChunk(chunk);
+        return rows.compare(index - getChunkStart(chunk), studentId, sessionId) == 0 ? index : -1;
+    }
+
+    int getStudentId(int index) {
+        checkIndex(index, size());
+        int chunk = locate(index);
+        return getChunk(chunk).studentIds[index - getChunkStart(chunk)];
+    }
+
+    private static long toKey(int studentId, int sessionId) {
+        return ((long) studentId << Integer.SIZE) | (sessionId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A chunk of rows stored column by column.
+     */
+    protected static class Rows extends ChunkedList.Chunk<AttendanceRecord, Rows> {
+        private final int[] studentIds;
+        private final int[] sessionIds;
+        private final BitSet presence = new BitSet();
+        private final Map<Long, Feedback> feedbacks = new HashMap<>();
+
+        Rows(Object generation, int capacity) {
+            super(generation);
+            studentIds = new int[capacity];
+            sessionIds = new int[capacity];
+        }
+
+        @Override
+        protected AttendanceRecord get(int offset) {
+            int studentId = studentIds[offset];
+            int sessionId = sessionIds[offset];
+            Feedback feedback = feedbacks.getOrDefault(toKey(studentId, sessionId), Feedback.empty());
+            return new AttendanceRecord(studentId, sessionId, presence.get(offset), feedback);
+        }
+
+        @Override
+        protected AttendanceRecord set(int offset, AttendanceRecord record) {
+            AttendanceRecord replaced = get(offset);
+            feedbacks.remove(toKey(replaced.getStudentId(), replaced.getSessionId()));
+            write(offset, record);
+            return replaced;
+        }
+
+        @Override
+        protected void add(int offset, AttendanceRecord record) {
+            System.arraycopy(studentIds, offset, studentIds, offset + 1, size - offset);
+            System.arraycopy(sessionIds, offset, sessionIds, offset + 1, size - offset);
+            for (int i = size; i > offset; i--) {
+                presence.set(i, presence.get(i - 1));
+            }
+            write(offset, record);
+            size++;
+        }
+
+        @Override
+        protected void removeIndices(BitSet offsets) {
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (offsets.get(i)) {
+                    feedbacks.remove(toKey(studentIds[i], sessionIds[i]));
+                    continue;
+                }
+                studentIds[newSize] = studentIds[i];
+                sessionIds[newSize] = sessionIds[i];
+                presence.set(newSize, presence.get(i));
+                newSize++;
+            }
+            presence.clear(newSize, size);
+            size = newSize;
+        }
+
+        @Override
+        protected Rows copy(Rows copy) {
+            System.arraycopy(studentIds, 0, copy.studentIds, 0, size);
+            System.arraycopy(sessionIds, 0, copy.sessionIds, 0, size);
+            copy.presence.or(presence);
+            copy.feedbacks.putAll(feedbacks);
+            copy.size = size;
+            return copy;
+        }
+
+        @Override
+        protected Rows split(int from, Rows tail) {
+            int tailSize = size - from;
+            System.arraycopy(studentIds, from, tail.studentIds, 0, tailSize);
+            System.arraycopy(sessionIds, from, tail.sessionIds, 0, tailSize);
+            for (int i = 0; i < tailSize; i++) {
+                tail.presence.set(i, presence.get(from + i));
+                Feedback feedback = feedbacks.remove(toKey(studentIds[from + i], sessionIds[from + i]));
+                if (feedback != null) {
+                    tail.feedbacks.put(toKey(studentIds[from + i], sessionIds[from + i]), feedback);
+                }
+            }
+            presence.clear(from, size);
+            tail.size = tailSize;
+            size = from;
+            return tail;
+        }
+
+        /**
+         * Compares the (student ID, session ID) pair of the row at {@code offset} with the given pair.
+         */
+        private int compare(int offset, int studentId, int sessionId) {
+            return studentIds[offset] != studentId
+                    ? Integer.compare(studentIds[offset], studentId)
+                    : Integer.compare(sessionIds[offset], sessionId);
+        }
+
+        /**
+         * Compares the (student ID, session ID) pair of the last row with the given pair.
+         */
+        private int compareLast(int studentId, int sessionId) {
+            return compare(size - 1, studentId, sessionId);
+        }
+
+        /**
+         * Returns the offset of the first row whose (student ID, session ID) pair is not less than the given pair.
+         */
+        private int lowerBound(int studentId, int sessionId) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(mid, studentId, sessionId) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void write(int offset, AttendanceRecord record) {
+            studentIds[offset] = record.getStudentId();
+            sessionIds[offset] = record.getSessionId();
+            presence.set(offset, record.getAttendance());
+            if (!record.getFeedback().value.isEmpty()) {
+                feedbacks.put(toKey(record.getStudentId(), record.getSessionId()), record.getFeedback());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package tutorly.model.attendancerecord;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the (student ID, session ID) pair that identifies an attendance record.
+ * No two attendance records in an address book have the same key.
+ */
+public record AttendanceRecordKey(int studentId, int sessionId) {
+
+    /**
+     * Returns the key of {@code record}.
+     */
+    public static AttendanceRecordKey of(AttendanceRecord record) {
+        requireNonNull(record);
+        return new AttendanceRecordKey(record.getStudentId(), record.getSessionId());
+    }
+
+}
@@ -1,23 +1,158 @@
 package tutorly.model.attendancerecord;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import tutorly.commons.util.BatchObservableList;
 import tutorly.model.uniquelist.UniqueList;
 
 /**
  * A list of attendance records that enforces uniqueness between its elements and does not allow nulls.
  * An attendance record is considered unique by comparing using {@code AttendanceRecord#isSameRecord(AttendanceRecord)}.
+ * The equivalence key of a record is its {@code AttendanceRecordKey}.
+ * Records are stored in columns rather than as objects, sorted by student ID then session ID, so that records can be
+ * looked up by binary search and grouped by student without a scan of the list. The students attending each session
+ * are tracked separately so that records can also be grouped by session.
  *
  * @see AttendanceRecord#isSameRecord(AttendanceRecord)
+ * @see AttendanceRecordColumns
  */
 public class UniqueAttendanceRecordList extends UniqueList<AttendanceRecord> {
 
+    private final AttendanceRecordColumns columns;
+
+    // Maps session ID -> IDs of students with a record for the session
+    private final Map<Integer, BitSet> sessionIndex = new HashMap<>();
+
+    /**
+     * Constructs an empty list of attendance records.
+     */
+    public UniqueAttendanceRecordList() {
+        this(new AttendanceRecordColumns());
+    }
+
+    private UniqueAttendanceRecordList(AttendanceRecordColumns columns) {
+        super(new BatchObservableList<>(columns));
+        this.columns = columns;
+    }
+
     @Override
-    protected boolean isEquivalent(AttendanceRecord a, AttendanceRecord b) {
-        return a.isSameRecord(b);
+    protected Object getEquivalenceKey(AttendanceRecord record) {
+        return AttendanceRecordKey.of(record);
+    }
+
+    @Override
+    protected Optional<AttendanceRecord> findByKey(Object key) {
+        AttendanceRecordKey recordKey = (AttendanceRecordKey) key;
+        int index = columns.indexOf(recordKey.studentId(), recordKey.sessionId());
+        return index < 0 ? Optional.empty() : Optional.of(columns.get(index));
+    }
+
+    /**
+     * Returns the attendance record with the given key, if any.
+     */
+    public Optional<AttendanceRecord> find(AttendanceRecordKey key) {
+        requireNonNull(key);
+        return findByKey(key);
     }
 
     @Override
     protected int compare(AttendanceRecord a, AttendanceRecord b) {
-        return Integer.compare(a.getStudentId(), b.getStudentId());
+        int comparison = Integer.compare(a.getStudentId(), b.getStudentId());
+        return comparison != 0 ? comparison : Integer.compare(a.getSessionId(), b.getSessionId());
+    }
+
+    @Override
+    protected void onAdd(AttendanceRecord record) {
+        sessionIndex.computeIfAbsent(record.getSessionId(), k -> new BitSet()).set(record.getStudentId());
+    }
+
+    @Override
+    protected void onRemove(AttendanceRecord record) {
+        BitSet students = sessionIndex.get(record.getSessionId());
+        if (students != null) {
+            students.clear(record.getStudentId());
+            if (students.isEmpty()) {
+                sessionIndex.remove(record.getSessionId());
+            }
+        }
+    }
+
+    @Override
+    protected void onClear() {
+        sessionIndex.clear();
+    }
+
+    /**
+     * Returns the attendance records of the session with the given ID.
+     *
+     * @param sessionId The ID of the session.
+     * @return The attendance records of the session, ordered by student ID.
+     */
+    public List<AttendanceRecord> getRecordsBySessionId(int sessionId) {
+        BitSet students = sessionIndex.get(sessionId);
+        if (students == null) {
+            return List.of();
+        }
+
+        List<AttendanceRecord> records = new ArrayList<>(students.cardinality());
+        students.stream().forEach(studentId -> records.add(columns.get(columns.indexOf(studentId, sessionId))));
+        return Collections.unmodifiableList(records);
+    }
+
+    /**
+     * Returns the attendance records of the student with the given ID.
+     *
+     * @param studentId The ID of the student.
+     * @return The attendance records of the student, ordered by session ID.
+     */
+    public List<AttendanceRecord> getRecordsByStudentId(int studentId) {
+        List<AttendanceRecord> records = new ArrayList<>();
+        for (int i = columns.lowerBound(studentId, Integer.MIN_VALUE);
+                i < columns.size() && columns.getStudentId(i) == studentId; i++) {
+            records.add(columns.get(i));
+        }
+        return Collections.unmodifiableList(records);
+    }
+
+    /**
+     * Removes the attendance records of the session with the given ID as a single change.
+     *
+     * @param sessionId The ID of the session.
+     * @return The removed attendance records, ordered by student ID.
+     */
+    public List<AttendanceRecord> removeBySessionId(int sessionId) {
+        BitSet students = sessionIndex.get(sessionId);
+        if (students == null) {
+            return List.of();
+        }
+
+        BitSet rows = new BitSet();
+        students.stream().forEach(studentId -> rows.set(columns.indexOf(studentId, sessionId)));
+        List<AttendanceRecord> removed = new ArrayList<>(students.cardinality());
+        rows.stream().forEach(row -> removed.add(columns.get(row)));
+        removeIndices(rows);
+        return Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Removes the attendance records of the student with the given ID as a single change.
+     *
+     * @param studentId The ID of the student.
+     * @return The removed attendance records, ordered by session ID.
+     */
+    public List<AttendanceRecord> removeByStudentId(int studentId) {
+        List<AttendanceRecord> removed = getRecordsByStudentId(studentId);
+        int from = columns.lowerBound(studentId, Integer.MIN_VALUE);
+        removeRange(from, from + removed.size());
+        return removed;
     }
 
 }
@@ -0,0 +1,78 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.model.filter.AttendSessionFilter.getStudentIds;
+import static tutorly.model.filter.AttendSessionFilter.getStudents;
+import static tutorly.model.filter.AttendSessionFilter.hasId;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} who attends the session with the given session ID but is marked absent.
+ */
+public class AbsentSessionFilter implements Filter<Person> {
+    private final int sessionId;
+
+    public AbsentSessionFilter(int sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        BitSet studentIds = getStudentIds(addressBook, sessionId, record -> !record.getAttendance());
+        return person -> hasId(studentIds, person);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return Optional.of(getStudents(addressBook,
+                getStudentIds(addressBook, sessionId, record -> !record.getAttendance())));
+    }
+
+    @Override
+    public int getCost() {
+        return COST_FIELD;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return Set.of(AddressBookList.ATTENDANCE_RECORDS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AbsentSessionFilter otherAbsentSessionFilter)) {
+            return false;
+        }
+
+        return sessionId == otherAbsentSessionFilter.sessionId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sessionId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("sessionId", sessionId).toString();
+    }
+
+}
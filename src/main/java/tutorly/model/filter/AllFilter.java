@@ -0,0 +1,160 @@
+package tutorly.model.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a filter that represents the logical AND of the given filters.
+ */
+public class AllFilter<T> implements Filter<T> {
+
+    private final List<Filter<T>> filters;
+
+    protected AllFilter(List<Filter<T>> filters) {
+        this.filters = filters;
+    }
+
+    @Override
+    public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook) {
+        return filters.stream().map(f -> f.toPredicate(addressBook)).reduce(Predicate::and).orElse(t -> true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Nested {@code AllFilter}s are flattened and duplicate filters are dropped. If any of the remaining filters can
+     * look up their candidates from an index, the candidate sets are intersected from the smallest, and only the
+     * elements left are tested against the predicates of the filters, so the compiled predicate is a set lookup.
+     * Otherwise, the filters are compiled and tested from the cheapest to the most expensive, stopping at the first
+     * that does not match.
+     */
+    @Override
+    public Predicate<T> compile(ReadOnlyAddressBook addressBook) {
+        List<Filter<T>> operands = new ArrayList<>(getOperands());
+        if (operands.isEmpty()) {
+            return t -> true;
+        }
+
+        operands.sort(Comparator.comparingInt(Filter::getCost));
+        List<Predicate<T>> predicates = operands.stream().map(f -> f.compile(addressBook)).toList();
+        Predicate<T> predicate = predicates.size() == 1 ? predicates.get(0) : t -> {
+            for (Predicate<T> operandPredicate : predicates) {
+                if (!operandPredicate.test(t)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+
+        Optional<Set<T>> candidates = getCandidates(addressBook);
+        if (candidates.isEmpty()) {
+            return predicate;
+        }
+
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (T candidate : candidates.get()) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches::contains;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The candidates are the intersection of the candidates of the filters that can look them up.
+     */
+    @Override
+    public Optional<Set<T>> getCandidates(ReadOnlyAddressBook addressBook) {
+        List<Set<T>> candidateSets = new ArrayList<>();
+        for (Filter<T> operand : getOperands()) {
+            operand.getCandidates(addressBook).ifPresent(candidateSets::add);
+        }
+        if (candidateSets.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Intersects the sets starting from the smallest, so that the result only shrinks from there
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+        Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(candidateSets.get(0));
+        for (int i = 1; i < candidateSets.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(candidateSets.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Elements are ranked by the first filter that ranks its matches, with ties broken by the following ones.
+     */
+    @Override
+    public Optional<Comparator<T>> toRanking(ReadOnlyAddressBook addressBook) {
+        return filters.stream().map(f -> f.toRanking(addressBook)).flatMap(Optional::stream)
+                .reduce(Comparator::thenComparing);
+    }
+
+    /**
+     * Returns the distinct filters, with nested {@code AllFilter}s flattened.
+     */
+    private Set<Filter<T>> getOperands() {
+        Set<Filter<T>> operands = new LinkedHashSet<>();
+        for (Filter<T> filter : filters) {
+            if (filter instanceof AllFilter<T> allFilter) {
+                operands.addAll(allFilter.getOperands());
+            } else {
+                operands.add(filter);
+            }
+        }
+        return operands;
+    }
+
+    @Override
+    public int getCost() {
+        return filters.stream().mapToInt(Filter::getCost).sum();
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        Set<AddressBookList> dependencies = EnumSet.noneOf(AddressBookList.class);
+        filters.forEach(filter -> dependencies.addAll(filter.getDependencies()));
+        return dependencies;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AllFilter otherAllFilter)) {
+            return false;
+        }
+
+        return filters.equals(otherAllFilter.filters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filters);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("filters", filters).toString();
+    }
+
+}
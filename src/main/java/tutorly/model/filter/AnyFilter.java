@@ -1,9 +1,19 @@
 package tutorly.model.filter;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
 import tutorly.model.ReadOnlyAddressBook;
 
 /**
@@ -22,6 +32,101 @@ public class AnyFilter<T> implements Filter<T> {
         return filters.stream().map(f -> f.toPredicate(addressBook)).reduce(Predicate::or).orElse(t -> true);
     }
 
+    /**
+     * {@inheritDoc}
+     * Nested {@code AnyFilter}s are flattened and duplicate filters are dropped. The remaining filters are compiled
+     * and tested from the cheapest to the most expensive, stopping at the first that matches.
+     */
+    @Override
+    public Predicate<T> compile(ReadOnlyAddressBook addressBook) {
+        Set<Filter<T>> operands = new LinkedHashSet<>();
+        if (!addOperandsTo(operands)) {
+            return t -> true;
+        }
+
+        List<Filter<T>> orderedOperands = new ArrayList<>(operands);
+        orderedOperands.sort(Comparator.comparingInt(Filter::getCost));
+        List<Predicate<T>> predicates = orderedOperands.stream().map(f -> f.compile(addressBook)).toList();
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+
+        return t -> {
+            for (Predicate<T> predicate : predicates) {
+                if (predicate.test(t)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * The candidates are the union of the candidates of the filters, if every filter can look them up.
+     */
+    @Override
+    public Optional<Set<T>> getCandidates(ReadOnlyAddressBook addressBook) {
+        Set<Filter<T>> operands = new LinkedHashSet<>();
+        if (!addOperandsTo(operands)) {
+            return Optional.empty();
+        }
+
+        Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Filter<T> operand : operands) {
+            Optional<Set<T>> operandCandidates = operand.getCandidates(addressBook);
+            if (operandCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.addAll(operandCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Adds the filters to {@code operands}, flattening nested {@code AnyFilter}s.
+     *
+     * @return False if this or a nested {@code AnyFilter} is empty, in which case every element matches.
+     */
+    private boolean addOperandsTo(Set<Filter<T>> operands) {
+        if (filters.isEmpty()) {
+            return false;
+        }
+
+        for (Filter<T> filter : filters) {
+            if (filter instanceof AnyFilter<T> anyFilter) {
+                if (!anyFilter.addOperandsTo(operands)) {
+                    return false;
+                }
+            } else {
+                operands.add(filter);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Elements are ranked by the first filter that ranks its matches, with ties broken by the following ones.
+     */
+    @Override
+    public Optional<Comparator<T>> toRanking(ReadOnlyAddressBook addressBook) {
+        return filters.stream().map(f -> f.toRanking(addressBook)).flatMap(Optional::stream)
+                .reduce(Comparator::thenComparing);
+    }
+
+    @Override
+    public int getCost() {
+        return filters.stream().mapToInt(Filter::getCost).sum();
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        Set<AddressBookList> dependencies = EnumSet.noneOf(AddressBookList.class);
+        filters.forEach(filter -> dependencies.addAll(filter.getDependencies()));
+        return dependencies;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -36,6 +141,11 @@ public class AnyFilter<T> implements Filter<T> {
         return filters.equals(otherAnyFilter.filters);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(filters);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("filters", filters).toString();
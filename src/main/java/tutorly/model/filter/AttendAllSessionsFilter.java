@@ -0,0 +1,96 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.model.filter.AttendSessionFilter.getStudentIds;
+import static tutorly.model.filter.AttendSessionFilter.getStudents;
+import static tutorly.model.filter.AttendSessionFilter.hasId;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} who attends every session with the given session IDs.
+ */
+public class AttendAllSessionsFilter implements Filter<Person> {
+    private final List<Integer> sessionIds;
+
+    public AttendAllSessionsFilter(List<Integer> sessionIds) {
+        requireNonNull(sessionIds);
+        this.sessionIds = sessionIds;
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (sessionIds.isEmpty()) {
+            return person -> true;
+        }
+
+        BitSet studentIds = getStudentIdsInAll(addressBook);
+        return person -> hasId(studentIds, person);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (sessionIds.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(getStudents(addressBook, getStudentIdsInAll(addressBook)));
+    }
+
+    /**
+     * Returns the IDs of the students with an attendance record in every session, which must not be empty.
+     */
+    private BitSet getStudentIdsInAll(ReadOnlyAddressBook addressBook) {
+        BitSet studentIds = getStudentIds(addressBook, sessionIds.get(0), record -> true);
+        for (int i = 1; i < sessionIds.size() && !studentIds.isEmpty(); i++) {
+            studentIds.and(getStudentIds(addressBook, sessionIds.get(i), record -> true));
+        }
+        return studentIds;
+    }
+
+    @Override
+    public int getCost() {
+        return COST_FIELD;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return Set.of(AddressBookList.ATTENDANCE_RECORDS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendAllSessionsFilter otherAttendAllSessionsFilter)) {
+            return false;
+        }
+
+        return sessionIds.equals(otherAttendAllSessionsFilter.sessionIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sessionIds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("sessionIds", sessionIds).toString();
+    }
+
+}
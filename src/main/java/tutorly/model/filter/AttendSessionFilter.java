@@ -2,10 +2,16 @@ package tutorly.model.filter;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Person;
@@ -24,9 +30,55 @@ public class AttendSessionFilter implements Filter<Person> {
     public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
         requireNonNull(addressBook);
 
-        List<AttendanceRecord> filteredAttendanceRecords =
-                addressBook.getAttendanceRecordsList().filtered(record -> record.getSessionId() == sessionId);
-        return person -> filteredAttendanceRecords.stream().anyMatch(record -> record.getStudentId() == person.getId());
+        BitSet studentIds = getStudentIds(addressBook, sessionId, record -> true);
+        return person -> hasId(studentIds, person);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return Optional.of(getStudents(addressBook, getStudentIds(addressBook, sessionId, record -> true)));
+    }
+
+    @Override
+    public int getCost() {
+        return COST_FIELD;
+    }
+
+    /**
+     * Returns the IDs of the students with an attendance record in the session with the given ID that satisfies
+     * {@code condition}.
+     */
+    static BitSet getStudentIds(ReadOnlyAddressBook addressBook, int sessionId,
+            Predicate<AttendanceRecord> condition) {
+        BitSet studentIds = new BitSet();
+        for (AttendanceRecord record : addressBook.getSessionAttendanceRecords(sessionId)) {
+            if (condition.test(record)) {
+                studentIds.set(record.getStudentId());
+            }
+        }
+        return studentIds;
+    }
+
+    /**
+     * Returns the set of persons in {@code addressBook} with an ID in {@code studentIds}.
+     */
+    static Set<Person> getStudents(ReadOnlyAddressBook addressBook, BitSet studentIds) {
+        Set<Person> students = Collections.newSetFromMap(new IdentityHashMap<>());
+        studentIds.stream().forEach(id -> addressBook.getPersonById(id).ifPresent(students::add));
+        return students;
+    }
+
+    /**
+     * Returns true if the ID of {@code person} is in {@code ids}.
+     */
+    static boolean hasId(BitSet ids, Person person) {
+        return person.getId() >= 0 && ids.get(person.getId());
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return Set.of(AddressBookList.ATTENDANCE_RECORDS);
     }
 
     @Override
@@ -43,6 +95,11 @@ public class AttendSessionFilter implements Filter<Person> {
         return sessionId == otherAttendSessionFilter.sessionId;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(sessionId);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("sessionId", sessionId).toString();
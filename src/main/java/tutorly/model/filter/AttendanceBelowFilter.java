@@ -0,0 +1,90 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+import static tutorly.model.filter.AttendSessionFilter.hasId;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} who is present for less than the given percentage of the sessions they
+ * attend. Persons who do not attend any session are not matched.
+ */
+public class AttendanceBelowFilter implements Filter<Person> {
+    private final int percentage;
+
+    /**
+     * Constructs a filter for persons whose attendance rate is below {@code percentage}, which must be from 0 to 100.
+     */
+    public AttendanceBelowFilter(int percentage) {
+        checkArgument(percentage >= 0 && percentage <= 100, "Percentage should be from 0 to 100");
+        this.percentage = percentage;
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        // Counts of present and total records for each student
+        Map<Integer, int[]> counts = new HashMap<>();
+        for (AttendanceRecord record : addressBook.getAttendanceRecordsList()) {
+            int[] studentCounts = counts.computeIfAbsent(record.getStudentId(), k -> new int[2]);
+            studentCounts[0] += record.getAttendance() ? 1 : 0;
+            studentCounts[1]++;
+        }
+
+        BitSet studentIds = new BitSet();
+        counts.forEach((studentId, studentCounts) -> {
+            if (studentCounts[0] * 100L < (long) percentage * studentCounts[1]) {
+                studentIds.set(studentId);
+            }
+        });
+        return person -> hasId(studentIds, person);
+    }
+
+    @Override
+    public int getCost() {
+        return COST_FIELD;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return Set.of(AddressBookList.ATTENDANCE_RECORDS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceBelowFilter otherAttendanceBelowFilter)) {
+            return false;
+        }
+
+        return percentage == otherAttendanceBelowFilter.percentage;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(percentage);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("percentage", percentage).toString();
+    }
+
+}
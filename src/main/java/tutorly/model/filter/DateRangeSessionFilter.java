@@ -0,0 +1,108 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.session.Session;
+
+/**
+ * Represents a filter for a {@code Session} that falls on any date from the given start date to the given end date,
+ * both inclusive.
+ */
+public class DateRangeSessionFilter implements Filter<Session> {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Constructs a filter for sessions on any date from {@code from} to {@code to}.
+     * Use {@code LocalDate.MIN} or {@code LocalDate.MAX} for a range that is unbounded on one side.
+     */
+    public DateRangeSessionFilter(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public Predicate<Session> toPredicate(ReadOnlyAddressBook addressBook) {
+        return session -> session.getTimeslot().overlapsDates(from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The sessions in the range are looked up in the start time index of the address book.
+     */
+    @Override
+    public Predicate<Session> compile(ReadOnlyAddressBook addressBook) {
+        return getSessionsOnDatesPredicate(addressBook, from, to);
+    }
+
+    @Override
+    public Optional<Set<Session>> getCandidates(ReadOnlyAddressBook addressBook) {
+        return Optional.of(getSessionsOnDates(addressBook, from, to));
+    }
+
+    @Override
+    public int getCost() {
+        return COST_FIELD;
+    }
+
+    /**
+     * Returns a predicate that tests if a session is one of the sessions in {@code addressBook} on any date from
+     * {@code from} to {@code to}.
+     */
+    static Predicate<Session> getSessionsOnDatesPredicate(ReadOnlyAddressBook addressBook, LocalDate from,
+            LocalDate to) {
+        return getSessionsOnDates(addressBook, from, to)::contains;
+    }
+
+    /**
+     * Returns the set of sessions in {@code addressBook} on any date from {@code from} to {@code to}.
+     */
+    static Set<Session> getSessionsOnDates(ReadOnlyAddressBook addressBook, LocalDate from, LocalDate to) {
+        requireNonNull(addressBook);
+        Set<Session> sessionsOnDates = Collections.newSetFromMap(new IdentityHashMap<>());
+        sessionsOnDates.addAll(addressBook.getSessionsOnDates(from, to));
+        return sessionsOnDates;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return Set.of();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DateRangeSessionFilter otherDateRangeSessionFilter)) {
+            return false;
+        }
+
+        return from.equals(otherDateRangeSessionFilter.from) && to.equals(otherDateRangeSessionFilter.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
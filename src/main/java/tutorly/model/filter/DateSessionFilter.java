@@ -1,9 +1,13 @@
 package tutorly.model.filter;
 
 import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.session.Session;
 
@@ -22,6 +26,30 @@ public class DateSessionFilter implements Filter<Session> {
         return session -> session.containsDate(date);
     }
 
+    /**
+     * {@inheritDoc}
+     * The sessions on the date are looked up in the start time index of the address book.
+     */
+    @Override
+    public Predicate<Session> compile(ReadOnlyAddressBook addressBook) {
+        return DateRangeSessionFilter.getSessionsOnDatesPredicate(addressBook, date, date);
+    }
+
+    @Override
+    public Optional<Set<Session>> getCandidates(ReadOnlyAddressBook addressBook) {
+        return Optional.of(DateRangeSessionFilter.getSessionsOnDates(addressBook, date, date));
+    }
+
+    @Override
+    public int getCost() {
+        return COST_FIELD;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return Set.of();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -36,6 +64,11 @@ public class DateSessionFilter implements Filter<Session> {
         return date.equals(otherDateSessionFilter.date);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(date);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("date", date).toString();
@@ -1,8 +1,13 @@
 package tutorly.model.filter;
 
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import tutorly.model.AddressBookList;
 import tutorly.model.ReadOnlyAddressBook;
 
 /**
@@ -11,6 +16,21 @@ import tutorly.model.ReadOnlyAddressBook;
 @FunctionalInterface
 public interface Filter<T> {
 
+    /**
+     * Relative cost of a filter that only compares the fields of an element.
+     */
+    int COST_FIELD = 1;
+
+    /**
+     * Relative cost of a filter that matches keywords against the text of an element.
+     */
+    int COST_TEXT = 2;
+
+    /**
+     * Relative cost of a filter that looks through other data in the address book, or whose cost is unknown.
+     */
+    int COST_LOOKUP = 3;
+
     /**
      * Returns a filter that represents the logical OR of the given filters.
      */
@@ -18,6 +38,20 @@ public interface Filter<T> {
         return new AnyFilter<>(filters);
     }
 
+    /**
+     * Returns a filter that represents the logical AND of the given filters.
+     */
+    public static <T> Filter<T> all(List<Filter<T>> filters) {
+        return new AllFilter<>(filters);
+    }
+
+    /**
+     * Returns a filter that represents the logical NOT of the given filter.
+     */
+    public static <T> Filter<T> not(Filter<T> filter) {
+        return new NotFilter<>(filter);
+    }
+
     /**
      * Returns the predicate that represents the filter.
      *
@@ -26,4 +60,59 @@ public interface Filter<T> {
      */
     public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns the relative cost of testing an element against the predicate of this filter.
+     * Filters composed of other filters use this to test the cheaper ones first.
+     */
+    public default int getCost() {
+        return COST_LOOKUP;
+    }
+
+    /**
+     * Returns the lists of the address book, other than the list being filtered, that the matches and ranking of this
+     * filter may depend on. Matches are identified by ID, so a filter that only looks up the IDs of its matches in
+     * another list, such as the students in the attendance records of a session, depends on that list alone.
+     */
+    public default Set<AddressBookList> getDependencies() {
+        return EnumSet.allOf(AddressBookList.class);
+    }
+
+    /**
+     * Compiles the filter into an optimised predicate that is equivalent to {@code toPredicate(addressBook)} for the
+     * elements in {@code addressBook} when it is compiled.
+     * Work that does not depend on the element, such as normalising keywords or looking up matching elements in an
+     * index, is done once here instead of for every element tested. The predicate should be compiled again once the
+     * address book changes.
+     *
+     * @param addressBook The address book context.
+     * @return A predicate that can be used for filtering.
+     */
+    public default Predicate<T> compile(ReadOnlyAddressBook addressBook) {
+        return toPredicate(addressBook);
+    }
+
+    /**
+     * Returns the elements of {@code addressBook} that may match this filter, if the filter can look them up from an
+     * index without testing every element.
+     * Every element of the address book that matches must be in the returned set, but not every element in the set
+     * has to match. Filters composed of other filters intersect these sets, so that only the elements left are tested.
+     *
+     * @param addressBook The address book context.
+     * @return A superset of the matching elements, or an empty optional if the filter has no index to look them up.
+     */
+    public default Optional<Set<T>> getCandidates(ReadOnlyAddressBook addressBook) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a comparator that orders the elements matched by this filter from the best match to the worst, if the
+     * filter ranks its matches. Elements that the filter ranks equally keep their order.
+     *
+     * @param addressBook The address book context.
+     * @return The ranking of the filter, or an empty optional if all matches are equally good.
+     */
+    public default Optional<Comparator<T>> toRanking(ReadOnlyAddressBook addressBook) {
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,111 @@
+package tutorly.model.filter;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.FuzzyWordIndex;
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} with a word in their {@code Name} that matches any of the keywords given,
+ * allowing for typos. A keyword matches a word if it is within the typo tolerance of the word, ignoring case.
+ * Matches are ranked by their score, so that persons who match more keywords, or match them more closely, come first.
+ *
+ * @see FuzzyWordIndex#getTypoTolerance(String)
+ */
+public class FuzzyNameFilter implements Filter<Person> {
+    private final List<String> keywords;
+
+    public FuzzyNameFilter(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the persons in {@code addressBook} with a word in their name that matches any of {@code keywords},
+     * allowing for typos, with their scores. Each keyword scores one more than the typo tolerance of the keyword for
+     * an exact match, and one less for each edit needed to match.
+     */
+    public static Map<Person, Integer> getScores(ReadOnlyAddressBook addressBook, List<String> keywords) {
+        Map<Person, Integer> scores = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            int maxScore = FuzzyWordIndex.getTypoTolerance(keyword) + 1;
+            addressBook.getPersonsWithNameNear(keyword)
+                    .forEach((person, distance) -> scores.merge(person, maxScore - distance, Integer::sum));
+        }
+        return scores;
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        return person -> keywords.stream().anyMatch(keyword -> FuzzyWordIndex.getMinDistance(
+                person.getName().fullName, keyword) <= FuzzyWordIndex.getTypoTolerance(keyword));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The matching persons are looked up in the name index of the address book once, so testing a person is a
+     * single set lookup.
+     */
+    @Override
+    public Predicate<Person> compile(ReadOnlyAddressBook addressBook) {
+        return getCandidates(addressBook).orElseThrow()::contains;
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(ReadOnlyAddressBook addressBook) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(getScores(addressBook, keywords).keySet());
+        return Optional.of(matches);
+    }
+
+    @Override
+    public Optional<Comparator<Person>> toRanking(ReadOnlyAddressBook addressBook) {
+        Map<Person, Integer> scores = getScores(addressBook, keywords);
+        return Optional.of(Comparator.comparingInt(person -> -scores.getOrDefault(person, 0)));
+    }
+
+    @Override
+    public int getCost() {
+        return COST_TEXT;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return Set.of();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyNameFilter otherFuzzyNameFilter)) {
+            return false;
+        }
+
+        return keywords.equals(otherFuzzyNameFilter.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+
+}
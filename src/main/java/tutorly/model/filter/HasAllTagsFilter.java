@@ -0,0 +1,78 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.model.filter.AttendSessionFilter.getStudents;
+import static tutorly.model.filter.AttendSessionFilter.hasId;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} with a tag named each of the given tag names, ignoring case.
+ * The matching persons are looked up as the intersection of the bitmaps of person IDs kept for each tag.
+ */
+public class HasAllTagsFilter implements Filter<Person> {
+    private final List<String> tagNames;
+
+    public HasAllTagsFilter(List<String> tagNames) {
+        requireNonNull(tagNames);
+        this.tagNames = tagNames;
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        BitSet personIds = addressBook.getPersonIdsWithAllTags(tagNames);
+        return person -> hasId(personIds, person);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return Optional.of(getStudents(addressBook, addressBook.getPersonIdsWithAllTags(tagNames)));
+    }
+
+    @Override
+    public int getCost() {
+        return COST_FIELD;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return Set.of();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HasAllTagsFilter otherHasAllTagsFilter)) {
+            return false;
+        }
+
+        return tagNames.equals(otherHasAllTagsFilter.tagNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tagNames);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tagNames", tagNames).toString();
+    }
+
+}
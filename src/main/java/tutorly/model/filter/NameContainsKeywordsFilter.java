@@ -1,10 +1,14 @@
 package tutorly.model.filter;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.StringUtil;
 import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.person.Person;
 
@@ -20,8 +24,23 @@ public class NameContainsKeywordsFilter implements Filter<Person> {
 
     @Override
     public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
-        return person -> keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        Predicate<String> matcher = StringUtil.containsAnyWordIgnoreCase(keywords);
+        return person -> matcher.test(person.getName().fullName);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(ReadOnlyAddressBook addressBook) {
+        return addressBook.getNameKeywordsCandidates(keywords);
+    }
+
+    @Override
+    public int getCost() {
+        return COST_TEXT;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return Set.of();
     }
 
     @Override
@@ -38,6 +57,11 @@ public class NameContainsKeywordsFilter implements Filter<Person> {
         return keywords.equals(otherNameContainsKeywordsFilter.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,77 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a filter that represents the logical NOT of the given filter.
+ * It has no candidates of its own, as the elements that do not match a filter cannot be looked up from an index.
+ */
+public class NotFilter<T> implements Filter<T> {
+
+    private final Filter<T> filter;
+
+    protected NotFilter(Filter<T> filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook) {
+        return filter.toPredicate(addressBook).negate();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Double negations are dropped, and the negated filter is compiled as usual.
+     */
+    @Override
+    public Predicate<T> compile(ReadOnlyAddressBook addressBook) {
+        if (filter instanceof NotFilter<T> notFilter) {
+            return notFilter.filter.compile(addressBook);
+        }
+        return filter.compile(addressBook).negate();
+    }
+
+    @Override
+    public int getCost() {
+        return filter.getCost();
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return filter.getDependencies();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotFilter otherNotFilter)) {
+            return false;
+        }
+
+        return filter.equals(otherNotFilter.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("filter", filter).toString();
+    }
+
+}
@@ -1,10 +1,14 @@
 package tutorly.model.filter;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.StringUtil;
 import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.AddressBookList;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.session.Session;
 
@@ -20,8 +24,23 @@ public class SubjectContainsKeywordsFilter implements Filter<Session> {
 
     @Override
     public Predicate<Session> toPredicate(ReadOnlyAddressBook addressBook) {
-        return session -> keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(session.getSubject().subjectName, keyword));
+        Predicate<String> matcher = StringUtil.containsAnyWordIgnoreCase(keywords);
+        return session -> matcher.test(session.getSubject().subjectName);
+    }
+
+    @Override
+    public Optional<Set<Session>> getCandidates(ReadOnlyAddressBook addressBook) {
+        return addressBook.getSubjectKeywordsCandidates(keywords);
+    }
+
+    @Override
+    public int getCost() {
+        return COST_TEXT;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return Set.of();
     }
 
     @Override
@@ -38,6 +57,11 @@ public class SubjectContainsKeywordsFilter implements Filter<Session> {
         return keywords.equals(otherSubjectContainsKeywordsFilter.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -64,7 +64,15 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // Names are compared case-insensitively, so each character is folded the way equalsIgnoreCase compares it.
+        // String.toLowerCase cannot be used, as it depends on the locale and may change the number of characters.
+        int hash = 0;
+        for (int i = 0; i < fullName.length(); ) {
+            int codePoint = fullName.codePointAt(i);
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(codePoint));
+            i += Character.charCount(codePoint);
+        }
+        return hash;
     }
 
 }
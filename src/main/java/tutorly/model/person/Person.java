@@ -61,6 +61,13 @@ public class Person {
         this.id = studentId;
     }
 
+    /**
+     * Clears the student ID assigned by {@link AddressBook#addPerson(Person)}, when the addition is rolled back.
+     */
+    public void clearId() {
+        this.id = 0;
+    }
+
     public int getId() {
         return id;
     }
@@ -1,20 +1,45 @@
 package tutorly.model.person;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import tutorly.commons.util.FuzzyWordIndex;
+import tutorly.commons.util.NgramIndex;
+import tutorly.model.tag.Tag;
 import tutorly.model.uniquelist.UniqueList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
- * A person is considered unique by comparing using {@code Person#isSamePerson(Person)}.
+ * A person is considered unique by comparing using {@code Person#isSamePerson(Person)}, so the equivalence key of a
+ * person is its name. Persons are also indexed by ID so that lookups do not require a scan of the list, and by the
+ * n-grams of their name and phone so that keyword searches can rule out most persons without examining their fields.
+ * The words of their names are also kept in a {@code FuzzyWordIndex}, so that misspelt names can be looked up, and the
+ * IDs of the persons with each tag are kept in a bitmap, so that searches for several tags combine bitmaps.
+ * Persons without an ID yet are left out of the bitmaps. Persons in an address book always have an ID, as
+ * {@code AddressBook#addPerson(Person)} assigns one before adding them.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList extends UniqueList<Person> {
 
+    private final Map<Integer, Person> idIndex = new HashMap<>();
+    private final NgramIndex<Person> nameIndex = new NgramIndex<>();
+    private final NgramIndex<Person> phoneIndex = new NgramIndex<>();
+    private final FuzzyWordIndex<Person> nameWordIndex = new FuzzyWordIndex<>();
+
+    // The IDs of the persons with each tag, by the lower case name of the tag
+    private final Map<String, TagPostings> tagIndex = new HashMap<>();
+
     @Override
-    protected boolean isEquivalent(Person a, Person b) {
-        return a.isSamePerson(b);
+    protected Object getEquivalenceKey(Person person) {
+        return person.getName();
     }
 
     @Override
@@ -22,6 +47,47 @@ public class UniquePersonList extends UniqueList<Person> {
         return Integer.compare(a.getId(), b.getId());
     }
 
+    @Override
+    protected void onAdd(Person person) {
+        if (person.getId() != 0) {
+            idIndex.put(person.getId(), person);
+        }
+        nameIndex.add(person, person.getName().fullName);
+        phoneIndex.add(person, person.getPhone().value);
+        nameWordIndex.add(person, person.getName().fullName);
+        if (person.getId() > 0) {
+            for (Tag tag : person.getTags()) {
+                tagIndex.computeIfAbsent(getTagKey(tag.tagName), k -> new TagPostings()).add(person.getId());
+            }
+        }
+    }
+
+    @Override
+    protected void onRemove(Person person) {
+        idIndex.remove(person.getId(), person);
+        nameIndex.remove(person, person.getName().fullName);
+        phoneIndex.remove(person, person.getPhone().value);
+        nameWordIndex.remove(person, person.getName().fullName);
+        if (person.getId() > 0) {
+            for (Tag tag : person.getTags()) {
+                String tagKey = getTagKey(tag.tagName);
+                TagPostings postings = tagIndex.get(tagKey);
+                if (postings != null && postings.remove(person.getId()) == 0) {
+                    tagIndex.remove(tagKey);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void onClear() {
+        idIndex.clear();
+        nameIndex.clear();
+        phoneIndex.clear();
+        nameWordIndex.clear();
+        tagIndex.clear();
+    }
+
     /**
      * Returns the person with the given ID if it exists.
      *
@@ -29,9 +95,7 @@ public class UniquePersonList extends UniqueList<Person> {
      * @return The person with the given ID.
      */
     public Optional<Person> getPersonById(int id) {
-        return internalList.stream()
-                .filter(person -> person.getId() == id)
-                .findFirst();
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
@@ -41,9 +105,113 @@ public class UniquePersonList extends UniqueList<Person> {
      * @return The person with the given name.
      */
     public Optional<Person> getPersonByName(Name name) {
-        return internalList.stream()
-                .filter(person -> person.getName().equals(name))
-                .findFirst();
+        return findByKey(name);
+    }
+
+    /**
+     * Returns the persons that may have a word in their name containing any of {@code keywords}, ignoring case.
+     * The result is a superset of the persons that do, looked up from the name index.
+     */
+    public Set<Person> getNameKeywordsCandidates(Collection<String> keywords) {
+        return nameIndex.getCandidatesForAny(keywords);
+    }
+
+    /**
+     * Returns the persons that may have a word in their phone containing any of {@code keywords}, ignoring case.
+     * The result is a superset of the persons that do, looked up from the phone index.
+     */
+    public Set<Person> getPhoneKeywordsCandidates(Collection<String> keywords) {
+        return phoneIndex.getCandidatesForAny(keywords);
+    }
+
+    /**
+     * Returns the IDs of the persons with a tag named any of {@code tagNames}, ignoring case.
+     * The result is the union of the bitmaps of the tags, and can be modified by the caller.
+     */
+    public BitSet getPersonIdsWithAnyTag(Collection<String> tagNames) {
+        BitSet personIds = new BitSet();
+        for (String tagName : tagNames) {
+            TagPostings postings = tagIndex.get(getTagKey(tagName));
+            if (postings != null) {
+                personIds.or(postings.personIds);
+            }
+        }
+        return personIds;
+    }
+
+    /**
+     * Returns the IDs of the persons with a tag named each of {@code tagNames}, ignoring case.
+     * The result is the intersection of the bitmaps of the tags, and can be modified by the caller.
+     */
+    public BitSet getPersonIdsWithAllTags(Collection<String> tagNames) {
+        List<TagPostings> tagPostings = new ArrayList<>();
+        for (String tagName : tagNames) {
+            TagPostings postings = tagIndex.get(getTagKey(tagName));
+            if (postings == null) {
+                return new BitSet();
+            }
+            tagPostings.add(postings);
+        }
+        if (tagPostings.isEmpty()) {
+            return new BitSet();
+        }
+
+        // Intersects the bitmaps starting from the rarest tag, so that the result only shrinks from there
+        tagPostings.sort(Comparator.comparingInt(postings -> postings.count));
+        BitSet personIds = (BitSet) tagPostings.get(0).personIds.clone();
+        for (int i = 1; i < tagPostings.size() && !personIds.isEmpty(); i++) {
+            personIds.and(tagPostings.get(i).personIds);
+        }
+        return personIds;
+    }
+
+    /**
+     * Returns the key that tags named {@code tagName} are indexed by, which is the same for tag names that are equal
+     * ignoring case.
+     */
+    public static String getTagKey(String tagName) {
+        // Folds each character the way String.equalsIgnoreCase compares them, regardless of the locale.
+        StringBuilder tagKey = new StringBuilder(tagName.length());
+        tagName.codePoints().forEach(codePoint ->
+                tagKey.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return tagKey.toString();
+    }
+
+    /**
+     * The IDs of the persons with a tag, and how many there are, so that tags can be ordered by how common they are
+     * without counting the bits of their bitmaps.
+     */
+    private static class TagPostings {
+        private final BitSet personIds = new BitSet();
+        private int count;
+
+        void add(int personId) {
+            if (!personIds.get(personId)) {
+                personIds.set(personId);
+                count++;
+            }
+        }
+
+        /**
+         * Removes the person with {@code personId}, and returns the number of persons left.
+         */
+        int remove(int personId) {
+            if (personIds.get(personId)) {
+                personIds.clear(personId);
+                count--;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Returns the persons with a word in their name within the typo tolerance of {@code word}, ignoring case.
+     *
+     * @return A map from each person found to the smallest distance between {@code word} and a word in their name.
+     * @see FuzzyWordIndex#getTypoTolerance(String)
+     */
+    public Map<Person, Integer> getPersonsWithNameNear(String word) {
+        return nameWordIndex.search(word, FuzzyWordIndex.getTypoTolerance(word));
     }
 
 }
@@ -48,6 +48,13 @@ public class Session {
         this.id = id;
     }
 
+    /**
+     * Clears the session ID assigned by {@link AddressBook#addSession(Session)}, when the addition is rolled back.
+     */
+    public void clearId() {
+        this.id = 0;
+    }
+
     /**
      * Checks if a date falls within this session
      * Inclusive of start and end date.
@@ -3,6 +3,8 @@ package tutorly.model.session;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import tutorly.commons.util.Interner;
+
 /**
  * Represents a Subject in the system.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubject(String)}
@@ -20,6 +22,8 @@ public class Subject {
      */
     public static final String VALIDATION_REGEX = "[^\\s](?s).*";
 
+    private static final Interner<String, Subject> INTERNER = new Interner<>(Subject::new);
+
     public final String subjectName;
 
     /**
@@ -33,6 +37,17 @@ public class Subject {
         this.subjectName = subjectName;
     }
 
+    /**
+     * Returns the shared {@code Subject} for the given subject name.
+     * Equal values that are parsed or loaded many times are then stored only once.
+     *
+     * @param subjectName A valid subject name.
+     */
+    public static Subject of(String subjectName) {
+        requireNonNull(subjectName);
+        return INTERNER.intern(subjectName);
+    }
+
     /**
      * Returns true if a given string is a valid subject name.
      */
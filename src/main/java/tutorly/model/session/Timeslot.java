@@ -59,6 +59,14 @@ public class Timeslot {
         return !date.isBefore(startTime.toLocalDate()) && !date.isAfter(endTime.toLocalDate());
     }
 
+    /**
+     * Checks if any date from {@code from} to {@code to} falls within this timeslot.
+     * Inclusive of all four dates.
+     */
+    public boolean overlapsDates(LocalDate from, LocalDate to) {
+        return !to.isBefore(startTime.toLocalDate()) && !from.isAfter(endTime.toLocalDate());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
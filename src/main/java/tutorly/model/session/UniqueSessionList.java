@@ -1,20 +1,44 @@
 package tutorly.model.session;
 
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
+import tutorly.commons.util.NgramIndex;
 import tutorly.model.uniquelist.UniqueList;
 
 /**
  * A list of sessions that enforces uniqueness between its elements and does not allow nulls.
- * A session is considered unique by comparing using {@code Session#isSameSession(Session)}.
+ * A session is considered unique by comparing using {@code Session#isSameSession(Session)}, so the equivalence key of a
+ * session is its ID. Sessions are also indexed by start time so that overlap, range and date queries take
+ * O(log n + k) time instead of a scan of the list, and by the n-grams of their subject so that keyword searches can
+ * rule out most sessions.
  *
  * @see Session#isSameSession(Session)
  */
 public class UniqueSessionList extends UniqueList<Session> {
 
+    private final TreeMap<LocalDateTime, List<Session>> startTimeIndex = new TreeMap<>();
+
+    // Multiset of session durations, used to bound how far back an overlapping session can start
+    private final TreeMap<Duration, Integer> durationCounts = new TreeMap<>();
+
+    private final NgramIndex<Session> subjectIndex = new NgramIndex<>();
+
     @Override
-    protected boolean isEquivalent(Session a, Session b) {
-        return a.isSameSession(b);
+    protected Object getEquivalenceKey(Session session) {
+        return session.getId();
     }
 
     @Override
@@ -22,6 +46,37 @@ public class UniqueSessionList extends UniqueList<Session> {
         return Integer.compare(a.getId(), b.getId());
     }
 
+    @Override
+    protected void onAdd(Session session) {
+        startTimeIndex.computeIfAbsent(session.getTimeslot().getStartTime(), k -> new ArrayList<>()).add(session);
+        durationCounts.merge(getDuration(session), 1, Integer::sum);
+        subjectIndex.add(session, session.getSubject().subjectName);
+    }
+
+    @Override
+    protected void onRemove(Session session) {
+        LocalDateTime startTime = session.getTimeslot().getStartTime();
+        List<Session> sessionsAtStartTime = startTimeIndex.get(startTime);
+        if (sessionsAtStartTime != null && sessionsAtStartTime.remove(session) && sessionsAtStartTime.isEmpty()) {
+            startTimeIndex.remove(startTime);
+        }
+
+        durationCounts.computeIfPresent(getDuration(session), (duration, count) -> count == 1 ? null : count - 1);
+        subjectIndex.remove(session, session.getSubject().subjectName);
+    }
+
+    @Override
+    protected void onClear() {
+        startTimeIndex.clear();
+        durationCounts.clear();
+        subjectIndex.clear();
+    }
+
+    private static Duration getDuration(Session session) {
+        Timeslot timeslot = session.getTimeslot();
+        return Duration.between(timeslot.getStartTime(), timeslot.getEndTime());
+    }
+
     /**
      * Returns the session with the given ID if it exists.
      *
@@ -29,9 +84,15 @@ public class UniqueSessionList extends UniqueList<Session> {
      * @return The session with the given ID.
      */
     public Optional<Session> getSessionById(int id) {
-        return internalList.stream()
-                .filter(session -> session.getId() == id)
-                .findFirst();
+        return findByKey(id);
+    }
+
+    /**
+     * Returns the sessions that may have a word in their subject containing any of {@code keywords}, ignoring case.
+     * The result is a superset of the sessions that do, looked up from the subject index.
+     */
+    public Set<Session> getSubjectKeywordsCandidates(Collection<String> keywords) {
+        return subjectIndex.getCandidatesForAny(keywords);
     }
 
     /**
@@ -43,8 +104,78 @@ public class UniqueSessionList extends UniqueList<Session> {
      * @return True if there is an overlapping session, false otherwise.
      */
     public boolean hasOverlappingSession(Session toCheck) {
-        return internalList.stream()
-                .anyMatch(session -> !session.isSameSession(toCheck)
-                        && session.hasOverlappingTimeslot(toCheck));
+        requireNonNull(toCheck);
+        Timeslot timeslot = toCheck.getTimeslot();
+        return getSessionsInRange(timeslot.getStartTime(), timeslot.getEndTime()).stream()
+                .anyMatch(session -> !session.isSameSession(toCheck));
+    }
+
+    /**
+     * Returns the sessions whose timeslots overlap with the range from {@code start} (inclusive) to {@code end}
+     * (exclusive), ordered by their start time.
+     * Only sessions starting within the longest session duration before {@code start} are examined.
+     *
+     * @param start The start of the range.
+     * @param end The end of the range.
+     * @return The sessions that overlap with the range.
+     */
+    public List<Session> getSessionsInRange(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        if (startTimeIndex.isEmpty() || !end.isAfter(start)) {
+            return List.of();
+        }
+
+        LocalDateTime earliestStart = start.minus(durationCounts.lastKey());
+        List<Session> sessionsInRange = new ArrayList<>();
+        for (List<Session> sessionsAtStartTime : startTimeIndex.subMap(earliestStart, false, end, false).values()) {
+            for (Session session : sessionsAtStartTime) {
+                if (session.getTimeslot().getEndTime().isAfter(start)) {
+                    sessionsInRange.add(session);
+                }
+            }
+        }
+        return sessionsInRange;
+    }
+
+    /**
+     * Returns the sessions with a timeslot that falls on any date from {@code from} to {@code to} (both inclusive),
+     * ordered by their start time.
+     * Only sessions starting within the longest session duration before {@code from} are examined.
+     *
+     * @param from The first date of the range.
+     * @param to The last date of the range.
+     * @return The sessions on the dates in the range.
+     */
+    public List<Session> getSessionsOnDates(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (startTimeIndex.isEmpty() || to.isBefore(from)) {
+            return List.of();
+        }
+
+        // Compared from the first start time so that ranges from LocalDate.MIN do not underflow
+        LocalDateTime rangeStart = from.atStartOfDay();
+        LocalDateTime earliestStart = startTimeIndex.firstKey();
+        Duration longestDuration = durationCounts.lastKey();
+        if (earliestStart.plus(longestDuration).isBefore(rangeStart)) {
+            earliestStart = rangeStart.minus(longestDuration);
+        }
+
+        LocalDateTime latestStart = to.atTime(LocalTime.MAX);
+        if (earliestStart.isAfter(latestStart)) {
+            // The range ends before the first session starts
+            return List.of();
+        }
+
+        List<Session> sessionsOnDates = new ArrayList<>();
+        NavigableMap<LocalDateTime, List<Session>> candidates = startTimeIndex.subMap(earliestStart, true,
+                latestStart, true);
+        for (List<Session> sessionsAtStartTime : candidates.values()) {
+            for (Session session : sessionsAtStartTime) {
+                if (session.getTimeslot().overlapsDates(from, to)) {
+                    sessionsOnDates.add(session);
+                }
+            }
+        }
+        return sessionsOnDates;
     }
 }
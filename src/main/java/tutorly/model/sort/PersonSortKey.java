@@ -0,0 +1,135 @@
+package tutorly.model.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+
+/**
+ * Represents the keys that a list of persons can be sorted by.
+ */
+public enum PersonSortKey implements SortKey<Person> {
+
+    /**
+     * Sorts persons by name in alphabetical order, ignoring case.
+     */
+    NAME("name") {
+        @Override
+        public Comparator<Person> toComparator(ReadOnlyAddressBook addressBook) {
+            return Comparator.comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+        }
+    },
+
+    /**
+     * Sorts persons by the start time of the earliest session they attend that has not ended yet, from the soonest.
+     */
+    UPCOMING("upcoming", AddressBookList.SESSIONS, AddressBookList.ATTENDANCE_RECORDS) {
+        @Override
+        public Comparator<Person> toComparator(ReadOnlyAddressBook addressBook) {
+            requireNonNull(addressBook);
+            LocalDateTime now = LocalDateTime.now();
+            Map<Integer, Session> sessions = getSessionsById(addressBook);
+
+            Map<Integer, LocalDateTime> nextSessionTimes = new HashMap<>();
+            for (AttendanceRecord record : addressBook.getAttendanceRecordsList()) {
+                Session session = sessions.get(record.getSessionId());
+                if (session == null || !session.getTimeslot().getEndTime().isAfter(now)) {
+                    continue;
+                }
+                nextSessionTimes.merge(record.getStudentId(), session.getTimeslot().getStartTime(),
+                        (time, otherTime) -> time.isBefore(otherTime) ? time : otherTime);
+            }
+            return byStudentId(nextSessionTimes::get, Comparator.naturalOrder());
+        }
+    },
+
+    /**
+     * Sorts persons by the percentage of their sessions they were present for, from the lowest.
+     */
+    ATTENDANCE("attendance", AddressBookList.ATTENDANCE_RECORDS) {
+        @Override
+        public Comparator<Person> toComparator(ReadOnlyAddressBook addressBook) {
+            requireNonNull(addressBook);
+
+            // Counts of present and total records for each student
+            Map<Integer, int[]> counts = new HashMap<>();
+            for (AttendanceRecord record : addressBook.getAttendanceRecordsList()) {
+                int[] studentCounts = counts.computeIfAbsent(record.getStudentId(), k -> new int[2]);
+                studentCounts[0] += record.getAttendance() ? 1 : 0;
+                studentCounts[1]++;
+            }
+
+            Map<Integer, Double> rates = new HashMap<>();
+            counts.forEach((studentId, studentCounts) ->
+                    rates.put(studentId, (double) studentCounts[0] / studentCounts[1]));
+            return byStudentId(rates::get, Comparator.naturalOrder());
+        }
+    },
+
+    /**
+     * Sorts persons by the start time of the latest session they were given feedback for, from the most recent.
+     */
+    FEEDBACK("feedback", AddressBookList.SESSIONS, AddressBookList.ATTENDANCE_RECORDS) {
+        @Override
+        public Comparator<Person> toComparator(ReadOnlyAddressBook addressBook) {
+            requireNonNull(addressBook);
+            Map<Integer, Session> sessions = getSessionsById(addressBook);
+
+            Map<Integer, LocalDateTime> feedbackTimes = new HashMap<>();
+            for (AttendanceRecord record : addressBook.getAttendanceRecordsList()) {
+                Session session = sessions.get(record.getSessionId());
+                if (session == null || record.getFeedback().value.isEmpty()) {
+                    continue;
+                }
+                feedbackTimes.merge(record.getStudentId(), session.getTimeslot().getStartTime(),
+                        (time, otherTime) -> time.isAfter(otherTime) ? time : otherTime);
+            }
+            return byStudentId(feedbackTimes::get, Comparator.<LocalDateTime>naturalOrder().reversed());
+        }
+    };
+
+    private final String keyword;
+    private final Set<AddressBookList> dependencies;
+
+    PersonSortKey(String keyword, AddressBookList... dependencies) {
+        this.keyword = keyword;
+        this.dependencies = Set.of(dependencies);
+    }
+
+    @Override
+    public String getKeyword() {
+        return keyword;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Returns a comparator that orders persons by the value that {@code values} maps their ID to, with persons
+     * without a value last.
+     */
+    private static <V> Comparator<Person> byStudentId(Function<Integer, V> values, Comparator<V> order) {
+        return Comparator.comparing(person -> values.apply(person.getId()), Comparator.nullsLast(order));
+    }
+
+    private static Map<Integer, Session> getSessionsById(ReadOnlyAddressBook addressBook) {
+        Map<Integer, Session> sessions = new HashMap<>();
+        for (Session session : addressBook.getSessionList()) {
+            sessions.put(session.getId(), session);
+        }
+        return sessions;
+    }
+
+}
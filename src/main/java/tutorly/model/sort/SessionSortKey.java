@@ -0,0 +1,82 @@
+package tutorly.model.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.session.Session;
+
+/**
+ * Represents the keys that a list of sessions can be sorted by.
+ */
+public enum SessionSortKey implements SortKey<Session> {
+
+    /**
+     * Sorts sessions by start time, from the earliest.
+     */
+    TIME("time") {
+        @Override
+        public Comparator<Session> toComparator(ReadOnlyAddressBook addressBook) {
+            return Comparator.comparing(session -> session.getTimeslot().getStartTime());
+        }
+    },
+
+    /**
+     * Sorts sessions by subject in alphabetical order, ignoring case.
+     */
+    SUBJECT("subject") {
+        @Override
+        public Comparator<Session> toComparator(ReadOnlyAddressBook addressBook) {
+            return Comparator.comparing(session -> session.getSubject().subjectName, String.CASE_INSENSITIVE_ORDER);
+        }
+    },
+
+    /**
+     * Sorts sessions by the percentage of their students who were present, from the lowest.
+     */
+    ATTENDANCE("attendance", AddressBookList.ATTENDANCE_RECORDS) {
+        @Override
+        public Comparator<Session> toComparator(ReadOnlyAddressBook addressBook) {
+            requireNonNull(addressBook);
+
+            // Counts of present and total records for each session
+            Map<Integer, int[]> counts = new HashMap<>();
+            for (AttendanceRecord record : addressBook.getAttendanceRecordsList()) {
+                int[] sessionCounts = counts.computeIfAbsent(record.getSessionId(), k -> new int[2]);
+                sessionCounts[0] += record.getAttendance() ? 1 : 0;
+                sessionCounts[1]++;
+            }
+
+            Map<Integer, Double> rates = new HashMap<>();
+            counts.forEach((sessionId, sessionCounts) ->
+                    rates.put(sessionId, (double) sessionCounts[0] / sessionCounts[1]));
+            return Comparator.comparing(session -> rates.get(session.getId()),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+        }
+    };
+
+    private final String keyword;
+    private final Set<AddressBookList> dependencies;
+
+    SessionSortKey(String keyword, AddressBookList... dependencies) {
+        this.keyword = keyword;
+        this.dependencies = Set.of(dependencies);
+    }
+
+    @Override
+    public String getKeyword() {
+        return keyword;
+    }
+
+    @Override
+    public Set<AddressBookList> getDependencies() {
+        return dependencies;
+    }
+
+}
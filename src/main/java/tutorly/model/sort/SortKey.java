@@ -0,0 +1,37 @@
+package tutorly.model.sort;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Set;
+
+import tutorly.model.AddressBookList;
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a key that a list of objects can be sorted by.
+ */
+public interface SortKey<T> {
+
+    /**
+     * Returns the keyword that the user enters to sort by this key.
+     */
+    public String getKeyword();
+
+    /**
+     * Returns a comparator that orders elements by this key, with elements that have no value for the key last.
+     * Values that do not depend on the element, such as the attendance of every student, are looked up once here
+     * instead of on every comparison.
+     *
+     * @param addressBook The address book context.
+     * @return A comparator that can be used for sorting.
+     */
+    public Comparator<T> toComparator(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns the lists of the address book, other than the list being sorted, that the order of this key depends on.
+     */
+    public default Set<AddressBookList> getDependencies() {
+        return EnumSet.allOf(AddressBookList.class);
+    }
+
+}
@@ -0,0 +1,72 @@
+package tutorly.model.sort;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import tutorly.commons.util.ToStringBuilder;
+
+/**
+ * Represents the order that a list of objects is shown in, and how many of them are shown.
+ */
+public class SortOrder<T> {
+
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    public static final String MESSAGE_CONSTRAINTS = "The limit must be a positive number.";
+
+    private final Optional<SortKey<T>> key;
+    private final int limit;
+
+    /**
+     * Constructs an order that sorts by {@code key}, if present, and shows at most the first {@code limit} elements.
+     */
+    public SortOrder(Optional<SortKey<T>> key, int limit) {
+        requireNonNull(key);
+        checkArgument(limit > 0, MESSAGE_CONSTRAINTS);
+        this.key = key;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns an order that keeps the elements in their existing order and shows all of them.
+     */
+    public static <T> SortOrder<T> none() {
+        return new SortOrder<>(Optional.empty(), NO_LIMIT);
+    }
+
+    public Optional<SortKey<T>> getKey() {
+        return key;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortOrder<?> otherSortOrder)) {
+            return false;
+        }
+
+        return key.equals(otherSortOrder.key) && limit == otherSortOrder.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, limit);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("key", key).add("limit", limit).toString();
+    }
+
+}
@@ -3,6 +3,8 @@ package tutorly.model.tag;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import tutorly.commons.util.Interner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -21,6 +23,8 @@ public class Tag {
      */
     public static final String VALIDATION_REGEX = "[^\\s](?s).*";
 
+    private static final Interner<String, Tag> INTERNER = new Interner<>(Tag::new);
+
     public final String tagName;
 
     /**
@@ -34,6 +38,17 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} for the given tag name.
+     * Equal values that are parsed or loaded many times are then stored only once.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return INTERNER.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -3,37 +3,72 @@ package tutorly.model.uniquelist;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import tutorly.commons.util.BatchObservableList;
 import tutorly.commons.util.ObservableListUtil;
 import tutorly.model.uniquelist.exceptions.DuplicateElementException;
 import tutorly.model.uniquelist.exceptions.ElementNotFoundException;
 
 /**
  * A list that enforces uniqueness between its elements and does not allow nulls.
- * An element is considered unique by comparing using {@code UniqueList<T>#isEquivalent(T, T)}. As such, adding and
- * updating of elements uses {@code UniqueList<T>#isEquivalent(T, T)} for equivalence so as to ensure that the element
- * being added or updated is unique in the UniqueList. However, the removal of an element uses {@code T#equals(Object)}
- * so as to ensure that the exact element will be removed.
+ * An element is considered unique by comparing its key from {@code UniqueList<T>#getEquivalenceKey(T)}. As such, adding
+ * and updating of elements uses the equivalence key so as to ensure that the element being added or updated is unique
+ * in the UniqueList. Elements are indexed by their equivalence key, so equivalence checks take constant time, unless
+ * a subclass looks up keys in its own backing list.
+ * However, the removal of an element uses {@code T#equals(Object)} so as to ensure that the exact element will be
+ * removed.
  * Order can be enforced by implementing {@code UniqueList<T>#compare(T, T)}. This guarantees that the list will always
- * be sorted in the defined order.
+ * be sorted in the defined order. Elements are inserted at their sorted position using binary search, so that each
+ * modification is reported to listeners as a single change rather than a re-sort of the whole list.
  * <p>
  * Supports a minimal set of list operations.
  */
 public class UniqueList<T> implements Iterable<T> {
 
-    protected final ObservableList<T> internalList = ObservableListUtil.arrayList();
-    protected final ObservableList<T> internalUnmodifiableList = ObservableListUtil.unmodifiableList(internalList);
+    protected final BatchObservableList<T> internalList;
+    protected final ObservableList<T> internalUnmodifiableList;
+
+    // Null if the subclass looks up elements by key itself
+    private final Map<Object, T> keyIndex;
+
+    private long version = 0;
+
+    /**
+     * Constructs an empty list that indexes its elements by equivalence key.
+     */
+    public UniqueList() {
+        this.internalList = new BatchObservableList<>();
+        this.internalUnmodifiableList = ObservableListUtil.unmodifiableList(internalList);
+        this.keyIndex = new HashMap<>();
+    }
+
+    /**
+     * Constructs an empty list backed by {@code internalList} that does not index its elements by equivalence key.
+     * Subclasses using this constructor must override {@code UniqueList<T>#findByKey(Object)}.
+     */
+    protected UniqueList(BatchObservableList<T> internalList) {
+        requireNonNull(internalList);
+        this.internalList = internalList;
+        this.internalUnmodifiableList = ObservableListUtil.unmodifiableList(internalList);
+        this.keyIndex = null;
+    }
 
     /**
      * Returns true if the list contains an equivalent element as the given argument.
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(element -> isEquivalent(element, toCheck));
+        return findByKey(getEquivalenceKey(toCheck)).isPresent();
     }
 
     /**
@@ -41,9 +76,15 @@ public class UniqueList<T> implements Iterable<T> {
      */
     public Optional<T> find(T toFind) {
         requireNonNull(toFind);
-        return internalList.stream()
-                .filter(element -> isEquivalent(element, toFind))
-                .findFirst();
+        return findByKey(getEquivalenceKey(toFind));
+    }
+
+    /**
+     * Returns the element in the list with the given equivalence key.
+     */
+    protected Optional<T> findByKey(Object key) {
+        requireNonNull(keyIndex);
+        return Optional.ofNullable(keyIndex.get(key));
     }
 
     /**
@@ -56,8 +97,10 @@ public class UniqueList<T> implements Iterable<T> {
             throw new DuplicateElementException();
         }
 
-        internalList.add(toAdd);
-        internalList.sort(this::compare);
+        indexKey(toAdd);
+        onAdd(toAdd);
+        version++;
+        internalList.add(upperBound(toAdd), toAdd);
     }
 
     /**
@@ -68,7 +111,7 @@ public class UniqueList<T> implements Iterable<T> {
     public void set(T target, T edited) {
         requireAllNonNull(target, edited);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ElementNotFoundException();
         }
@@ -77,8 +120,29 @@ public class UniqueList<T> implements Iterable<T> {
             throw new DuplicateElementException();
         }
 
-        internalList.set(index, edited);
-        internalList.sort(this::compare);
+        T replaced = internalList.get(index);
+        unindexKey(replaced);
+        indexKey(edited);
+        onRemove(replaced);
+        onAdd(edited);
+        version++;
+
+        boolean isAfterPrevious = index == 0 || compare(internalList.get(index - 1), edited) <= 0;
+        boolean isBeforeNext = index == internalList.size() - 1 || compare(edited, internalList.get(index + 1)) <= 0;
+        if (isAfterPrevious && isBeforeNext) {
+            internalList.set(index, edited);
+            return;
+        }
+
+        // Move the element to its new sorted position, reported to listeners as a single change.
+        // Equal elements keep their relative order, as they would under a stable sort.
+        internalList.beginBatch();
+        try {
+            internalList.remove(index);
+            internalList.add(isAfterPrevious ? lowerBound(edited) : upperBound(edited), edited);
+        } finally {
+            internalList.endBatch();
+        }
     }
 
     /**
@@ -87,9 +151,42 @@ public class UniqueList<T> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ElementNotFoundException();
         }
+
+        T removed = internalList.get(index);
+        unindexKey(removed);
+        onRemove(removed);
+        version++;
+        internalList.remove(index);
+    }
+
+    /**
+     * Removes the elements from index {@code from} (inclusive) to {@code to} (exclusive) as a single change.
+     */
+    protected void removeRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            T removed = internalList.get(i);
+            unindexKey(removed);
+            onRemove(removed);
+        }
+        version++;
+        internalList.remove(from, to);
+    }
+
+    /**
+     * Removes the elements at the indices set in {@code indices} as a single change.
+     */
+    protected void removeIndices(BitSet indices) {
+        indices.stream().forEach(i -> {
+            T removed = internalList.get(i);
+            unindexKey(removed);
+            onRemove(removed);
+        });
+        version++;
+        internalList.removeIndices(indices);
     }
 
     /**
@@ -110,8 +207,40 @@ public class UniqueList<T> implements Iterable<T> {
             throw new DuplicateElementException();
         }
 
-        internalList.setAll(replacement);
-        internalList.sort(this::compare);
+        List<T> sortedReplacement = new ArrayList<>(replacement);
+        sortedReplacement.sort(this::compare);
+
+        clearKeys();
+        onClear();
+        for (T element : sortedReplacement) {
+            indexKey(element);
+            onAdd(element);
+        }
+        version++;
+        internalList.setAll(sortedReplacement);
+    }
+
+    /**
+     * Starts grouping subsequent modifications of the list into a single change event.
+     * Every call must be matched by a call to {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the current batch of modifications, notifying listeners once the outermost batch ends.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the elements of the list, which is not affected by later modifications.
+     * Snapshots share storage with the list until it is next modified.
+     */
+    public List<T> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -121,6 +250,13 @@ public class UniqueList<T> implements Iterable<T> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the version of the list, which increases with every modification of the list.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Returns the number of elements in the list. If the list contains more than {@code Integer.MAX_VALUE} elements,
      * returns {@code Integer.MAX_VALUE}.
@@ -133,6 +269,9 @@ public class UniqueList<T> implements Iterable<T> {
      * Removes all elements from the list.
      */
     public void clear() {
+        clearKeys();
+        onClear();
+        version++;
         internalList.clear();
     }
 
@@ -165,15 +304,85 @@ public class UniqueList<T> implements Iterable<T> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the index of the element in the list that is equal to {@code element}, or -1 if there is none.
+     * The sorted range of elements that compare equal to {@code element} is searched first.
+     */
+    private int indexOf(T element) {
+        for (int i = lowerBound(element); i < internalList.size(); i++) {
+            T candidate = internalList.get(i);
+            if (compare(candidate, element) != 0) {
+                break;
+            }
+            if (candidate.equals(element)) {
+                return i;
+            }
+        }
+
+        // Fall back to a full search in case the element's ordering fields differ from those of the listed element
+        return internalList.indexOf(element);
+    }
+
+    /**
+     * Returns the index of the first element in the list that does not compare less than {@code element}.
+     */
+    private int lowerBound(T element) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(internalList.get(mid), element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element in the list that compares greater than {@code element}.
+     */
+    private int upperBound(T element) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(internalList.get(mid), element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void indexKey(T element) {
+        if (keyIndex != null) {
+            keyIndex.put(getEquivalenceKey(element), element);
+        }
+    }
+
+    private void unindexKey(T element) {
+        if (keyIndex != null) {
+            keyIndex.remove(getEquivalenceKey(element));
+        }
+    }
+
+    private void clearKeys() {
+        if (keyIndex != null) {
+            keyIndex.clear();
+        }
+    }
+
     /**
      * Returns true if the list contains only unique elements.
      */
     private boolean elementsAreUnique(List<T> list) {
-        for (int i = 0; i < list.size() - 1; i++) {
-            for (int j = i + 1; j < list.size(); j++) {
-                if (isEquivalent(list.get(i), list.get(j))) {
-                    return false;
-                }
+        Set<Object> keys = new HashSet<>();
+        for (T element : list) {
+            if (!keys.add(getEquivalenceKey(element))) {
+                return false;
             }
         }
         return true;
@@ -183,9 +392,35 @@ public class UniqueList<T> implements Iterable<T> {
      * Returns true if two elements are equivalent, and false otherwise.
      */
     protected boolean isEquivalent(T element1, T element2) {
-        return element1.equals(element2);
+        return getEquivalenceKey(element1).equals(getEquivalenceKey(element2));
+    }
+
+    /**
+     * Returns the key that identifies {@code element} in the list. Two elements are equivalent if and only if their
+     * keys are equal, so the key must implement {@code equals} and {@code hashCode} consistently.
+     */
+    protected Object getEquivalenceKey(T element) {
+        return element;
     }
 
+    /**
+     * Called before {@code element} is added to the list.
+     * Subclasses can override this to keep their indexes in sync with the list.
+     */
+    protected void onAdd(T element) {}
+
+    /**
+     * Called before {@code element} is removed from the list.
+     * Subclasses can override this to keep their indexes in sync with the list.
+     */
+    protected void onRemove(T element) {}
+
+    /**
+     * Called before all elements are removed from the list.
+     * Subclasses can override this to keep their indexes in sync with the list.
+     */
+    protected void onClear() {}
+
     /**
      * Compares two elements and returns an integer indicating their order.
      *
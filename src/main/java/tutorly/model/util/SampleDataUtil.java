@@ -53,12 +53,12 @@ public class SampleDataUtil {
                     new Timeslot(
                             LocalDateTime.of(2025, 2, 20, 11, 30),
                             LocalDateTime.of(2025, 2, 20, 13, 30)),
-                    new Subject("Math")),
+                    Subject.of("Math")),
             new Session(
                     new Timeslot(
                             LocalDateTime.of(2025, 2, 21, 23, 0),
                             LocalDateTime.of(2025, 2, 22, 1, 0)),
-                    new Subject("English")),
+                    Subject.of("English")),
         };
     }
 
@@ -95,7 +95,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,118 @@
+package tutorly.storage;
+
+import static tutorly.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_ATTENDANCE_RECORD;
+import static tutorly.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+import static tutorly.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_SESSION;
+import static tutorly.storage.JsonSerializableAddressBook.MESSAGE_ILLEGAL_NEXT_PERSON_ID;
+import static tutorly.storage.JsonSerializableAddressBook.MESSAGE_ILLEGAL_NEXT_SESSION_ID;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import tutorly.commons.core.LogsCenter;
+import tutorly.commons.exceptions.IllegalValueException;
+import tutorly.model.AddressBook;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+
+/**
+ * Builds an {@code AddressBook} from persons, sessions and attendance records that are added to it one at a time as
+ * they are read, and validates them as they are added.
+ * The next person and session IDs are only checked once they are known, when the address book is built.
+ * Attendance records must be added after the persons and sessions they refer to.
+ */
+class AddressBookLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    // Raises its next IDs past the IDs of the persons and sessions added, so that they can be checked at the end
+    private final AddressBook addressBook = new AddressBook();
+    private int orphanCount;
+
+    /**
+     * Returns an {@code AddressBook} with the given persons, sessions and attendance records.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook load(List<Person> persons, List<Session> sessions, List<AttendanceRecord> attendanceRecords,
+            int nextPersonId, int nextSessionId) throws IllegalValueException {
+        AddressBookLoader loader = new AddressBookLoader();
+        for (Person person : persons) {
+            loader.addPerson(person);
+        }
+        for (Session session : sessions) {
+            loader.addSession(session);
+        }
+        for (AttendanceRecord attendanceRecord : attendanceRecords) {
+            loader.addAttendanceRecord(attendanceRecord);
+        }
+        return loader.build(nextPersonId, nextSessionId);
+    }
+
+    /**
+     * Adds {@code person} to the address book.
+     *
+     * @throws IllegalValueException if the address book already has the person.
+     */
+    void addPerson(Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Adds {@code session} to the address book.
+     *
+     * @throws IllegalValueException if the address book already has the session.
+     */
+    void addSession(Session session) throws IllegalValueException {
+        if (addressBook.hasSession(session)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SESSION);
+        }
+        addressBook.addSession(session);
+    }
+
+    /**
+     * Adds {@code attendanceRecord} to the address book, unless its student or session is not in the address book.
+     *
+     * @throws IllegalValueException if the address book already has the attendance record.
+     */
+    void addAttendanceRecord(AttendanceRecord attendanceRecord) throws IllegalValueException {
+        if (addressBook.hasAttendanceRecord(attendanceRecord)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE_RECORD);
+        }
+        if (addressBook.getPersonById(attendanceRecord.getStudentId()).isEmpty()
+                || addressBook.getSessionById(attendanceRecord.getSessionId()).isEmpty()) {
+            // Drop records of deleted students or sessions left behind by earlier versions
+            orphanCount++;
+            return;
+        }
+        addressBook.addAttendanceRecord(attendanceRecord);
+    }
+
+    /**
+     * Returns the address book with the given next person and session IDs.
+     *
+     * @throws IllegalValueException if a next ID is not greater than the IDs of the persons or sessions added, or is
+     *     not positive.
+     */
+    AddressBook build(int nextPersonId, int nextSessionId) throws IllegalValueException {
+        // The next IDs of the address book start at 1 and are one more than the largest ID added
+        if (nextPersonId < addressBook.getNextPersonId()) {
+            throw new IllegalValueException(MESSAGE_ILLEGAL_NEXT_PERSON_ID);
+        }
+        if (nextSessionId < addressBook.getNextSessionId()) {
+            throw new IllegalValueException(MESSAGE_ILLEGAL_NEXT_SESSION_ID);
+        }
+
+        if (orphanCount > 0) {
+            logger.warning("Dropped " + orphanCount + " attendance record(s) of students or sessions that no "
+                    + "longer exist");
+        }
+        addressBook.setNextIds(nextPersonId, nextSessionId);
+        return addressBook;
+    }
+
+}
@@ -2,6 +2,7 @@ package tutorly.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import tutorly.commons.exceptions.DataLoadingException;
@@ -18,6 +19,13 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the paths of all the files that may hold the data, starting with the data file.
+     */
+    default List<Path> getDataFilePaths() {
+        return List.of(getAddressBookFilePath());
+    }
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
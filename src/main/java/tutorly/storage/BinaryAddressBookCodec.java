@@ -0,0 +1,266 @@
+package tutorly.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tutorly.commons.exceptions.IllegalValueException;
+import tutorly.model.AddressBook;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.model.session.Timeslot;
+import tutorly.model.tag.Tag;
+
+/**
+ * Encodes an AddressBook in a compact, versioned binary format, and decodes it back.
+ * <p>
+ * The encoding starts with {@link #MAGIC} and the format {@link #VERSION}, followed by the next person and session
+ * IDs, a table of the tag names and subjects used, and then the persons, sessions and attendance records. Integers
+ * are written as variable-length quantities, so small IDs take one byte, tags and subjects are written as indices into
+ * the table, and timeslots are written as the second they start at and their length in seconds.
+ * Fractions of a second are not kept. Version 1 wrote timeslots in minutes, which also dropped the seconds of their
+ * times, and can still be read.
+ * Decoded elements are validated as when they are read from JSON.
+ */
+class BinaryAddressBookCodec {
+
+    public static final int MAGIC = 0x54555442; // "TUTB"
+    public static final int VERSION = 2;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %1$d is not supported.";
+    public static final String MESSAGE_CORRUPT = "Binary address book is corrupt.";
+
+    private static final int MINUTE_VERSION = 1;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private BinaryAddressBookCodec() {}
+
+    /**
+     * Writes {@code addressBook} to {@code outputStream}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        writeVarInt(out, VERSION);
+        writeVarInt(out, addressBook.getNextPersonId());
+        writeVarInt(out, addressBook.getNextSessionId());
+
+        List<String> strings = new ArrayList<>();
+        Map<String, Integer> stringIndices = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                stringIndices.computeIfAbsent(tag.tagName, string -> addString(strings, string));
+            }
+        }
+        for (Session session : addressBook.getSessionList()) {
+            stringIndices.computeIfAbsent(session.getSubject().subjectName, string -> addString(strings, string));
+        }
+        writeVarInt(out, strings.size());
+        for (String string : strings) {
+            writeString(out, string);
+        }
+
+        writeVarInt(out, addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writeVarInt(out, person.getId());
+            writeString(out, person.getName().fullName);
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getEmail().value);
+            writeString(out, person.getAddress().value);
+            writeString(out, person.getMemo().value);
+            writeVarInt(out, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarInt(out, stringIndices.get(tag.tagName));
+            }
+        }
+
+        writeVarInt(out, addressBook.getSessionList().size());
+        for (Session session : addressBook.getSessionList()) {
+            Timeslot timeslot = session.getTimeslot();
+            long startSecond = toEpochSecond(timeslot.getStartTime());
+            writeVarInt(out, session.getId());
+            writeVarLong(out, (startSecond << 1) ^ (startSecond >> 63));
+            writeVarLong(out, toEpochSecond(timeslot.getEndTime()) - startSecond);
+            writeVarInt(out, stringIndices.get(session.getSubject().subjectName));
+        }
+
+        writeVarInt(out, addressBook.getAttendanceRecordsList().size());
+        for (AttendanceRecord record : addressBook.getAttendanceRecordsList()) {
+            writeVarInt(out, record.getStudentId());
+            writeVarInt(out, record.getSessionId());
+            out.writeBoolean(record.getAttendance());
+            writeString(out, record.getFeedback().value);
+        }
+
+        out.flush();
+    }
+
+    private static int addString(List<String> strings, String string) {
+        strings.add(string);
+        return strings.size() - 1;
+    }
+
+    /**
+     * Reads an address book from {@code inputStream}.
+     *
+     * @throws IOException if the stream could not be read or does not hold a binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream inputStream) throws IOException, IllegalValueException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = readVarInt(in);
+        if (version != VERSION && version != MINUTE_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int secondsPerUnit = version == MINUTE_VERSION ? SECONDS_PER_MINUTE : 1;
+        int nextPersonId = readVarInt(in);
+        int nextSessionId = readVarInt(in);
+
+        int stringCount = readCount(in);
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(readString(in));
+        }
+
+        AddressBookLoader loader = new AddressBookLoader();
+        int personCount = readCount(in);
+        for (int i = 0; i < personCount; i++) {
+            int id = readVarInt(in);
+            String name = readString(in);
+            String phone = readString(in);
+            String email = readString(in);
+            String address = readString(in);
+            String memo = readString(in);
+            int tagCount = readCount(in);
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int j = 0; j < tagCount; j++) {
+                tags.add(new JsonAdaptedTag(readString(in, strings)));
+            }
+            loader.addPerson(new JsonAdaptedPerson(id, name, phone, email, address, tags, memo).toModelType());
+        }
+
+        int sessionCount = readCount(in);
+        for (int i = 0; i < sessionCount; i++) {
+            int id = readVarInt(in);
+            long encodedStart = readVarLong(in);
+            long start = (encodedStart >>> 1) ^ -(encodedStart & 1);
+            long length = readVarLong(in);
+            String subject = readString(in, strings);
+            loader.addSession(JsonAdaptedSession.toModelType(id, fromEpochSecond(start, secondsPerUnit),
+                    fromEpochSecond(start + length, secondsPerUnit), subject));
+        }
+
+        int recordCount = readCount(in);
+        for (int i = 0; i < recordCount; i++) {
+            int studentId = readVarInt(in);
+            int sessionId = readVarInt(in);
+            boolean isPresent = in.readBoolean();
+            String feedback = readString(in);
+            loader.addAttendanceRecord(
+                    new JsonAdaptedAttendanceRecord(studentId, sessionId, isPresent, feedback).toModelType());
+        }
+
+        return loader.build(nextPersonId, nextSessionId);
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        // Fractions of a second are dropped, as only hand-edited data files can have them
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the date-time {@code epochTime} units of {@code secondsPerUnit} seconds after the epoch.
+     */
+    private static LocalDateTime fromEpochSecond(long epochTime, int secondsPerUnit) throws IOException {
+        try {
+            return LocalDateTime.ofEpochSecond(Math.multiplyExact(epochTime, secondsPerUnit), 0, ZoneOffset.UTC);
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new IOException(MESSAGE_CORRUPT, e);
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, Integer.toUnsignedLong(value));
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        if ((value >>> Integer.SIZE) != 0) {
+            throw new IOException(MESSAGE_CORRUPT);
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_CORRUPT);
+    }
+
+    /**
+     * Reads the number of elements or bytes that follow.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = readVarInt(in);
+        if (count < 0) {
+            throw new IOException(MESSAGE_CORRUPT);
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readCount(in);
+        // Read without allocating the whole length up front, as a corrupt length could be very large
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readString(DataInputStream in, List<String> strings) throws IOException {
+        int index = readVarInt(in);
+        if (index < 0 || index >= strings.size()) {
+            throw new IOException(MESSAGE_CORRUPT);
+        }
+        return strings.get(index);
+    }
+
+}
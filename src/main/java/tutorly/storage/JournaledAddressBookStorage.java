@@ -0,0 +1,375 @@
+package tutorly.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import tutorly.commons.core.LogsCenter;
+import tutorly.commons.exceptions.DataLoadingException;
+import tutorly.commons.exceptions.IllegalValueException;
+import tutorly.commons.util.FileUtil;
+import tutorly.commons.util.JsonUtil;
+import tutorly.model.AddressBookChanges;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.AttendanceRecordKey;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot and a journal of changes on the hard disk.
+ * Saving the address book appends the persons, sessions and attendance records changed since the last save to the
+ * journal, instead of rewriting the whole snapshot. The changes are collected from the changes recorded by the address
+ * book, so saving does not compare the address book with the last saved one. An address book whose changes since the
+ * last save are not known, such as one whose lists were replaced as a whole, is written as a full snapshot instead.
+ * Reading the address book replays the journal on top of the snapshot. Once the journal grows past the compaction
+ * threshold, it is folded into a fresh snapshot in the background.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.old";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    // The changes up to the version of the address book last read from or saved to the file path, if known
+    private AddressBookChanges savedChanges;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the snapshot at {@code filePath} that compacts its journal
+     * once the journal holds at least {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<Path> getDataFilePaths() {
+        return List.of(filePath, getCompactingJournalPath(filePath), getJournalPath(filePath));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        awaitCompaction();
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        ReadOnlyAddressBook addressBook = JsonAddressBookStorage.readAddressBookFile(filePath);
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        Path journalPath = getJournalPath(filePath);
+        if (FileUtil.isFileExists(compactingJournalPath) || FileUtil.isFileExists(journalPath)) {
+            Replay replay = new Replay(addressBook);
+            replayJournal(compactingJournalPath, replay);
+            replayJournal(journalPath, replay);
+            try {
+                addressBook = replay.toModelType();
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedChanges = addressBook.getChanges().orElse(null);
+        }
+        return Optional.of(addressBook);
+    }
+
+    private void replayJournal(Path journalPath, Replay replay) throws DataLoadingException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading from journal file " + journalPath + ": " + e);
+                    throw new DataLoadingException(e);
+                }
+                // The last entry was only partly written when the app was stopped, so it was never saved
+                logger.warning("Ignoring incomplete last entry of journal file " + journalPath);
+                continue;
+            }
+
+            try {
+                replay.apply(entry);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only changes to the address book at the file path of this storage are journaled, and address books saved to
+     * other file paths are written as a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(new JsonSerializableAddressBook(addressBook), filePath);
+            Files.deleteIfExists(getCompactingJournalPath(filePath));
+            Files.deleteIfExists(getJournalPath(filePath));
+            return;
+        }
+
+        Optional<AddressBookChanges> currentChanges = addressBook.getChanges();
+        Optional<AddressBookChanges> changes = savedChanges == null
+                ? Optional.empty()
+                : currentChanges.flatMap(current -> current.getChangesSince(savedChanges));
+        if (changes.isEmpty() || changes.get().isReset() || !FileUtil.isFileExists(filePath)) {
+            compact(addressBook);
+            return;
+        }
+
+        if (changes.get().isEmpty() && changes.get().getNextPersonId() == savedChanges.getNextPersonId()
+                && changes.get().getNextSessionId() == savedChanges.getNextSessionId()) {
+            return;
+        }
+
+        Path journalPath = getJournalPath(filePath);
+        try {
+            Files.write(journalPath, (JsonUtil.toCompactJsonString(toJournalEntry(changes.get())) + "\n")
+                    .getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // The journal may end with a partly written entry, so the next save writes a full snapshot instead
+            savedChanges = null;
+            throw e;
+        }
+        savedChanges = currentChanges.get();
+
+        if (Files.size(journalPath) >= compactionThreshold) {
+            startCompaction(addressBook);
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook} in the background, and moves the journal aside until the snapshot is
+     * written. Changes saved in the meantime are appended to a new journal.
+     */
+    private void startCompaction(ReadOnlyAddressBook addressBook) throws IOException {
+        if (!compaction.isDone()) {
+            return;
+        }
+
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        if (FileUtil.isFileExists(compactingJournalPath)) {
+            // An earlier compaction did not finish, so the old journal cannot be moved aside again
+            compact(addressBook);
+            return;
+        }
+
+        // The snapshot is converted here as the address book may be modified while the snapshot is being written
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        Files.move(getJournalPath(filePath), compactingJournalPath);
+        compaction = compactor.submit(() -> {
+            try {
+                writeSnapshot(snapshot, filePath);
+                Files.delete(compactingJournalPath);
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook} and removes the journals that are folded into it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+
+        savedChanges = null;
+        writeSnapshot(new JsonSerializableAddressBook(addressBook), filePath);
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        Files.deleteIfExists(getJournalPath(filePath));
+        savedChanges = addressBook.getChanges().orElse(null);
+    }
+
+    /**
+     * Waits for the compaction in the background, if any, to finish.
+     */
+    private void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + e.getCause());
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} to a temporary file and moves it over {@code filePath}, so that the snapshot at
+     * {@code filePath} is never partly written.
+     */
+    private static void writeSnapshot(JsonSerializableAddressBook snapshot, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        JsonUtil.saveJsonFile(snapshot, temporaryFilePath);
+        FileUtil.replaceFile(temporaryFilePath, filePath);
+    }
+
+    private static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    private static JsonAdaptedJournalEntry toJournalEntry(AddressBookChanges changes) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        changes.getPersons().values().forEach(person -> persons.add(new JsonAdaptedPerson(person)));
+        List<JsonAdaptedSession> sessions = new ArrayList<>();
+        changes.getSessions().values().forEach(session -> sessions.add(new JsonAdaptedSession(session)));
+        List<JsonAdaptedAttendanceRecord> records = new ArrayList<>();
+        changes.getAttendanceRecords().values().forEach(record -> records.add(new JsonAdaptedAttendanceRecord(record)));
+        List<JsonAdaptedAttendanceRecordKey> removedRecordKeys = new ArrayList<>();
+        changes.getRemovedAttendanceRecordKeys().forEach(key ->
+                removedRecordKeys.add(new JsonAdaptedAttendanceRecordKey(key)));
+
+        return new JsonAdaptedJournalEntry(persons, new ArrayList<>(changes.getRemovedPersonIds()), sessions,
+                new ArrayList<>(changes.getRemovedSessionIds()), records, removedRecordKeys,
+                changes.getNextPersonId(), changes.getNextSessionId());
+    }
+
+    /**
+     * The persons, sessions and attendance records of a snapshot with the journal entries replayed so far.
+     */
+    private static class Replay {
+        private final Map<Integer, Person> persons = new LinkedHashMap<>();
+        private final Map<Integer, Session> sessions = new LinkedHashMap<>();
+        private final Map<AttendanceRecordKey, AttendanceRecord> attendanceRecords = new LinkedHashMap<>();
+        private int nextPersonId;
+        private int nextSessionId;
+
+        Replay(ReadOnlyAddressBook snapshot) {
+            snapshot.getPersonList().forEach(person -> persons.put(person.getId(), person));
+            snapshot.getSessionList().forEach(session -> sessions.put(session.getId(), session));
+            snapshot.getAttendanceRecordsList().forEach(record ->
+                    attendanceRecords.put(AttendanceRecordKey.of(record), record));
+            nextPersonId = snapshot.getNextPersonId();
+            nextSessionId = snapshot.getNextSessionId();
+        }
+
+        /**
+         * Applies the changes in {@code entry}. Entries that are already reflected in the snapshot have no effect, so
+         * a journal that was only partly compacted can be replayed again.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the changes.
+         */
+        void apply(JsonAdaptedJournalEntry entry) throws IllegalValueException {
+            entry.getRemovedPersonIds().forEach(persons::remove);
+            for (JsonAdaptedPerson jsonAdaptedPerson : entry.getPersons()) {
+                Person person = jsonAdaptedPerson.toModelType();
+                persons.put(person.getId(), person);
+            }
+
+            entry.getRemovedSessionIds().forEach(sessions::remove);
+            for (JsonAdaptedSession jsonAdaptedSession : entry.getSessions()) {
+                Session session = jsonAdaptedSession.toModelType();
+                sessions.put(session.getId(), session);
+            }
+
+            entry.getRemovedAttendanceRecords().forEach(key -> attendanceRecords.remove(key.toModelType()));
+            for (JsonAdaptedAttendanceRecord jsonAdaptedAttendanceRecord : entry.getAttendanceRecords()) {
+                AttendanceRecord record = jsonAdaptedAttendanceRecord.toModelType();
+                attendanceRecords.put(AttendanceRecordKey.of(record), record);
+            }
+
+            nextPersonId = entry.getNextPersonId();
+            nextSessionId = entry.getNextSessionId();
+        }
+
+        /**
+         * Returns the address book with the changes replayed so far.
+         *
+         * @throws IllegalValueException if there were any data constraints violated.
+         */
+        ReadOnlyAddressBook toModelType() throws IllegalValueException {
+            return AddressBookLoader.load(new ArrayList<>(persons.values()),
+                    new ArrayList<>(sessions.values()), new ArrayList<>(attendanceRecords.values()),
+                    nextPersonId, nextSessionId);
+        }
+    }
+
+}
@@ -41,6 +41,20 @@ public class JsonAdaptedAttendanceRecord {
         feedback = source.getFeedback().value;
     }
 
+    /**
+     * Returns the ID of the student of the adapted attendance record.
+     */
+    int getStudentId() {
+        return studentId;
+    }
+
+    /**
+     * Returns the ID of the session of the adapted attendance record.
+     */
+    int getSessionId() {
+        return sessionId;
+    }
+
     /**
      * Converts this Jackson-friendly adapted attendace record object into the model's {@code AttendanceRecord} object.
      *
@@ -0,0 +1,42 @@
+package tutorly.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tutorly.model.attendancerecord.AttendanceRecordKey;
+
+/**
+ * Jackson-friendly version of {@link AttendanceRecordKey}.
+ * A {@code JsonAdaptedAttendanceRecord} can be read as its key, as the other fields of the record are ignored.
+ */
+class JsonAdaptedAttendanceRecordKey {
+
+    private final int studentId;
+    private final int sessionId;
+
+    /**
+     * Constructs a {@code JsonAdaptedAttendanceRecordKey} with the given IDs.
+     */
+    @JsonCreator
+    public JsonAdaptedAttendanceRecordKey(@JsonProperty("studentId") int studentId,
+            @JsonProperty("sessionId") int sessionId) {
+        this.studentId = studentId;
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Converts a given {@code AttendanceRecordKey} into this class for Jackson use.
+     */
+    public JsonAdaptedAttendanceRecordKey(AttendanceRecordKey source) {
+        studentId = source.studentId();
+        sessionId = source.sessionId();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted key into the model's {@code AttendanceRecordKey} object.
+     */
+    public AttendanceRecordKey toModelType() {
+        return new AttendanceRecordKey(studentId, sessionId);
+    }
+
+}
@@ -0,0 +1,84 @@
+package tutorly.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The changes made to an AddressBook between two saves, that is serializable to JSON format.
+ * Persons, sessions and attendance records are recorded in full when added or edited, and by ID or key when removed.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<Integer> removedPersonIds = new ArrayList<>();
+    private final List<JsonAdaptedSession> sessions = new ArrayList<>();
+    private final List<Integer> removedSessionIds = new ArrayList<>();
+    private final List<JsonAdaptedAttendanceRecord> attendanceRecords = new ArrayList<>();
+    private final List<JsonAdaptedAttendanceRecordKey> removedAttendanceRecords = new ArrayList<>();
+
+    private final int nextPersonId;
+    private final int nextSessionId;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("removedPersonIds") List<Integer> removedPersonIds,
+            @JsonProperty("sessions") List<JsonAdaptedSession> sessions,
+            @JsonProperty("removedSessionIds") List<Integer> removedSessionIds,
+            @JsonProperty("attendanceRecords") List<JsonAdaptedAttendanceRecord> attendanceRecords,
+            @JsonProperty("removedAttendanceRecords") List<JsonAdaptedAttendanceRecordKey> removedAttendanceRecords,
+            @JsonProperty("nextPersonId") int nextPersonId, @JsonProperty("nextSessionId") int nextSessionId) {
+        addAllIfPresent(this.persons, persons);
+        addAllIfPresent(this.removedPersonIds, removedPersonIds);
+        addAllIfPresent(this.sessions, sessions);
+        addAllIfPresent(this.removedSessionIds, removedSessionIds);
+        addAllIfPresent(this.attendanceRecords, attendanceRecords);
+        addAllIfPresent(this.removedAttendanceRecords, removedAttendanceRecords);
+        this.nextPersonId = nextPersonId;
+        this.nextSessionId = nextSessionId;
+    }
+
+    private static <T> void addAllIfPresent(List<T> list, List<T> elements) {
+        if (elements != null) {
+            list.addAll(elements);
+        }
+    }
+
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    List<Integer> getRemovedPersonIds() {
+        return removedPersonIds;
+    }
+
+    List<JsonAdaptedSession> getSessions() {
+        return sessions;
+    }
+
+    List<Integer> getRemovedSessionIds() {
+        return removedSessionIds;
+    }
+
+    List<JsonAdaptedAttendanceRecord> getAttendanceRecords() {
+        return attendanceRecords;
+    }
+
+    List<JsonAdaptedAttendanceRecordKey> getRemovedAttendanceRecords() {
+        return removedAttendanceRecords;
+    }
+
+    int getNextPersonId() {
+        return nextPersonId;
+    }
+
+    int getNextSessionId() {
+        return nextSessionId;
+    }
+
+}
@@ -56,10 +56,6 @@ class JsonAdaptedSession {
      * @throws IllegalValueException if there were any data constraints violated in the adapted session.
      */
     public Session toModelType() throws IllegalValueException {
-        if (id <= 0) {
-            throw new IllegalValueException(Session.MESSAGE_INVALID_ID);
-        }
-
         if (startTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "startTime"));
         }
@@ -68,11 +64,33 @@ class JsonAdaptedSession {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "endTime"));
         }
 
-        final Timeslot modelTimeslot;
+        final LocalDateTime modelStartTime;
+        final LocalDateTime modelEndTime;
         try {
-            modelTimeslot = new Timeslot(LocalDateTime.parse(startTime), LocalDateTime.parse(endTime));
+            modelStartTime = LocalDateTime.parse(startTime);
+            modelEndTime = LocalDateTime.parse(endTime);
         } catch (DateTimeParseException e) {
             throw new IllegalValueException(ParserUtil.MESSAGE_INVALID_DATETIME);
+        }
+
+        return toModelType(id, modelStartTime, modelEndTime, subject);
+    }
+
+    /**
+     * Returns the model's {@code Session} object with the given details, which are validated as in
+     * {@link #toModelType()}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the details.
+     */
+    static Session toModelType(int id, LocalDateTime startTime, LocalDateTime endTime, String subject)
+            throws IllegalValueException {
+        if (id <= 0) {
+            throw new IllegalValueException(Session.MESSAGE_INVALID_ID);
+        }
+
+        final Timeslot modelTimeslot;
+        try {
+            modelTimeslot = new Timeslot(startTime, endTime);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(e.getMessage());
         }
@@ -83,7 +101,7 @@ class JsonAdaptedSession {
         if (!Subject.isValidSubject(subject)) {
             throw new IllegalValueException(Subject.MESSAGE_CONSTRAINTS);
         }
-        final Subject modelSubject = new Subject(subject);
+        final Subject modelSubject = Subject.of(subject);
 
 
         Session session = new Session(modelTimeslot, modelSubject);
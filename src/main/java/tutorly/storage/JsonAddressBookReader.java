@@ -0,0 +1,130 @@
+package tutorly.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import tutorly.commons.exceptions.IllegalValueException;
+import tutorly.commons.util.FileUtil;
+import tutorly.commons.util.JsonUtil;
+import tutorly.model.AddressBook;
+import tutorly.model.attendancerecord.AttendanceRecord;
+
+/**
+ * Reads an AddressBook from a json file in the format of {@link JsonSerializableAddressBook}, one element at a time.
+ * Each person, session and attendance record is converted into the model and added to the address book as soon as it
+ * is read, so the file is never held in memory as a whole, either as text or as Jackson-friendly objects.
+ * Attendance records are only held until the persons and sessions are read, which they follow in saved files.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book should be a JSON object.";
+    public static final String MESSAGE_NOT_AN_ARRAY = "Field %1$s of address book should be a JSON array.";
+
+    private final AddressBookLoader loader = new AddressBookLoader();
+    private final List<AttendanceRecord> pendingAttendanceRecords = new ArrayList<>();
+    private boolean hasReadPersons;
+    private boolean hasReadSessions;
+    private int nextPersonId;
+    private int nextSessionId;
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book in the json file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not a valid JSON address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        try (JsonParser parser = JsonUtil.createParser(FileUtil.newInputStream(filePath))) {
+            reader.readAddressBook(parser);
+        }
+        for (AttendanceRecord attendanceRecord : reader.pendingAttendanceRecords) {
+            reader.loader.addAttendanceRecord(attendanceRecord);
+        }
+        return reader.loader.build(reader.nextPersonId, reader.nextSessionId);
+    }
+
+    private void readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "persons":
+                readArray(parser, fieldName, JsonAdaptedPerson.class,
+                        person -> loader.addPerson(person.toModelType()));
+                hasReadPersons = true;
+                break;
+            case "sessions":
+                readArray(parser, fieldName, JsonAdaptedSession.class,
+                        session -> loader.addSession(session.toModelType()));
+                hasReadSessions = true;
+                break;
+            case "attendanceRecords":
+                readArray(parser, fieldName, JsonAdaptedAttendanceRecord.class,
+                        record -> addAttendanceRecord(record.toModelType()));
+                break;
+            case "nextPersonId":
+                nextPersonId = parser.getIntValue();
+                break;
+            case "nextSessionId":
+                nextSessionId = parser.getIntValue();
+                break;
+            default:
+                // Unknown fields are ignored, as when reading a JsonSerializableAddressBook
+                parser.skipChildren();
+                break;
+            }
+        }
+    }
+
+    private void addAttendanceRecord(AttendanceRecord attendanceRecord) throws IllegalValueException {
+        if (hasReadPersons && hasReadSessions) {
+            loader.addAttendanceRecord(attendanceRecord);
+        } else {
+            // The student or session of the record may not have been read yet
+            pendingAttendanceRecords.add(attendanceRecord);
+        }
+    }
+
+    /**
+     * Reads the array at the current token of {@code parser}, passing each element to {@code consumer} as it is read.
+     */
+    private static <T> void readArray(JsonParser parser, String fieldName, Class<T> elementType,
+            ElementConsumer<T> consumer) throws IOException, IllegalValueException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            consumer.accept(parser.readValueAs(elementType));
+        }
+    }
+
+    /**
+     * Converts an element of an array into the model.
+     */
+    @FunctionalInterface
+    private interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+
+}
@@ -12,6 +12,7 @@ import tutorly.commons.exceptions.DataLoadingException;
 import tutorly.commons.exceptions.IllegalValueException;
 import tutorly.commons.util.FileUtil;
 import tutorly.commons.util.JsonUtil;
+import tutorly.model.AddressBook;
 import tutorly.model.ReadOnlyAddressBook;
 
 /**
@@ -45,14 +46,26 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!FileUtil.isFileExists(filePath)) {
             return Optional.empty();
         }
 
+        return Optional.of(readAddressBookFile(filePath));
+    }
+
+    /**
+     * Reads the address book in the existing json file at {@code filePath}, converting each element into the model as
+     * it is read.
+     *
+     * @throws DataLoadingException if loading the data from the file failed.
+     */
+    static AddressBook readAddressBookFile(Path filePath) throws DataLoadingException {
+        logger.info("JSON file " + filePath + " found.");
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return JsonAddressBookReader.read(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
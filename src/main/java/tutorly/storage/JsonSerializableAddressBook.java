@@ -11,9 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import tutorly.commons.exceptions.IllegalValueException;
 import tutorly.model.AddressBook;
 import tutorly.model.ReadOnlyAddressBook;
-import tutorly.model.attendancerecord.AttendanceRecord;
-import tutorly.model.person.Person;
-import tutorly.model.session.Session;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -70,46 +67,19 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook(nextPersonId, nextSessionId);
-
-        if (nextPersonId <= 0) {
-            throw new IllegalValueException(MESSAGE_ILLEGAL_NEXT_PERSON_ID);
-        }
-
-        if (nextSessionId <= 0) {
-            throw new IllegalValueException(MESSAGE_ILLEGAL_NEXT_SESSION_ID);
-        }
-
+        AddressBookLoader loader = new AddressBookLoader();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            if (person.getId() >= nextPersonId) {
-                throw new IllegalValueException(MESSAGE_ILLEGAL_NEXT_PERSON_ID);
-            }
-            addressBook.addPerson(person);
+            loader.addPerson(jsonAdaptedPerson.toModelType());
         }
 
         for (JsonAdaptedSession jsonAdaptedSession : sessions) {
-            Session session = jsonAdaptedSession.toModelType();
-            if (addressBook.hasSession(session)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SESSION);
-            }
-            if (session.getId() >= nextSessionId) {
-                throw new IllegalValueException(MESSAGE_ILLEGAL_NEXT_SESSION_ID);
-            }
-            addressBook.addSession(session);
+            loader.addSession(jsonAdaptedSession.toModelType());
         }
 
         for (JsonAdaptedAttendanceRecord jsonAdaptedAttendanceRecord : attendanceRecords) {
-            AttendanceRecord attendanceRecord = jsonAdaptedAttendanceRecord.toModelType();
-            if (addressBook.hasAttendanceRecord(attendanceRecord)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE_RECORD);
-            }
-            addressBook.addAttendanceRecord(attendanceRecord);
+            loader.addAttendanceRecord(jsonAdaptedAttendanceRecord.toModelType());
         }
 
-        return addressBook;
+        return loader.build(nextPersonId, nextSessionId);
     }
 }
@@ -0,0 +1,129 @@
+package tutorly.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutorly.commons.core.LogsCenter;
+import tutorly.commons.exceptions.DataLoadingException;
+import tutorly.commons.util.FileUtil;
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Bridges two {@code AddressBookStorage}s that store the data file in different formats.
+ * The data is saved to the current storage. If the current storage has no data yet, the data is read from the
+ * previous storage instead and saved to the current storage, so that the data is migrated when the format is changed.
+ * Once the data is saved to the current storage, the files of the previous storage are renamed with
+ * {@value #MIGRATED_FILE_SUFFIX} appended, so that changing the format back migrates the current data again instead of
+ * reading the outdated files.
+ */
+public class MigratingAddressBookStorage implements AddressBookStorage {
+
+    public static final String MIGRATED_FILE_SUFFIX = ".migrated";
+
+    private static final Logger logger = LogsCenter.getLogger(MigratingAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final AddressBookStorage previousStorage;
+
+    // Whether data was read from the previous storage and its files have not been renamed yet
+    private boolean isMigrationPending;
+
+    /**
+     * Creates a {@code MigratingAddressBookStorage} that saves to {@code storage}, and migrates the data in
+     * {@code previousStorage} if {@code storage} has no data yet.
+     */
+    public MigratingAddressBookStorage(AddressBookStorage storage, AddressBookStorage previousStorage) {
+        requireNonNull(storage);
+        requireNonNull(previousStorage);
+        this.storage = storage;
+        this.previousStorage = previousStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public List<Path> getDataFilePaths() {
+        return storage.getDataFilePaths();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the data file of the current storage is migrated from the previous storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+        if (addressBook.isPresent() || !filePath.equals(storage.getAddressBookFilePath())) {
+            return addressBook;
+        }
+
+        Optional<ReadOnlyAddressBook> previousAddressBook = previousStorage.readAddressBook();
+        if (previousAddressBook.isPresent()) {
+            logger.info("Migrating data from " + previousStorage.getAddressBookFilePath() + " to " + filePath);
+            isMigrationPending = true;
+            try {
+                saveAddressBook(previousAddressBook.get());
+            } catch (IOException e) {
+                // The data is still read, and is saved to the current storage after the next command
+                logger.warning("Failed to migrate data to " + filePath + ": " + e);
+            }
+        }
+        return previousAddressBook;
+    }
+
+    /**
+     * Similar to {@link AddressBookStorage#saveAddressBook(ReadOnlyAddressBook)}.
+     * If the data was migrated from the previous storage, the files of the previous storage are renamed once the data
+     * is saved.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        storage.saveAddressBook(addressBook);
+        if (isMigrationPending) {
+            renamePreviousFiles();
+        }
+    }
+
+    /**
+     * Renames the files of the previous storage that exist, replacing files renamed by an earlier migration.
+     * Files that cannot be renamed are tried again after the next save.
+     */
+    private void renamePreviousFiles() {
+        try {
+            for (Path previousFilePath : previousStorage.getDataFilePaths()) {
+                if (Files.exists(previousFilePath)) {
+                    FileUtil.replaceFile(previousFilePath,
+                            previousFilePath.resolveSibling(previousFilePath.getFileName() + MIGRATED_FILE_SUFFIX));
+                }
+            }
+            isMigrationPending = false;
+        } catch (IOException e) {
+            logger.warning("Failed to rename migrated data file " + previousStorage.getAddressBookFilePath() + ": "
+                    + e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+}
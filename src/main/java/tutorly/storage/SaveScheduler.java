@@ -0,0 +1,155 @@
+package tutorly.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import tutorly.commons.core.LogsCenter;
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Saves snapshots of an AddressBook to an {@code AddressBookStorage} on a background thread.
+ * Snapshots scheduled while an earlier one is still waiting to be written replace it, so a burst of commands is saved
+ * with one write of the latest snapshot. Writes that fail are reported by {@link #checkFailure()}, and retried by
+ * {@link #flush()} unless a later snapshot was saved.
+ */
+public class SaveScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(SaveScheduler.class);
+
+    private final AddressBookStorage storage;
+    private final Executor executor;
+
+    // The latest snapshot that has not been written yet, and whether a write of it is waiting on the executor
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isWriteQueued;
+
+    // The snapshot of the last write that failed, until a later snapshot is saved
+    private ReadOnlyAddressBook failedSnapshot;
+    private IOException failure;
+
+    /**
+     * Creates a {@code SaveScheduler} that writes to {@code storage} on its own background thread.
+     */
+    public SaveScheduler(AddressBookStorage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code SaveScheduler} that writes to {@code storage} using {@code executor}.
+     * {@code executor} must run its tasks one at a time in the order they are submitted.
+     */
+    public SaveScheduler(AddressBookStorage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written, replacing any snapshot that is still waiting to be written.
+     * {@code snapshot} must not be modified afterwards.
+     */
+    public void schedule(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            if (isWriteQueued) {
+                return;
+            }
+            isWriteQueued = true;
+        }
+        executor.execute(this::writePendingSnapshot);
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isWriteQueued = false;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + e);
+            synchronized (this) {
+                failedSnapshot = snapshot;
+                failure = e;
+            }
+            return;
+        }
+
+        synchronized (this) {
+            failedSnapshot = null;
+            failure = null;
+        }
+    }
+
+    /**
+     * Throws the exception of the last write that failed, if it has not been reported and no later snapshot was
+     * saved since.
+     */
+    public void checkFailure() throws IOException {
+        IOException unreportedFailure;
+        synchronized (this) {
+            unreportedFailure = failure;
+            failure = null;
+        }
+        if (unreportedFailure != null) {
+            throw unreportedFailure;
+        }
+    }
+
+    /**
+     * Waits until every scheduled snapshot is written, and writes the snapshot of the last failed write again if no
+     * later snapshot was saved.
+     *
+     * @throws IOException if the snapshot of the last failed write could not be written again.
+     */
+    public void flush() throws IOException {
+        try {
+            CompletableFuture.runAsync(() -> {
+                ReadOnlyAddressBook snapshot;
+                synchronized (this) {
+                    snapshot = pendingSnapshot != null ? pendingSnapshot : failedSnapshot;
+                    pendingSnapshot = null;
+                    failedSnapshot = null;
+                    failure = null;
+                }
+                if (snapshot == null) {
+                    return;
+                }
+
+                try {
+                    storage.saveAddressBook(snapshot);
+                } catch (IOException e) {
+                    synchronized (this) {
+                        failedSnapshot = snapshot;
+                    }
+                    throw new UncheckedIOException(e);
+                }
+            }, executor).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving address book", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+}
@@ -1,12 +1,12 @@
 package tutorly.ui;
 
-import java.util.List;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import javafx.scene.layout.Region;
 import javafx.util.Callback;
-import tutorly.commons.util.ObservableListUtil;
+import tutorly.commons.util.DependentFilteredList;
+import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
@@ -16,27 +16,26 @@ import tutorly.model.session.Session;
  */
 public class AttendanceRecordListPanel extends ListPanel<AttendanceRecord> {
 
-    private final ObservableList<Person> students;
+    private final ReadOnlyAddressBook addressBook;
     private final Callback<AttendanceRecord, ?> toggleCallback;
 
     /**
-     * Creates a {@code AttendanceRecordListPanel} with the given records, students, and selected sessions.
+     * Creates a {@code AttendanceRecordListPanel} with the records of {@code addressBook} in the selected sessions.
      */
-    public AttendanceRecordListPanel(ObservableList<AttendanceRecord> records, ObservableList<Person> students,
-            ObservableList<Session> sessions, Callback<AttendanceRecord, ?> toggleCallback) {
-        super(ObservableListUtil.filteredList(records,
-                record -> sessions.stream().anyMatch(session -> session.getId() == record.getSessionId())
-                        && students.stream().anyMatch(student -> student.getId() == record.getStudentId()),
-                List.of(students, sessions)));
-
-        this.students = students;
+    public AttendanceRecordListPanel(ReadOnlyAddressBook addressBook, ObservableList<Session> sessions,
+            Callback<AttendanceRecord, ?> toggleCallback) {
+        // Records are removed along with their student or session, so only the selected sessions need to be checked
+        super(new DependentFilteredList<>(addressBook.getAttendanceRecordsList(),
+                record -> sessions.stream().anyMatch(session -> session.getId() == record.getSessionId()))
+                .dependsOn(sessions, Session::getId, AttendanceRecord::getSessionId));
+
+        this.addressBook = addressBook;
         this.toggleCallback = toggleCallback;
     }
 
     @Override
     protected UiPart<Region> getItemGraphic(AttendanceRecord record) {
-        Optional<Person> recordStudent = students.filtered(student -> student.getId() == record.getStudentId())
-                .stream().findFirst();
+        Optional<Person> recordStudent = addressBook.getPersonById(record.getStudentId());
         assert recordStudent.isPresent();
 
         return new AttendanceRecordCard(record, recordStudent.get(), getSelected().contains(record),
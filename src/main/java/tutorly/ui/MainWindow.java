@@ -135,8 +135,8 @@ public class MainWindow extends UiPart<Stage> {
         sessionListPanel = new SessionListPanel(logic.getFilteredSessionList());
         sessionListPanelPlaceholder.getChildren().add(sessionListPanel.getRoot());
 
-        attendanceRecordListPanel = new AttendanceRecordListPanel(logic.getAttendanceRecordList(),
-                    logic.getPersonList(), sessionListPanel.getSelected(), this::toggleAttendanceRecord);
+        attendanceRecordListPanel = new AttendanceRecordListPanel(logic.getAddressBook(),
+                    sessionListPanel.getSelected(), this::toggleAttendanceRecord);
         attendanceRecordListPanelPlaceholder.getChildren().add(attendanceRecordListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -198,7 +198,7 @@ public class MainWindow extends UiPart<Stage> {
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            showFeedback(commandResult);
 
             if (commandResult.shouldSwitchTab()) {
                 tabPane.getSelectionModel().select(commandResult.getTab().getTabId());
@@ -224,6 +224,17 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Shows the feedback of {@code commandResult} in the result display, followed by its warning if it has one.
+     */
+    private void showFeedback(CommandResult commandResult) {
+        if (commandResult.hasWarning()) {
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser() + "\n" + commandResult.getWarning());
+        } else {
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        }
+    }
+
     /**
      * Toggles the attendance record of a student for a session.
      */
@@ -236,7 +247,7 @@ public class MainWindow extends UiPart<Stage> {
 
         try {
             CommandResult commandResult = logic.execute(command);
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            showFeedback(commandResult);
         } catch (CommandException e) {
             resultDisplay.setFeedbackToUser(e.getMessage());
         }
@@ -1,5 +1,6 @@
 package tutorly.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
@@ -8,6 +9,7 @@ import static tutorly.testutil.Assert.assertThrows;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -82,6 +84,24 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void getSmallest() {
+        List<Integer> items = Arrays.asList(5, 3, 9, 1, 7, 3, 8);
+
+        // limit below number of items
+        assertEquals(List.of(1, 3, 3), CollectionUtil.getSmallest(items, Comparator.naturalOrder(), 3));
+        assertEquals(List.of(9, 8), CollectionUtil.getSmallest(items, Comparator.reverseOrder(), 2));
+
+        // limit at or above number of items
+        assertEquals(List.of(1, 3, 3, 5, 7, 8, 9), CollectionUtil.getSmallest(items, Comparator.naturalOrder(), 7));
+        assertEquals(List.of(1, 3, 3, 5, 7, 8, 9),
+                CollectionUtil.getSmallest(items, Comparator.naturalOrder(), Integer.MAX_VALUE));
+
+        // no items selected
+        assertEquals(List.of(), CollectionUtil.getSmallest(items, Comparator.naturalOrder(), 0));
+        assertEquals(List.of(), CollectionUtil.getSmallest(List.<Integer>of(), Comparator.naturalOrder(), 3));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
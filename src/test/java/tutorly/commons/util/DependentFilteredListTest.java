@@ -0,0 +1,137 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class DependentFilteredListTest {
+
+    private final ObservableList<Integer> source = ObservableListUtil.arrayList();
+    private final ObservableList<Integer> allowed = ObservableListUtil.arrayList();
+    private final Predicate<Integer> predicate = i -> allowed.contains(i % 10);
+
+    /**
+     * Returns a list that applies every change reported by {@code list} to a copy of it.
+     */
+    private static List<Integer> mirror(ObservableList<Integer> list, List<Integer> changeCount) {
+        List<Integer> mirror = new ArrayList<>(list);
+        list.addListener((ListChangeListener<Integer>) change -> {
+            changeCount.add(1);
+            while (change.next()) {
+                for (int i = 0; i < change.getRemovedSize(); i++) {
+                    mirror.remove(change.getFrom());
+                }
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+        return mirror;
+    }
+
+    @Test
+    public void modifications_matchFilteredSource() {
+        DependentFilteredList<Integer> filteredList = new DependentFilteredList<>(source, predicate)
+                .dependsOn(allowed, i -> i, i -> i % 10);
+        List<Integer> changeCount = new ArrayList<>();
+        List<Integer> mirror = mirror(filteredList, changeCount);
+
+        Random random = new Random(0);
+        for (int step = 0; step < 500; step++) {
+            int value = random.nextInt(100);
+            int size = source.size();
+            switch (random.nextInt(5)) {
+            case 0:
+                source.add(size == 0 ? 0 : random.nextInt(size), value);
+                break;
+            case 1:
+                if (size > 0) {
+                    source.remove(random.nextInt(size));
+                }
+                break;
+            case 2:
+                if (size > 0) {
+                    source.set(random.nextInt(size), value);
+                }
+                break;
+            case 3:
+                allowed.add(value % 10);
+                break;
+            default:
+                allowed.remove((Integer) (value % 10));
+            }
+
+            List<Integer> expected = source.stream().filter(predicate).toList();
+            assertEquals(expected, filteredList, "step " + step);
+            assertEquals(expected, mirror, "step " + step);
+        }
+    }
+
+    @Test
+    public void dependencyChanged_reportsOnlyAffectedElements() {
+        source.addAll(List.of(1, 2, 11, 3, 12));
+        allowed.add(2);
+        DependentFilteredList<Integer> filteredList = new DependentFilteredList<>(source, predicate)
+                .dependsOn(allowed, i -> i, i -> i % 10);
+        List<Integer> changed = new ArrayList<>();
+        filteredList.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changed.addAll(change.getAddedSubList());
+                changed.addAll(change.getRemoved());
+            }
+        });
+
+        allowed.add(1);
+        assertEquals(List.of(1, 2, 11, 12), filteredList);
+        assertEquals(List.of(1, 11), changed);
+
+        changed.clear();
+        allowed.remove((Integer) 2);
+        assertEquals(List.of(1, 11), filteredList);
+        assertEquals(List.of(2, 12), changed);
+    }
+
+    @Test
+    public void keyedDependencyChanged_testsOnlyElementsWithChangedKeys() {
+        for (int i = 0; i < 100; i++) {
+            source.add(i);
+        }
+        List<Integer> tested = new ArrayList<>();
+        DependentFilteredList<Integer> filteredList = new DependentFilteredList<>(source, i -> {
+            tested.add(i);
+            return predicate.test(i);
+        }).dependsOn(allowed, i -> i, i -> i % 10);
+
+        tested.clear();
+        allowed.add(3);
+        assertEquals(List.of(3, 13, 23, 33, 43, 53, 63, 73, 83, 93), tested);
+        assertEquals(tested, filteredList);
+
+        source.add(0, 103);
+        tested.clear();
+        allowed.remove((Integer) 3);
+        assertEquals(List.of(103, 3, 13, 23, 33, 43, 53, 63, 73, 83, 93), tested);
+        assertEquals(List.of(), filteredList);
+    }
+
+    @Test
+    public void unkeyedDependencyChanged_singleChange() {
+        source.addAll(List.of(1, 2, 3, 4));
+        DependentFilteredList<Integer> filteredList = ObservableListUtil.filteredList(source, predicate,
+                List.of(allowed));
+        List<Integer> changeCount = new ArrayList<>();
+        List<Integer> mirror = mirror(filteredList, changeCount);
+
+        allowed.addAll(List.of(1, 3));
+        assertEquals(List.of(1, 3), filteredList);
+        assertEquals(List.of(1, 3), mirror);
+        assertEquals(1, changeCount.size());
+    }
+
+}
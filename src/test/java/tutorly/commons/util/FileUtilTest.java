@@ -1,13 +1,27 @@
 package tutorly.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +34,87 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void readFromFile_smallFile_returnsContent() throws IOException {
+        Path file = testFolder.resolve("small.txt");
+        Files.writeString(file, "Tutorly é你好");
+
+        assertEquals("Tutorly é你好", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void readFromFile_largeFile_returnsContent() throws IOException {
+        Path file = testFolder.resolve("large.txt");
+        String content = getLargeContent();
+        Files.writeString(file, content);
+
+        assertEquals(content, FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_largeContent_writesContent() throws IOException {
+        Path file = testFolder.resolve("large.txt");
+        String content = getLargeContent();
+
+        FileUtil.writeToFile(file, content);
+        assertEquals(content, Files.readString(file));
+
+        // Existing content is replaced
+        FileUtil.writeToFile(file, "short");
+        assertEquals("short", Files.readString(file));
+    }
+
+    @Test
+    public void newInputStream_smallAndLargeFiles_readsAllBytes() throws IOException {
+        byte[] small = "Tutorly".getBytes(StandardCharsets.UTF_8);
+        byte[] large = getLargeContent().getBytes(StandardCharsets.UTF_8);
+
+        for (byte[] bytes : new byte[][] {small, large}) {
+            Path file = testFolder.resolve("file.bin");
+            Files.write(file, bytes);
+
+            ByteArrayOutputStream bytesRead = new ByteArrayOutputStream();
+            try (InputStream inputStream = FileUtil.newInputStream(file)) {
+                // Mixes single and bulk reads
+                bytesRead.write(inputStream.read());
+                byte[] chunk = new byte[1000];
+                int length;
+                while ((length = inputStream.read(chunk, 0, chunk.length)) != -1) {
+                    bytesRead.write(chunk, 0, length);
+                }
+                assertEquals(-1, inputStream.read());
+            }
+            assertArrayEquals(bytes, bytesRead.toByteArray());
+        }
+    }
+
+    @Test
+    public void newInputStream_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> FileUtil.newInputStream(testFolder.resolve("missing.txt")));
+    }
+
+    @Test
+    public void newOutputStream_writesLargerThanBuffer_writesAllBytes() throws IOException {
+        Path file = testFolder.resolve("file.bin");
+        byte[] bytes = getLargeContent().getBytes(StandardCharsets.UTF_8);
+
+        try (OutputStream outputStream = FileUtil.newOutputStream(file)) {
+            outputStream.write(bytes[0]);
+            outputStream.write(bytes, 1, bytes.length - 1);
+        }
+        assertArrayEquals(bytes, Files.readAllBytes(file));
+    }
+
+    /**
+     * Returns text that takes up more than {@link FileUtil#MAPPED_READ_THRESHOLD} bytes, with multi-byte characters
+     * that straddle buffer boundaries.
+     */
+    private static String getLargeContent() {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; content.length() < FileUtil.MAPPED_READ_THRESHOLD; i++) {
+            content.append(i).append(" é你😀 ");
+        }
+        return content.toString();
+    }
+
 }
@@ -0,0 +1,69 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class FuzzyWordIndexTest {
+
+    private static final List<String> TEXTS = List.of("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier",
+            "Elle Meyer", "Fiona Kunz", "George Best", "ALEXANDER  yeoh");
+    private static final List<String> WORDS = List.of("alcie", "MEIER", "meyr", "kurz", "best", "bets", "al",
+            "alexandre", "xyz", "");
+
+    private final FuzzyWordIndex<String> index = new FuzzyWordIndex<>();
+
+    @Test
+    public void getDistance() {
+        assertEquals(0, FuzzyWordIndex.getDistance("meier", "meier"));
+        assertEquals(3, FuzzyWordIndex.getDistance("", "abc"));
+        assertEquals(3, FuzzyWordIndex.getDistance("kitten", "sitting"));
+
+        // adjacent transposition counts as one edit
+        assertEquals(1, FuzzyWordIndex.getDistance("alice", "alcie"));
+
+        // edits between transposed characters are allowed, unlike the optimal string alignment distance
+        assertEquals(2, FuzzyWordIndex.getDistance("ca", "abc"));
+    }
+
+    @Test
+    public void getTypoTolerance() {
+        assertEquals(0, FuzzyWordIndex.getTypoTolerance("al"));
+        assertEquals(1, FuzzyWordIndex.getTypoTolerance("alice"));
+        assertEquals(2, FuzzyWordIndex.getTypoTolerance("benson"));
+    }
+
+    @Test
+    public void search_matchesBruteForce() {
+        TEXTS.forEach(text -> index.add(text, text));
+        for (String word : WORDS) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (String text : TEXTS) {
+                    int distance = FuzzyWordIndex.getMinDistance(text, word);
+                    if (distance <= maxDistance) {
+                        expected.put(text, distance);
+                    }
+                }
+                assertEquals(expected, new HashMap<>(index.search(word, maxDistance)), word + " " + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void search_removedElement_notFound() {
+        index.add("benson", "Benson Meier");
+        index.add("daniel", "Daniel Meier");
+        index.remove("benson", "Benson Meier");
+        assertEquals(Map.of("daniel", 0), index.search("meier", 1));
+
+        index.clear();
+        assertTrue(index.search("meier", 1).isEmpty());
+    }
+
+}
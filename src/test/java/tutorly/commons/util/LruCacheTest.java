@@ -0,0 +1,69 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    private final LruCache<String, String> cache = new LruCache<>(5, value -> value.length());
+
+    @Test
+    public void constructor_negativeMaxWeight_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(-1, String::length));
+    }
+
+    @Test
+    public void put_withinMaxWeight_cachesAll() {
+        cache.put("a", "12");
+        cache.put("b", "123");
+        assertEquals(Optional.of("12"), cache.get("a"));
+        assertEquals(Optional.of("123"), cache.get("b"));
+        assertEquals(5, cache.getWeight());
+    }
+
+    @Test
+    public void put_exceedsMaxWeight_evictsLeastRecentlyUsed() {
+        cache.put("a", "12");
+        cache.put("b", "12");
+        cache.get("a");
+        cache.put("c", "12");
+        assertTrue(cache.get("b").isEmpty());
+        assertEquals(Optional.of("12"), cache.get("a"));
+        assertEquals(Optional.of("12"), cache.get("c"));
+        assertEquals(4, cache.getWeight());
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        cache.put("a", "12");
+        cache.put("a", "1");
+        assertEquals(Optional.of("1"), cache.get("a"));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getWeight());
+    }
+
+    @Test
+    public void put_heavierThanMaxWeight_notCached() {
+        cache.put("a", "12");
+        cache.put("b", "123456");
+        assertTrue(cache.get("b").isEmpty());
+        assertEquals(Optional.of("12"), cache.get("a"));
+    }
+
+    @Test
+    public void removeAndClear_updatesWeight() {
+        cache.put("a", "12");
+        cache.put("b", "1");
+        cache.remove("a");
+        assertEquals(1, cache.getWeight());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+}
@@ -0,0 +1,63 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class NgramIndexTest {
+
+    private static final List<String> TEXTS = List.of("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier",
+            "Elle Meyer", "Fiona Kunz", "George Best", "ALEXANDER  yeoh");
+    private static final List<String> KEYWORDS = List.of("a", "E", "ie", "mei", "MEIER", "eier", "lex", "alexander",
+            "xyz", "ell", "nz", " kurz ", "georges");
+
+    private final NgramIndex<String> index = new NgramIndex<>();
+
+    @Test
+    public void getCandidates_matchesContainsWordIgnoreCase() {
+        TEXTS.forEach(text -> index.add(text, text));
+        for (String keyword : KEYWORDS) {
+            Set<String> expected = TEXTS.stream()
+                    .filter(text -> StringUtil.containsWordIgnoreCase(text, keyword))
+                    .collect(Collectors.toSet());
+            Set<String> actual = index.getCandidates(keyword).stream()
+                    .filter(text -> StringUtil.containsWordIgnoreCase(text, keyword))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, actual, keyword);
+            expected.forEach(text -> assertTrue(index.mayContain(text, keyword), keyword));
+        }
+    }
+
+    @Test
+    public void mayContain_noSharedTrigrams_returnsFalse() {
+        index.add("a", "Benson Meier");
+        assertTrue(index.mayContain("a", "meie"));
+        assertFalse(index.mayContain("a", "meib"));
+        assertFalse(index.mayContain("a", "z"));
+    }
+
+    @Test
+    public void mayContain_elementNotIndexed_returnsTrue() {
+        index.add("a", "Benson Meier");
+        assertTrue(index.mayContain("b", "xyz"));
+    }
+
+    @Test
+    public void remove_elementRemoved_noLongerCandidate() {
+        index.add("a", "Benson Meier");
+        index.add("b", "Daniel Meier");
+        index.remove("a", "Benson Meier");
+        assertEquals(Set.of("b"), index.getCandidates("meier"));
+        assertEquals(Set.of(), index.getCandidates("benson"));
+
+        index.clear();
+        assertEquals(Set.of(), index.getCandidates("meier"));
+    }
+
+}
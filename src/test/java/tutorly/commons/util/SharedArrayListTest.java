@@ -0,0 +1,108 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SharedArrayListTest {
+
+    private final SharedArrayList<String> list = new SharedArrayList<>();
+
+    @Test
+    public void modifications_matchArrayList() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(i / 2, "element" + i);
+            list.add(i / 2, "element" + i);
+        }
+        expected.set(3, "replaced");
+        list.set(3, "replaced");
+        expected.remove(10);
+        list.remove(10);
+        expected.subList(5, 15).clear();
+        list.subList(5, 15).clear();
+        expected.addAll(2, List.of("a", "b"));
+        list.addAll(2, List.of("a", "b"));
+        BitSet indices = new BitSet();
+        for (int i = expected.size() - 1; i >= 0; i -= 3) {
+            indices.set(i);
+            expected.remove(i);
+        }
+        list.removeIndices(indices);
+
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void modificationsAcrossChunks_matchArrayList() {
+        SharedArrayList<Integer> chunkedList = new SharedArrayList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        List<List<Integer>> snapshots = new ArrayList<>();
+        List<List<Integer>> expectedSnapshots = new ArrayList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            int index = expected.isEmpty() ? 0 : random.nextInt(expected.size());
+            switch (random.nextInt(4)) {
+            case 0:
+                expected.add(i);
+                chunkedList.add(i);
+                break;
+            case 1:
+                expected.add(index, i);
+                chunkedList.add(index, i);
+                break;
+            case 2:
+                if (!expected.isEmpty()) {
+                    assertEquals(expected.remove(index), chunkedList.remove(index));
+                }
+                break;
+            default:
+                if (!expected.isEmpty()) {
+                    assertEquals(expected.set(index, i), chunkedList.set(index, i));
+                }
+                break;
+            }
+            if (i % 10 == 0) {
+                snapshots.add(chunkedList.snapshot());
+                expectedSnapshots.add(List.copyOf(expected));
+            }
+        }
+        BitSet indices = new BitSet();
+        for (int i = expected.size() - 1; i >= 0; i -= 2) {
+            indices.set(i);
+            expected.remove(i);
+        }
+        chunkedList.removeIndices(indices);
+
+        assertEquals(expected, chunkedList);
+        assertEquals(expectedSnapshots, snapshots);
+    }
+
+    @Test
+    public void snapshot_listModifiedAfterwards_snapshotUnchanged() {
+        list.addAll(List.of("a", "b", "c"));
+        List<String> snapshot = list.snapshot();
+
+        list.set(0, "x");
+        list.add("d");
+        list.remove(1);
+        assertEquals(List.of("a", "b", "c"), snapshot);
+        assertEquals(List.of("x", "c", "d"), list);
+
+        list.clear();
+        assertEquals(List.of("a", "b", "c"), snapshot);
+    }
+
+    @Test
+    public void snapshot_modifySnapshot_throwsUnsupportedOperationException() {
+        list.add("a");
+        assertThrows(UnsupportedOperationException.class, () -> list.snapshot().add("b"));
+    }
+
+}
@@ -1,10 +1,13 @@
 package tutorly.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -154,6 +157,28 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsAnyWordIgnoreCase --------------------------------------
+
+    @Test
+    public void containsAnyWordIgnoreCase_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Keyword parameter should be a single word", ()
+            -> StringUtil.containsAnyWordIgnoreCase(List.of("aaa", "aaa BBB")));
+    }
+
+    @Test
+    public void containsAnyWordIgnoreCase_validInputs_sameAsContainsWordIgnoreCase() {
+        List<String> keywords = List.of("BBB", " ccc@1 ", "bb", "dd");
+        List<String> sentences = List.of("", "    ", "aaa bBb ccc", "aaa ccc@1", "  AAA   Ddd  ", "aaa ccc");
+        Predicate<String> predicate = StringUtil.containsAnyWordIgnoreCase(keywords);
+        for (String sentence : sentences) {
+            boolean expected = keywords.stream()
+                    .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(sentence, keyword));
+            assertEquals(expected, predicate.test(sentence), sentence);
+        }
+
+        assertFalse(StringUtil.containsAnyWordIgnoreCase(List.of()).test("aaa"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -7,22 +7,27 @@ import static tutorly.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static tutorly.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static tutorly.logic.commands.CommandTestUtil.MEMO_DESC_AMY;
 import static tutorly.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static tutorly.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static tutorly.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static tutorly.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import tutorly.logic.commands.AddStudentCommand;
+import tutorly.logic.commands.Command;
 import tutorly.logic.commands.CommandResult;
 import tutorly.logic.commands.DeleteStudentCommand;
 import tutorly.logic.commands.ListStudentCommand;
+import tutorly.logic.commands.SearchStudentCommand;
 import tutorly.logic.commands.UndoCommand;
 import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.logic.parser.exceptions.ParseException;
@@ -67,6 +72,39 @@ public class LogicManagerTest {
         assertCommandException(deleteCommand, MESSAGE_PERSON_NOT_FOUND);
     }
 
+    @Test
+    public void execute_commandFailsAfterModifyingModel_rollsBackModel() {
+        Command failingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) throws CommandException {
+                model.addPerson(new PersonBuilder(AMY).build());
+                throw new CommandException(MESSAGE_PERSON_NOT_FOUND);
+            }
+        };
+
+        assertThrows(CommandException.class, MESSAGE_PERSON_NOT_FOUND, () -> logic.execute(failingCommand));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_commitFails_keepsModificationsAndThrowsCommitException() {
+        RuntimeException commitException = new RuntimeException("commit failed");
+        Model failingModel = new ModelManager() {
+            @Override
+            public void commitTransaction() {
+                super.commitTransaction();
+                throw commitException;
+            }
+        };
+        logic = new LogicManager(failingModel, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        assertThrows(RuntimeException.class, commitException.getMessage(), () -> logic.execute(
+                AddStudentCommand.COMMAND_STRING + NAME_DESC_AMY + PHONE_DESC_AMY));
+        assertEquals(1, failingModel.getPersonList().size());
+    }
+
     @Test
     public void execute_validCommand_success() throws Exception {
         String listCommand = ListStudentCommand.COMMAND_STRING;
@@ -86,6 +124,21 @@ public class LogicManagerTest {
                 expectedModel);
     }
 
+    @Test
+    public void execute_undoCommandFails_keepsCommandToUndo() throws Exception {
+        logic.execute(AddStudentCommand.COMMAND_STRING + NAME_DESC_AMY + PHONE_DESC_AMY);
+        Person amy = model.getPersonById(1).get();
+        model.deletePerson(amy);
+
+        // The student to delete is missing, so the addition cannot be undone
+        assertCommandException(UndoCommand.COMMAND_STRING, MESSAGE_PERSON_NOT_FOUND);
+
+        model.addPerson(amy);
+        logic.execute(UndoCommand.COMMAND_STRING);
+        assertEquals(List.of(), model.getPersonList());
+        assertCommandException(UndoCommand.COMMAND_STRING, LogicManager.UNDO_STACK_EMPTY);
+    }
+
     @Test
     public void execute_undoCommandNothingToUndo_throwsCommandException() {
         String undoCommand = "undo";
@@ -93,14 +146,32 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_modifyModelAfterSearch_filteredListMatchesModel() throws Exception {
+        logic.execute(AddStudentCommand.COMMAND_STRING + NAME_DESC_AMY + PHONE_DESC_AMY);
+        logic.execute(AddStudentCommand.COMMAND_STRING + NAME_DESC_BOB + PHONE_DESC_BOB);
+
+        // Deleting a student shows all students again
+        logic.execute(SearchStudentCommand.COMMAND_STRING + NAME_DESC_AMY);
+        assertEquals(1, logic.getFilteredPersonList().size());
+        logic.execute(DeleteStudentCommand.COMMAND_STRING + " 1");
+        assertEquals(model.getPersonList(), logic.getFilteredPersonList());
+
+        // Adding a student shows all students again
+        logic.execute(SearchStudentCommand.COMMAND_STRING + NAME_DESC_AMY);
+        assertEquals(0, logic.getFilteredPersonList().size());
+        logic.execute(AddStudentCommand.COMMAND_STRING + NAME_DESC_AMY + PHONE_DESC_AMY);
+        assertEquals(model.getPersonList(), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_returnsWarning() throws Exception {
+        assertWarningForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_returnsWarning() throws Exception {
+        assertWarningForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
@@ -164,11 +235,13 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command still succeeds and can be undone, and the failure to save is returned as a warning.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedWarning the warning expected in the result returned by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertWarningForExceptionFromStorage(IOException e, String expectedWarning)
+            throws CommandException, ParseException {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -192,6 +265,12 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        CommandResult result = logic.execute(addCommand);
+        assertEquals(expectedWarning, result.getWarning());
+        assertEquals(expectedModel, model);
+
+        CommandResult undoResult = logic.execute(UndoCommand.COMMAND_STRING);
+        assertEquals(expectedWarning, undoResult.getWarning());
+        assertEquals(new ModelManager(), model);
     }
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +26,7 @@ import tutorly.model.person.Name;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
 import tutorly.model.session.UniqueSessionList;
+import tutorly.model.sort.SortOrder;
 import tutorly.testutil.SessionBuilder;
 
 /**
@@ -126,10 +128,27 @@ public class AddSessionCommandTest {
             return null;
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            return null;
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook addressBook) {
         }
 
+        @Override
+        public void beginTransaction() {
+        }
+
+        @Override
+        public void commitTransaction() {
+        }
+
+        @Override
+        public void rollbackTransaction() {
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             return false;
@@ -162,6 +181,11 @@ public class AddSessionCommandTest {
             return Optional.empty();
         }
 
+        @Override
+        public List<Person> getSimilarPersons(Identity identity) {
+            return null;
+        }
+
         @Override
         public ObservableList<Person> getPersonList() {
             return null;
@@ -187,14 +211,32 @@ public class AddSessionCommandTest {
             return null;
         }
 
+        @Override
+        public List<AttendanceRecord> getSessionAttendanceRecords(int sessionId) {
+            return null;
+        }
+
+        @Override
+        public List<AttendanceRecord> getStudentAttendanceRecords(int studentId) {
+            return null;
+        }
+
         @Override
         public void updateFilteredPersonList(Filter<Person> predicate) {
         }
 
+        @Override
+        public void updateFilteredPersonList(Filter<Person> filter, SortOrder<Person> order) {
+        }
+
         @Override
         public void updateFilteredSessionList(Filter<Session> predicate) {
         }
 
+        @Override
+        public void updateFilteredSessionList(Filter<Session> filter, SortOrder<Session> order) {
+        }
+
         @Override
         public boolean hasSession(Session session) {
             return sessions.contains(session);
@@ -27,6 +27,7 @@ import tutorly.model.person.Identity;
 import tutorly.model.person.Name;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
+import tutorly.model.sort.SortOrder;
 import tutorly.testutil.PersonBuilder;
 
 public class AddStudentCommandTest {
@@ -133,11 +134,31 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -168,6 +189,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getSimilarPersons(Identity identity) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -193,15 +219,35 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<AttendanceRecord> getSessionAttendanceRecords(int sessionId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<AttendanceRecord> getStudentAttendanceRecords(int studentId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Filter<Person> predicate) {
         }
 
+        @Override
+        public void updateFilteredPersonList(Filter<Person> filter, SortOrder<Person> order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredSessionList(Filter<Session> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredSessionList(Filter<Session> filter, SortOrder<Session> order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasSession(Session toCreate) {
             throw new AssertionError("This method should not be called.");
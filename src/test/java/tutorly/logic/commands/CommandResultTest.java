@@ -35,6 +35,9 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different warning value -> returns false
+        assertFalse(commandResult.equals(new CommandResult.Builder("feedback").withWarning("warning").build()));
     }
 
     @Test
@@ -63,7 +66,8 @@ public class CommandResultTest {
                 + ", shouldExit=" + commandResult.shouldExit()
                 + ", shouldReverseLast=" + commandResult.shouldReverseLast()
                 + ", tab=null"
-                + ", reverseCommand=null}";
+                + ", reverseCommand=null"
+                + ", warning=null}";
         assertEquals(expected, commandResult.toString());
 
         commandResult = new CommandResult.Builder("feedback").withTab(Tab.student()).showHelp().build();
@@ -73,7 +77,8 @@ public class CommandResultTest {
                 + ", shouldExit=" + commandResult.shouldExit()
                 + ", shouldReverseLast=" + commandResult.shouldReverseLast()
                 + ", tab=" + commandResult.getTab()
-                + ", reverseCommand=null}";
+                + ", reverseCommand=null"
+                + ", warning=null}";
         assertEquals(expected, commandResult.toString());
     }
 }
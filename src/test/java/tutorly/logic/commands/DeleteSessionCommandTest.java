@@ -1,7 +1,9 @@
 package tutorly.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.logic.commands.CommandTestUtil.assertCommandFailure;
 import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
@@ -36,6 +38,20 @@ public class DeleteSessionCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_sessionWithAttendanceRecords_removesAndRestoresRecords() throws Exception {
+        assertFalse(model.getSessionAttendanceRecords(2).isEmpty());
+        Model originalModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        CommandResult result = new DeleteSessionCommand(2).execute(model);
+        assertTrue(model.getSessionAttendanceRecords(2).isEmpty());
+        assertTrue(model.getAddressBook().getAttendanceRecordsList().stream()
+                .noneMatch(record -> record.getSessionId() == 2));
+
+        result.getReverseCommand().execute(model);
+        assertEquals(originalModel.getAddressBook(), model.getAddressBook());
+    }
+
     @Test
     public void execute_invalidSessionId_throwsCommandException() {
         int invalidSessionId = model.getFilteredSessionList().size() + 1;
@@ -1,6 +1,7 @@
 package tutorly.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -8,13 +9,17 @@ import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static tutorly.testutil.TypicalIdentities.IDENTITY_FIRST_PERSON;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import tutorly.logic.Messages;
 import tutorly.model.Model;
 import tutorly.model.ModelManager;
 import tutorly.model.UserPrefs;
+import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Identity;
+import tutorly.model.person.Name;
 import tutorly.model.person.Person;
 
 /**
@@ -39,6 +44,22 @@ public class DeleteStudentCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_personWithAttendanceRecords_removesAndRestoresRecords() throws Exception {
+        Person personToDelete = model.getPersonByIdentity(IDENTITY_FIRST_PERSON).get();
+        List<AttendanceRecord> records = model.getStudentAttendanceRecords(personToDelete.getId());
+        assertFalse(records.isEmpty());
+        Model originalModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        CommandResult result = new DeleteStudentCommand(IDENTITY_FIRST_PERSON).execute(model);
+        assertTrue(model.getStudentAttendanceRecords(personToDelete.getId()).isEmpty());
+        assertTrue(model.getAddressBook().getAttendanceRecordsList().stream()
+                .noneMatch(record -> record.getStudentId() == personToDelete.getId()));
+
+        result.getReverseCommand().execute(model);
+        assertEquals(originalModel.getAddressBook(), model.getAddressBook());
+    }
+
     @Test
     public void execute_invalidIdentity_throwsCommandException() {
         Identity identity = new Identity(model.getFilteredPersonList().size() + 1);
@@ -47,6 +68,16 @@ public class DeleteStudentCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_PERSON_NOT_FOUND);
     }
 
+    @Test
+    public void execute_misspeltName_suggestsSimilarPersons() {
+        DeleteStudentCommand deleteCommand = new DeleteStudentCommand(new Identity(new Name("Alcie Pauline")));
+        Person alice = model.getPersonByIdentity(IDENTITY_FIRST_PERSON).get();
+
+        assertCommandFailure(deleteCommand, model, Messages.getPersonNotFoundMessage(List.of(alice)));
+        assertEquals(Messages.MESSAGE_PERSON_NOT_FOUND + " Did you mean: Alice Pauline (ID: 1)?",
+                Messages.getPersonNotFoundMessage(List.of(alice)));
+    }
+
     @Test
     public void equals() {
         Identity identityFirst = new Identity(1);
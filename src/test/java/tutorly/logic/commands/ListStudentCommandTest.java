@@ -1,16 +1,27 @@
 package tutorly.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorly.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.FIONA;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static tutorly.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import tutorly.logic.Messages;
 import tutorly.model.Model;
 import tutorly.model.ModelManager;
 import tutorly.model.UserPrefs;
+import tutorly.model.person.Person;
+import tutorly.model.sort.PersonSortKey;
+import tutorly.model.sort.SortOrder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListStudentCommand.
@@ -36,4 +47,13 @@ public class ListStudentCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListStudentCommand(), model, ListStudentCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_sortedWithLimit_showsFirstInOrder() {
+        SortOrder<Person> order = new SortOrder<>(Optional.of(PersonSortKey.ATTENDANCE), 3);
+        expectedModel.updateFilteredPersonList(Model.FILTER_SHOW_ALL_PERSONS, order);
+        assertCommandSuccess(new ListStudentCommand(order), model,
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 3), expectedModel);
+        assertEquals(List.of(DANIEL, ELLE, FIONA), model.getFilteredPersonList());
+    }
 }
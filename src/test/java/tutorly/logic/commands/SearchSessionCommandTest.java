@@ -25,6 +25,7 @@ import tutorly.model.filter.DateSessionFilter;
 import tutorly.model.filter.Filter;
 import tutorly.model.filter.SubjectContainsKeywordsFilter;
 import tutorly.model.session.Session;
+import tutorly.model.sort.SortOrder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code SearchSessionCommand}.
@@ -94,7 +95,7 @@ public class SearchSessionCommandTest {
 
         String expected = SearchSessionCommand.class.getCanonicalName()
                 + "{filter=" + AnyFilter.class.getCanonicalName()
-                + "{filters=[" + dateFilter + ", " + subjectFilter + "]}}";
+                + "{filters=[" + dateFilter + ", " + subjectFilter + "]}, order=" + SortOrder.none() + "}";
         assertEquals(expected, searchCommand.toString());
     }
 
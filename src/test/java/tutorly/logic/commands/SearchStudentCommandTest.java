@@ -30,6 +30,7 @@ import tutorly.model.filter.Filter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
 import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.person.Person;
+import tutorly.model.sort.SortOrder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code SearchStudentCommand}.
@@ -106,7 +107,8 @@ public class SearchStudentCommandTest {
 
         String expected = SearchStudentCommand.class.getCanonicalName()
                 + "{filter=" + AnyFilter.class.getCanonicalName()
-                + "{filters=[" + sessionFilter + ", " + nameFilter + ", " + phoneFilter + "]}}";
+                + "{filters=[" + sessionFilter + ", " + nameFilter + ", " + phoneFilter + "]}"
+                + ", order=" + SortOrder.none() + "}";
         assertEquals(expected, searchCommand.toString());
     }
 
@@ -0,0 +1,65 @@
+package tutorly.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.logic.parser.FilterQueryParser.MESSAGE_INVALID_QUERY;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.parser.FilterQueryParser.CriteriaParser;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.Filter;
+import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.person.Person;
+
+public class FilterQueryParserTest {
+
+    private static final CriteriaParser<Person> CRITERIA_PARSER = criteria ->
+            new NameContainsKeywordsFilter(List.of(criteria.trim().split("\\s+")));
+
+    private static Filter<Person> name(String... keywords) {
+        return new NameContainsKeywordsFilter(List.of(keywords));
+    }
+
+    @Test
+    public void parse_noOperators_passesArgsToCriteriaParser() throws Exception {
+        List<String> parsed = new ArrayList<>();
+        FilterQueryParser.parse(" a \t b ", criteria -> {
+            parsed.add(criteria);
+            return name(criteria);
+        });
+        assertEquals(List.of(" a \t b "), parsed);
+    }
+
+    @Test
+    public void parse_operatorPrecedence() throws Exception {
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertEquals(Filter.any(List.of(Filter.all(List.of(Filter.not(name("a")), name("b", "c"))), name("d"))),
+                FilterQueryParser.parse(" NOT a AND b c OR d", CRITERIA_PARSER));
+    }
+
+    @Test
+    public void parse_parentheses() throws Exception {
+        assertEquals(Filter.all(List.of(name("a"), Filter.any(List.of(name("b"), Filter.not(name("c")))))),
+                FilterQueryParser.parse(" a AND (b OR NOT(c))", CRITERIA_PARSER));
+        assertEquals(Filter.not(Filter.not(name("a"))),
+                FilterQueryParser.parse(" NOT ((NOT a))", CRITERIA_PARSER));
+    }
+
+    @Test
+    public void parse_lowerCaseOperators_treatedAsCriteria() throws Exception {
+        assertEquals(name("a", "and", "b"), FilterQueryParser.parse(" a and b", CRITERIA_PARSER));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        for (String query : List.of(" a AND", " OR a", " (a", " a)", " (a) (b)", " a AND ()", " NOT")) {
+            assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () ->
+                    FilterQueryParser.parse(query, CRITERIA_PARSER));
+        }
+    }
+
+}
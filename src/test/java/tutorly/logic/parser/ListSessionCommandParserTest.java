@@ -0,0 +1,38 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.ListSessionCommand;
+import tutorly.model.sort.SessionSortKey;
+import tutorly.model.sort.SortOrder;
+
+public class ListSessionCommandParserTest {
+
+    private final ListSessionCommandParser parser = new ListSessionCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListCommand() {
+        assertParseSuccess(parser, "", new ListSessionCommand());
+    }
+
+    @Test
+    public void parse_sortAndLimit_returnsSortedListCommand() {
+        assertParseSuccess(parser, " " + PREFIX_SORT + "time " + PREFIX_LIMIT + "10",
+                new ListSessionCommand(new SortOrder<>(Optional.of(SessionSortKey.TIME), 10)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_SORT + "name",
+                String.format(ParserUtil.MESSAGE_INVALID_SORT_KEY, "time, subject, attendance"));
+        assertParseFailure(parser, " " + PREFIX_LIMIT + "0", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+
+}
@@ -0,0 +1,41 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.ListStudentCommand;
+import tutorly.model.sort.PersonSortKey;
+import tutorly.model.sort.SortOrder;
+
+public class ListStudentCommandParserTest {
+
+    private final ListStudentCommandParser parser = new ListStudentCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListCommand() {
+        assertParseSuccess(parser, "", new ListStudentCommand());
+        assertParseSuccess(parser, " 3", new ListStudentCommand());
+    }
+
+    @Test
+    public void parse_sortAndLimit_returnsSortedListCommand() {
+        assertParseSuccess(parser, " " + PREFIX_SORT + "upcoming",
+                new ListStudentCommand(new SortOrder<>(Optional.of(PersonSortKey.UPCOMING), SortOrder.NO_LIMIT)));
+        assertParseSuccess(parser, " " + PREFIX_LIMIT + "20 " + PREFIX_SORT + "attendance",
+                new ListStudentCommand(new SortOrder<>(Optional.of(PersonSortKey.ATTENDANCE), 20)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_SORT + "time",
+                String.format(ParserUtil.MESSAGE_INVALID_SORT_KEY, "name, upcoming, attendance, feedback"));
+        assertParseFailure(parser, " " + PREFIX_LIMIT + "none", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+
+}
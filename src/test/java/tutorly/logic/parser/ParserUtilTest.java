@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,8 @@ import tutorly.model.person.Name;
 import tutorly.model.person.Phone;
 import tutorly.model.session.Session;
 import tutorly.model.session.Timeslot;
+import tutorly.model.sort.PersonSortKey;
+import tutorly.model.sort.SortOrder;
 import tutorly.model.tag.Tag;
 
 public class ParserUtilTest {
@@ -101,6 +104,60 @@ public class ParserUtilTest {
         assertEquals(Session.UNKNOWN_ID, ParserUtil.parseSessionId(Long.toString(Integer.MAX_VALUE + 1L)));
     }
 
+    @Test
+    public void parseSessionIds_validInput_success() throws Exception {
+        assertEquals(List.of(1, 3), ParserUtil.parseSessionIds(" 1 \t 3 "));
+    }
+
+    @Test
+    public void parseSessionIds_invalidId_throwsParseException() {
+        assertThrows(ParseException.class, Session.MESSAGE_INVALID_ID, () -> ParserUtil.parseSessionIds("1 a"));
+    }
+
+    @Test
+    public void parsePercentage_validInput_success() throws Exception {
+        assertEquals(0, ParserUtil.parsePercentage("0"));
+        assertEquals(75, ParserUtil.parsePercentage("  75  "));
+        assertEquals(100, ParserUtil.parsePercentage("100"));
+    }
+
+    @Test
+    public void parsePercentage_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_PERCENTAGE, ()
+            -> ParserUtil.parsePercentage("101"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_PERCENTAGE, ()
+            -> ParserUtil.parsePercentage("-1"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_PERCENTAGE, ()
+            -> ParserUtil.parsePercentage("5%"));
+    }
+
+    @Test
+    public void parseSortKey_validInput_success() throws Exception {
+        List<PersonSortKey> sortKeys = List.of(PersonSortKey.values());
+        assertEquals(PersonSortKey.NAME, ParserUtil.parseSortKey("name", sortKeys));
+        assertEquals(PersonSortKey.ATTENDANCE, ParserUtil.parseSortKey("  ATTENDANCE  ", sortKeys));
+    }
+
+    @Test
+    public void parseSortKey_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseSortKey("time", List.of(PersonSortKey.values())));
+        assertThrows(ParseException.class, () -> ParserUtil.parseSortKey("", List.of(PersonSortKey.values())));
+    }
+
+    @Test
+    public void parseLimit_validInput_success() throws Exception {
+        assertEquals(1, ParserUtil.parseLimit("1"));
+        assertEquals(20, ParserUtil.parseLimit("  20  "));
+        assertEquals(SortOrder.NO_LIMIT, ParserUtil.parseLimit("99999999999"));
+    }
+
+    @Test
+    public void parseLimit_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit("0"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit("-3"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit("ten"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName(null));
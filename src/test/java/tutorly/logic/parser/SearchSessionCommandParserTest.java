@@ -5,7 +5,13 @@ import static tutorly.logic.commands.CommandTestUtil.DATE_DESC;
 import static tutorly.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
 import static tutorly.logic.commands.CommandTestUtil.VALID_DATE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_DATE;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FROM;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_MONTH;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TO;
+import static tutorly.logic.parser.CliSyntax.PREFIX_WEEK;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static tutorly.logic.parser.ParserUtil.DATE_FORMATTER;
@@ -13,14 +19,19 @@ import static tutorly.logic.parser.ParserUtil.DATE_FORMATTER;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import tutorly.logic.Messages;
 import tutorly.logic.commands.SearchSessionCommand;
+import tutorly.model.filter.DateRangeSessionFilter;
 import tutorly.model.filter.DateSessionFilter;
 import tutorly.model.filter.Filter;
 import tutorly.model.filter.SubjectContainsKeywordsFilter;
 import tutorly.model.session.Session;
+import tutorly.model.sort.SessionSortKey;
+import tutorly.model.sort.SortOrder;
 
 public class SearchSessionCommandParserTest {
 
@@ -63,4 +74,60 @@ public class SearchSessionCommandParserTest {
                 DATE_DESC + " " + PREFIX_SUBJECT + " \n Math \n \t En  \t ",
                 expectedSearchCommand);
     }
+
+    @Test
+    public void parse_dateRanges_returnsSearchCommand() {
+        Filter<Session> filters = Filter.any(Arrays.asList(
+                new DateRangeSessionFilter(LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 15)),
+                new DateRangeSessionFilter(LocalDate.of(2025, 5, 19), LocalDate.of(2025, 5, 25)),
+                new DateRangeSessionFilter(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28))));
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_FROM + "1 May 2025 " + PREFIX_TO + "15 May 2025 " + PREFIX_WEEK + "21 May 2025 "
+                        + PREFIX_MONTH + "feb 2025",
+                new SearchSessionCommand(filters));
+
+        // unbounded end
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_FROM + "1 May 2025",
+                new SearchSessionCommand(Filter.any(List.of(
+                        new DateRangeSessionFilter(LocalDate.of(2025, 5, 1), LocalDate.MAX)))));
+    }
+
+    @Test
+    public void parse_sortAndLimit_returnsSortedSearchCommand() {
+        Filter<Session> filter = Filter.any(List.of(
+                new DateRangeSessionFilter(LocalDate.of(2025, 5, 1), LocalDate.MAX)));
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_FROM + "1 May 2025 " + PREFIX_SORT + "time " + PREFIX_LIMIT + "10",
+                new SearchSessionCommand(filter, new SortOrder<>(Optional.of(SessionSortKey.TIME), 10)));
+
+        assertParseFailure(parser, " " + PREFIX_FROM + "1 May 2025 " + PREFIX_SORT + "time " + PREFIX_SORT + "subject",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SORT));
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_FROM + "15 May 2025 " + PREFIX_TO + "1 May 2025",
+                ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " " + PREFIX_MONTH + "May", ParserUtil.MESSAGE_INVALID_MONTH_FORMAT);
+    }
+
+    @Test
+    public void parse_booleanQuery_returnsSearchCommand() {
+        LocalDate firstMonday = LocalDate.of(2025, 6, 2);
+        LocalDate secondMonday = LocalDate.of(2025, 6, 16);
+        Filter<Session> filter = Filter.all(List.of(
+                Filter.any(List.of(new SubjectContainsKeywordsFilter(List.of("Math")))),
+                Filter.any(List.of(
+                        Filter.any(List.of(new DateRangeSessionFilter(firstMonday, firstMonday.plusDays(6)))),
+                        Filter.any(List.of(new DateRangeSessionFilter(secondMonday, secondMonday.plusDays(6))))))));
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_SUBJECT + "Math AND (" + PREFIX_WEEK + "4 Jun 2025 OR " + PREFIX_WEEK + "16 Jun 2025)",
+                new SearchSessionCommand(filter));
+    }
+
 }
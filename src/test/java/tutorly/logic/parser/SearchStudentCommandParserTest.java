@@ -3,22 +3,40 @@ package tutorly.logic.parser;
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorly.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static tutorly.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ABSENT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ALL_SESSIONS;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ALL_TAGS;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ATTENDANCE_BELOW;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TAG;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import tutorly.logic.commands.SearchStudentCommand;
+import tutorly.model.filter.AbsentSessionFilter;
+import tutorly.model.filter.AttendAllSessionsFilter;
+import tutorly.model.filter.AttendSessionFilter;
+import tutorly.model.filter.AttendanceBelowFilter;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.FuzzyNameFilter;
+import tutorly.model.filter.HasAllTagsFilter;
+import tutorly.model.filter.HasTagFilter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
 import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.person.Person;
+import tutorly.model.sort.PersonSortKey;
+import tutorly.model.sort.SortOrder;
 
 public class SearchStudentCommandParserTest {
 
@@ -62,4 +80,93 @@ public class SearchStudentCommandParserTest {
                 expectedSearchCommand);
     }
 
+    @Test
+    public void parse_attendanceCriteria_returnsSearchCommand() {
+        Filter<Person> filters = Filter.any(Arrays.asList(
+                new AttendSessionFilter(1),
+                new AttendSessionFilter(2),
+                new AttendAllSessionsFilter(List.of(1, 3)),
+                new AbsentSessionFilter(2),
+                new AttendanceBelowFilter(75)));
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_SESSION + "1 2 " + PREFIX_ALL_SESSIONS + "1 3 " + PREFIX_ABSENT + "2 "
+                        + PREFIX_ATTENDANCE_BELOW + "75",
+                new SearchStudentCommand(filters));
+    }
+
+    @Test
+    public void parse_fuzzyName_returnsSearchCommand() {
+        Filter<Person> filters = Filter.any(Arrays.asList(
+                new NameContainsKeywordsFilter(List.of("Alice")),
+                new FuzzyNameFilter(List.of("Bnson", "Meeir"))));
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_NAME + "Alice " + PREFIX_FUZZY_NAME + " Bnson \t Meeir ",
+                new SearchStudentCommand(filters));
+    }
+
+    @Test
+    public void parse_booleanQuery_returnsSearchCommand() {
+        Filter<Person> filter = Filter.all(List.of(
+                Filter.any(List.of(new NameContainsKeywordsFilter(List.of("Tan")))),
+                Filter.any(List.of(new AttendSessionFilter(4))),
+                Filter.not(Filter.any(List.of(new AbsentSessionFilter(4))))));
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_NAME + "Tan AND " + PREFIX_SESSION + "4 AND NOT " + PREFIX_ABSENT + "4",
+                new SearchStudentCommand(filter));
+
+        assertParseFailure(parser, " " + PREFIX_NAME + "Tan AND", FilterQueryParser.MESSAGE_INVALID_QUERY);
+        assertParseFailure(
+                parser,
+                " (" + PREAMBLE_NON_EMPTY + NAME_DESC_AMY + ")",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchStudentCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_tags_returnsSearchCommand() {
+        Filter<Person> filter = Filter.any(List.of(
+                new HasTagFilter(List.of("friends", "colleagues")),
+                new HasAllTagsFilter(List.of("sec4", "math"))));
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_TAG + "friends  colleagues " + PREFIX_ALL_TAGS + "sec4 math",
+                new SearchStudentCommand(filter));
+
+        Filter<Person> booleanFilter = Filter.all(List.of(
+                Filter.any(List.of(new HasTagFilter(List.of("sec4")))),
+                Filter.not(Filter.any(List.of(new HasTagFilter(List.of("graduated")))))));
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_TAG + "sec4 AND NOT " + PREFIX_TAG + "graduated",
+                new SearchStudentCommand(booleanFilter));
+    }
+
+    @Test
+    public void parse_sortAndLimit_returnsSortedSearchCommand() {
+        Filter<Person> filter = Filter.any(List.of(new AttendanceBelowFilter(50)));
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_ATTENDANCE_BELOW + "50 " + PREFIX_SORT + " Attendance " + PREFIX_LIMIT + "20",
+                new SearchStudentCommand(filter, new SortOrder<>(Optional.of(PersonSortKey.ATTENDANCE), 20)));
+
+        Filter<Person> nameFilter = Filter.all(List.of(
+                Filter.any(List.of(new NameContainsKeywordsFilter(List.of("Tan")))),
+                Filter.not(Filter.any(List.of(new AttendSessionFilter(4))))));
+        assertParseSuccess(
+                parser,
+                " " + PREFIX_NAME + "Tan AND NOT " + PREFIX_SESSION + "4 " + PREFIX_LIMIT + "3",
+                new SearchStudentCommand(nameFilter, new SortOrder<>(Optional.empty(), 3)));
+
+        assertParseFailure(parser, " " + PREFIX_NAME + "Tan " + PREFIX_SORT + "age",
+                String.format(ParserUtil.MESSAGE_INVALID_SORT_KEY, "name, upcoming, attendance, feedback"));
+        assertParseFailure(parser, " " + PREFIX_NAME + "Tan " + PREFIX_LIMIT + "0", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+
+    @Test
+    public void parse_invalidPercentage_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_ATTENDANCE_BELOW + "120", ParserUtil.MESSAGE_INVALID_PERCENTAGE);
+    }
+
 }
@@ -7,19 +7,33 @@ import static tutorly.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static tutorly.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
 import static tutorly.testutil.TypicalAddressBook.BOB;
+import static tutorly.testutil.TypicalAddressBook.HOON;
+import static tutorly.testutil.TypicalAddressBook.IDA;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import tutorly.commons.util.ObservableListUtil;
 import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.AttendanceRecordKey;
 import tutorly.model.attendancerecord.Feedback;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
@@ -36,6 +50,25 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPersonList());
     }
 
+    @Test
+    public void getVersion_afterChange_increases() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_noChange_unchanged() {
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.snapshot();
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -178,6 +211,193 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getAttendanceRecordsList().remove(0));
     }
 
+    @Test
+    public void snapshot_addressBookModifiedAfterwards_snapshotUnchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        addressBook.removePerson(ALICE);
+        addressBook.resetData(new AddressBook());
+        assertEquals(new AddressBook(), addressBook);
+
+        addressBook.resetData(snapshot);
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertEquals(getTypicalAddressBook().getNextPersonId(), addressBook.getNextPersonId());
+    }
+
+    @Test
+    public void setNextIds_notLessThanCurrentIds_setsIds() {
+        addressBook.addPerson(new PersonBuilder(ALICE).withId(3).build());
+        addressBook.setNextIds(4, 7);
+        assertEquals(4, addressBook.getNextPersonId());
+        assertEquals(7, addressBook.getNextSessionId());
+
+        assertThrows(IllegalArgumentException.class, () -> addressBook.setNextIds(3, 7));
+    }
+
+    @Test
+    public void getChanges_modificationsMade_recordsLatestValues() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBookChanges initialChanges = typicalAddressBook.getChanges().get();
+        assertTrue(initialChanges.isReset());
+        assertEquals(initialChanges, typicalAddressBook.getChanges().get());
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        typicalAddressBook.setPerson(BENSON, editedBenson);
+        typicalAddressBook.removePerson(ALICE);
+        AddressBookChanges changes = typicalAddressBook.snapshot().getChanges().get();
+        assertFalse(changes.isReset());
+        assertEquals(Map.of(BENSON.getId(), editedBenson), changes.getPersons());
+        assertEquals(Set.of(ALICE.getId()), changes.getRemovedPersonIds());
+        assertEquals(Set.of(AttendanceRecordKey.of(ALICE_ATTEND_MATH), AttendanceRecordKey.of(ALICE_ATTEND_ENGLISH)),
+                changes.getRemovedAttendanceRecordKeys());
+
+        // rolled back modifications are recorded with the values they were rolled back to
+        typicalAddressBook.beginTransaction();
+        typicalAddressBook.removeSession(MATH_SESSION);
+        typicalAddressBook.rollbackTransaction();
+        typicalAddressBook.addPerson(HOON);
+        AddressBookChanges laterChanges = typicalAddressBook.getChanges().get();
+        assertEquals(Map.of(MATH_SESSION.getId(), MATH_SESSION), laterChanges.getSessions());
+        assertEquals(Map.of(HOON.getId(), HOON), laterChanges.getPersons());
+
+        AddressBookChanges collectedChanges = laterChanges.getChangesSince(initialChanges).get();
+        assertEquals(Map.of(BENSON.getId(), editedBenson, HOON.getId(), HOON), collectedChanges.getPersons());
+        assertEquals(Set.of(ALICE.getId()), collectedChanges.getRemovedPersonIds());
+        assertEquals(typicalAddressBook.getNextPersonId(), collectedChanges.getNextPersonId());
+        assertFalse(initialChanges.getChangesSince(laterChanges).isPresent());
+    }
+
+    @Test
+    public void getChanges_copiedAddressBook_collectedFromOriginal() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBookChanges originalChanges = original.getChanges().get();
+
+        AddressBook copy = new AddressBook(original);
+        copy.addPerson(HOON);
+        AddressBookChanges copyChanges = copy.getChanges().get();
+        assertEquals(Map.of(HOON.getId(), HOON), copyChanges.getChangesSince(originalChanges).get().getPersons());
+
+        // only the first copy to record changes continues from the original
+        AddressBook otherCopy = new AddressBook(original);
+        otherCopy.addPerson(IDA);
+        assertFalse(otherCopy.getChanges().get().getChangesSince(originalChanges).isPresent());
+
+        // replacing the lists as a whole does not record the changed elements
+        copy.resetData(new AddressBook());
+        assertTrue(copy.getChanges().get().getChangesSince(copyChanges).get().isReset());
+    }
+
+    @Test
+    public void commitTransaction_manyModifications_notifiesListenersOnce() {
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        addressBook.beginTransaction();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BOB);
+        assertTrue(changes.isEmpty());
+        addressBook.commitTransaction();
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(ALICE, BOB), addressBook.getPersonList());
+    }
+
+    @Test
+    public void commitTransaction_listenerThrows_endsTransaction() {
+        RuntimeException listenerException = new RuntimeException("listener failed");
+        List<ListChangeListener.Change<? extends Session>> sessionChanges = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            throw listenerException;
+        });
+        addressBook.getSessionList().addListener((ListChangeListener<Session>) sessionChanges::add);
+
+        addressBook.beginTransaction();
+        addressBook.addPerson(ALICE);
+        addressBook.addSession(new SessionBuilder().build());
+        try {
+            addressBook.commitTransaction();
+        } catch (RuntimeException e) {
+            // Depending on the list, exceptions of listeners are either thrown or passed to the thread
+            assertEquals(listenerException, e);
+        }
+
+        // The other lists are still notified, and the transaction is over
+        assertEquals(1, sessionChanges.size());
+        assertFalse(addressBook.isInTransaction());
+        addressBook.beginTransaction();
+        addressBook.commitTransaction();
+    }
+
+    @Test
+    public void publishChanges_transactionInProgress_notifiesListenersOfEarlierModificationsOnly() {
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        addressBook.beginTransaction();
+        addressBook.addPerson(ALICE);
+        addressBook.publishChanges();
+        assertEquals(1, changes.size());
+
+        addressBook.addPerson(BOB);
+        assertEquals(1, changes.size());
+        addressBook.rollbackTransaction();
+
+        // The published modification is still rolled back
+        assertEquals(2, changes.size());
+        assertEquals(List.of(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void rollbackTransaction_modificationsMade_restoresData() {
+        addressBook.resetData(getTypicalAddressBook());
+        int nextSessionId = addressBook.getNextSessionId();
+
+        addressBook.beginTransaction();
+        addressBook.removePerson(ALICE);
+        addressBook.addSession(new SessionBuilder().build());
+        addressBook.setAttendanceRecords(List.of());
+        addressBook.rollbackTransaction();
+
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertEquals(nextSessionId, addressBook.getNextSessionId());
+        assertFalse(addressBook.isInTransaction());
+    }
+
+    @Test
+    public void rollbackTransaction_idsAssigned_clearsIds() {
+        Person person = new PersonBuilder().build();
+        Person personWithId = new PersonBuilder(BOB).withId(5).build();
+        Session session = new SessionBuilder().build();
+
+        addressBook.beginTransaction();
+        addressBook.addPerson(person);
+        addressBook.addPerson(personWithId);
+        addressBook.addSession(session);
+        assertEquals(1, person.getId());
+        assertEquals(1, session.getId());
+        addressBook.rollbackTransaction();
+
+        // Only the IDs assigned by the address book are cleared
+        assertEquals(0, person.getId());
+        assertEquals(5, personWithId.getId());
+        assertEquals(0, session.getId());
+        addressBook.addPerson(person);
+        assertEquals(1, person.getId());
+    }
+
+    @Test
+    public void beginTransaction_transactionInProgress_throwsIllegalStateException() {
+        addressBook.beginTransaction();
+        assertThrows(IllegalStateException.class, addressBook::beginTransaction);
+    }
+
+    @Test
+    public void commitTransaction_noTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, addressBook::commitTransaction);
+        assertThrows(IllegalStateException.class, addressBook::rollbackTransaction);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName();
@@ -218,6 +438,16 @@ public class AddressBookTest {
             return attendanceRecords;
         }
 
+        @Override
+        public List<AttendanceRecord> getSessionAttendanceRecords(int sessionId) {
+            return attendanceRecords.filtered(record -> record.getSessionId() == sessionId);
+        }
+
+        @Override
+        public List<AttendanceRecord> getStudentAttendanceRecords(int studentId) {
+            return attendanceRecords.filtered(record -> record.getStudentId() == studentId);
+        }
+
         @Override
         public int getNextPersonId() {
             return this.persons.size() + 1;
@@ -227,5 +457,35 @@ public class AddressBookTest {
         public int getNextSessionId() {
             return this.sessions.size() + 1;
         }
+
+        @Override
+        public Optional<Person> getPersonById(int id) {
+            return snapshot().getPersonById(id);
+        }
+
+        @Override
+        public BitSet getPersonIdsWithAnyTag(Collection<String> tagNames) {
+            return snapshot().getPersonIdsWithAnyTag(tagNames);
+        }
+
+        @Override
+        public BitSet getPersonIdsWithAllTags(Collection<String> tagNames) {
+            return snapshot().getPersonIdsWithAllTags(tagNames);
+        }
+
+        @Override
+        public Map<Person, Integer> getPersonsWithNameNear(String word) {
+            return snapshot().getPersonsWithNameNear(word);
+        }
+
+        @Override
+        public List<Session> getSessionsOnDates(LocalDate from, LocalDate to) {
+            return snapshot().getSessionsOnDates(from, to);
+        }
+
+        private ReadOnlyAddressBook snapshot() {
+            return new AddressBookSnapshot(persons, sessions, attendanceRecords, getNextPersonId(), getNextSessionId(),
+                    null);
+        }
     }
 }
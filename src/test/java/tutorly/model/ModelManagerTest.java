@@ -5,21 +5,43 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.model.Model.FILTER_SHOW_ALL_PERSONS;
+import static tutorly.model.Model.FILTER_SHOW_ALL_SESSIONS;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE;
 import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_ENGLISH;
 import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL_NOT_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.DANIEL_NOT_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.ELLE_NOT_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.FIONA;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import tutorly.commons.core.GuiSettings;
+import tutorly.model.filter.AttendSessionFilter;
+import tutorly.model.filter.FuzzyNameFilter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
 import tutorly.model.person.Identity;
+import tutorly.model.person.Name;
+import tutorly.model.person.Person;
+import tutorly.model.sort.PersonSortKey;
+import tutorly.model.sort.SessionSortKey;
+import tutorly.model.sort.SortOrder;
 import tutorly.testutil.AddressBookBuilder;
+import tutorly.testutil.AttendanceRecordBuilder;
+import tutorly.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -102,6 +124,136 @@ public class ModelManagerTest {
         assertTrue(modelManager.getPersonByIdentity(new Identity(ALICE.getId())).isEmpty());
     }
 
+    @Test
+    public void getSimilarPersons_misspeltName_returnsClosestFirst() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Identity misspeltIdentity = new Identity(new Name("Danial Meier"));
+        assertEquals(List.of(DANIEL, BENSON, ELLE), modelManager.getSimilarPersons(misspeltIdentity));
+        assertTrue(modelManager.getSimilarPersons(new Identity(new Name("Xavier Zed"))).isEmpty());
+        assertTrue(modelManager.getSimilarPersons(new Identity(ALICE.getId())).isEmpty());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedFilter_sortsByRank() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new FuzzyNameFilter(List.of("meyer")));
+        assertEquals(List.of(ELLE, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS);
+        assertEquals(modelManager.getPersonList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_addressBookChanged_refiltersCachedFilter() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        NameContainsKeywordsFilter filter = new NameContainsKeywordsFilter(List.of("Meier"));
+        modelManager.updateFilteredPersonList(filter);
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS);
+        modelManager.deletePerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsFilter(List.of("Meier")));
+        assertEquals(List.of(DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_sortOrderWithLimit_showsFirstInOrder() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS,
+                new SortOrder<>(Optional.of(PersonSortKey.ATTENDANCE), 4));
+        assertEquals(List.of(DANIEL, ELLE, FIONA, ALICE), modelManager.getFilteredPersonList());
+
+        // limit without sort key keeps the ID order
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsFilter(List.of("Meier", "Meyer")),
+                new SortOrder<>(Optional.empty(), 2));
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // sort key takes precedence over the ranking of the filter
+        modelManager.updateFilteredPersonList(new FuzzyNameFilter(List.of("meyer")),
+                new SortOrder<>(Optional.of(PersonSortKey.NAME), SortOrder.NO_LIMIT));
+        assertEquals(List.of(BENSON, DANIEL, ELLE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredSessionList_sortOrderWithLimit_showsFirstInOrder() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredSessionList(FILTER_SHOW_ALL_SESSIONS,
+                new SortOrder<>(Optional.of(SessionSortKey.SUBJECT), 1));
+        assertEquals(List.of(ENGLISH_SESSION), modelManager.getFilteredSessionList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_attendanceRecordAdded_showsEnrolledPerson() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new AttendSessionFilter(ENGLISH_SESSION.getId()));
+        assertEquals(List.of(ALICE, CARL, DANIEL, FIONA), modelManager.getFilteredPersonList());
+
+        modelManager.addAttendanceRecord(new AttendanceRecordBuilder().withPerson(BENSON)
+                .withSession(ENGLISH_SESSION).build());
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, FIONA), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_unreadListChanged_keepsCachedResult() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int[] compileCount = new int[1];
+        NameContainsKeywordsFilter filter = new NameContainsKeywordsFilter(List.of("Meier")) {
+            @Override
+            public Predicate<Person> compile(ReadOnlyAddressBook addressBook) {
+                compileCount[0]++;
+                return super.compile(addressBook);
+            }
+        };
+        modelManager.updateFilteredPersonList(filter);
+        assertEquals(1, compileCount[0]);
+
+        // the filter does not read the attendance records
+        modelManager.addAttendanceRecord(new AttendanceRecordBuilder().withPerson(BENSON)
+                .withSession(ENGLISH_SESSION).build());
+        modelManager.updateFilteredPersonList(filter);
+        assertEquals(1, compileCount[0]);
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // the filter reads the persons being filtered
+        modelManager.deletePerson(BENSON);
+        assertEquals(2, compileCount[0]);
+        assertEquals(List.of(DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personEdited_showsEditedPerson() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsFilter(List.of("Meier")),
+                new SortOrder<>(Optional.empty(), 2));
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedBenson, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_attendanceMarkedInTransaction_resortsOnCommit() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS,
+                new SortOrder<>(Optional.of(PersonSortKey.ATTENDANCE), 4));
+        assertEquals(List.of(DANIEL, ELLE, FIONA, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.beginTransaction();
+        modelManager.setAttendanceRecord(DANIEL_NOT_ATTEND_MATH,
+                new AttendanceRecordBuilder(DANIEL_NOT_ATTEND_MATH).withIsPresent(true).build());
+        modelManager.setAttendanceRecord(DANIEL_NOT_ATTEND_ENGLISH,
+                new AttendanceRecordBuilder(DANIEL_NOT_ATTEND_ENGLISH).withIsPresent(true).build());
+        modelManager.commitTransaction();
+        assertEquals(List.of(ELLE, FIONA, ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        // rolled back modifications are undone in the view too
+        modelManager.beginTransaction();
+        modelManager.removeAttendanceRecord(ELLE_NOT_ATTEND_MATH);
+        modelManager.rollbackTransaction();
+        assertEquals(List.of(ELLE, FIONA, ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void hasAttendanceRecord_recordInAddressBook_returnsFalse() {
         assertFalse(modelManager.hasAttendanceRecord(ALICE_ATTEND_ENGLISH));
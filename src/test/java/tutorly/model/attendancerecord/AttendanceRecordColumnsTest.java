@@ -0,0 +1,149 @@
+package tutorly.model.attendancerecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.testutil.AttendanceRecordBuilder;
+
+public class AttendanceRecordColumnsTest {
+
+    private final AttendanceRecordColumns columns = new AttendanceRecordColumns();
+
+    private static AttendanceRecord record(int studentId, int sessionId, boolean isPresent, String feedback) {
+        return new AttendanceRecordBuilder().withStudentId(studentId).withSessionId(sessionId)
+                .withIsPresent(isPresent).withFeedback(new Feedback(feedback)).build();
+    }
+
+    @Test
+    public void add_manyRecords_matchesArrayList() {
+        List<AttendanceRecord> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            AttendanceRecord record = record(i, i, i % 3 == 0, i % 5 == 0 ? "Feedback " + i : "");
+            int index = i / 2;
+            expected.add(index, record);
+            columns.add(index, record);
+        }
+        assertEquals(expected, columns);
+    }
+
+    @Test
+    public void remove_middleRecord_shiftsFollowingRecords() {
+        AttendanceRecord first = record(1, 1, true, "");
+        AttendanceRecord second = record(2, 1, false, "Late");
+        AttendanceRecord third = record(3, 1, true, "Good");
+        columns.addAll(List.of(first, second, third));
+
+        assertEquals(second, columns.remove(1));
+        assertEquals(List.of(first, third), columns);
+    }
+
+    @Test
+    public void removeIndices_scatteredRecords_keepsFeedbackOfShiftedRecords() {
+        List<AttendanceRecord> records = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            records.add(record(i, 1, i % 2 == 0, "Feedback " + i));
+        }
+        columns.addAll(records);
+
+        BitSet indices = new BitSet();
+        indices.set(0);
+        indices.set(2, 4);
+        columns.removeIndices(indices);
+        assertEquals(List.of(records.get(1), records.get(4), records.get(5)), columns);
+    }
+
+    @Test
+    public void set_differentRecord_replacesFeedback() {
+        columns.add(record(1, 1, true, "Good"));
+        AttendanceRecord edited = record(1, 2, false, "");
+
+        columns.set(0, edited);
+        assertEquals(List.of(edited), columns);
+        assertEquals(Feedback.empty(), columns.get(0).getFeedback());
+    }
+
+    @Test
+    public void addAll_atIndex_insertsRecordsInOrder() {
+        AttendanceRecord first = record(1, 1, true, "");
+        AttendanceRecord last = record(4, 1, true, "");
+        columns.addAll(List.of(first, last));
+
+        List<AttendanceRecord> middle = List.of(record(2, 1, false, "Absent"), record(3, 1, true, ""));
+        columns.addAll(1, middle);
+        assertEquals(List.of(first, middle.get(0), middle.get(1), last), columns);
+    }
+
+    @Test
+    public void indexOf_sortedRecords_findsRecord() {
+        columns.addAll(List.of(record(1, 2, true, ""), record(1, 5, true, ""), record(3, 1, true, "")));
+        assertEquals(1, columns.indexOf(1, 5));
+        assertEquals(-1, columns.indexOf(2, 1));
+        assertEquals(2, columns.lowerBound(3, Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void snapshot_columnsModifiedAfterwards_snapshotUnchanged() {
+        AttendanceRecord first = record(1, 1, true, "Good");
+        AttendanceRecord second = record(2, 1, false, "");
+        columns.addAll(List.of(first, second));
+        List<AttendanceRecord> snapshot = columns.snapshot();
+
+        columns.set(0, record(1, 1, false, ""));
+        columns.add(record(3, 1, true, "Late"));
+        columns.remove(1);
+        assertEquals(List.of(first, second), snapshot);
+
+        columns.clear();
+        assertEquals(List.of(first, second), snapshot);
+    }
+
+    @Test
+    public void modificationsAcrossChunks_keepRowsSortedAndSnapshotsUnchanged() {
+        AttendanceRecordColumns chunkedColumns = new AttendanceRecordColumns(4);
+        List<AttendanceRecord> expected = new ArrayList<>();
+        for (int studentId = 20; studentId > 0; studentId--) {
+            for (int sessionId = 1; sessionId <= 3; sessionId++) {
+                AttendanceRecord record = record(studentId, sessionId, studentId % 2 == 0, "Feedback " + studentId);
+                int index = chunkedColumns.lowerBound(studentId, sessionId);
+                chunkedColumns.add(index, record);
+                expected.add(record);
+            }
+        }
+        expected.sort(Comparator.comparingInt(AttendanceRecord::getStudentId)
+                .thenComparingInt(AttendanceRecord::getSessionId));
+        assertEquals(expected, chunkedColumns);
+        assertEquals(expected.indexOf(record(7, 2, false, "Feedback 7")), chunkedColumns.indexOf(7, 2));
+        assertEquals(-1, chunkedColumns.indexOf(7, 4));
+        assertEquals(-1, chunkedColumns.indexOf(21, 1));
+
+        List<AttendanceRecord> snapshot = chunkedColumns.snapshot();
+        BitSet indices = new BitSet();
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            if (expected.get(i).getSessionId() == 2) {
+                indices.set(i);
+                expected.remove(i);
+            }
+        }
+        chunkedColumns.removeIndices(indices);
+        chunkedColumns.set(0, record(1, 1, true, ""));
+        expected.set(0, record(1, 1, true, ""));
+
+        assertEquals(expected, chunkedColumns);
+        assertEquals(60, snapshot.size());
+        assertEquals(record(1, 1, false, "Feedback 1"), snapshot.get(0));
+        assertEquals(record(7, 2, false, "Feedback 7"), snapshot.get(19));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.get(0));
+    }
+
+}
@@ -5,14 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_MATH;
 import static tutorly.testutil.TypicalAddressBook.BENSON_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.CARL_ATTEND_ENGLISH;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import tutorly.model.uniquelist.exceptions.DuplicateElementException;
 import tutorly.model.uniquelist.exceptions.ElementNotFoundException;
 import tutorly.testutil.AttendanceRecordBuilder;
@@ -163,6 +167,90 @@ public class UniqueAttendanceRecordListTest {
                 uniqueAttendanceRecordList.setAll(listWithDuplicateRecords));
     }
 
+    @Test
+    public void setAll_listWithEquivalentRecords_throwsDuplicateElementException() {
+        AttendanceRecord editedRecord = new AttendanceRecordBuilder(ALICE_ATTEND_ENGLISH).withIsPresent(false).build();
+        List<AttendanceRecord> listWithDuplicateRecords =
+                Arrays.asList(ALICE_ATTEND_ENGLISH, BENSON_ATTEND_MATH, CARL_ATTEND_ENGLISH, editedRecord);
+        assertThrows(DuplicateElementException.class, () ->
+                uniqueAttendanceRecordList.setAll(listWithDuplicateRecords));
+    }
+
+    @Test
+    public void find_equivalentRecordInList_returnsRecordInList() {
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        AttendanceRecord editedRecord = new AttendanceRecordBuilder(ALICE_ATTEND_ENGLISH).withIsPresent(false).build();
+        assertEquals(ALICE_ATTEND_ENGLISH, uniqueAttendanceRecordList.find(editedRecord).get());
+    }
+
+    @Test
+    public void getRecordsBySessionId_recordsInList_returnsSessionRecords() {
+        uniqueAttendanceRecordList.setAll(Arrays.asList(ALICE_ATTEND_ENGLISH, BENSON_ATTEND_MATH, CARL_ATTEND_ENGLISH));
+        assertEquals(List.of(ALICE_ATTEND_ENGLISH, CARL_ATTEND_ENGLISH),
+                uniqueAttendanceRecordList.getRecordsBySessionId(ALICE_ATTEND_ENGLISH.getSessionId()));
+        assertEquals(List.of(), uniqueAttendanceRecordList.getRecordsBySessionId(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void getRecordsByStudentId_afterRemoveAndSet_returnsUpdatedRecords() {
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_MATH);
+        uniqueAttendanceRecordList.remove(ALICE_ATTEND_MATH);
+        assertEquals(List.of(ALICE_ATTEND_ENGLISH),
+                uniqueAttendanceRecordList.getRecordsByStudentId(ALICE_ATTEND_ENGLISH.getStudentId()));
+
+        AttendanceRecord editedRecord = new AttendanceRecordBuilder(ALICE_ATTEND_ENGLISH).withIsPresent(false).build();
+        uniqueAttendanceRecordList.set(ALICE_ATTEND_ENGLISH, editedRecord);
+        assertEquals(List.of(editedRecord),
+                uniqueAttendanceRecordList.getRecordsByStudentId(ALICE_ATTEND_ENGLISH.getStudentId()));
+        assertEquals(List.of(editedRecord),
+                uniqueAttendanceRecordList.getRecordsBySessionId(ALICE_ATTEND_ENGLISH.getSessionId()));
+    }
+
+    @Test
+    public void getRecordsByStudentId_outOfOrderAdds_returnsRecordsWithFeedback() {
+        AttendanceRecord recordWithFeedback = new AttendanceRecordBuilder(ALICE_ATTEND_MATH)
+                .withFeedback(new Feedback("Participated well")).build();
+        uniqueAttendanceRecordList.add(CARL_ATTEND_ENGLISH);
+        uniqueAttendanceRecordList.add(recordWithFeedback);
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+
+        assertEquals(List.of(recordWithFeedback, ALICE_ATTEND_ENGLISH),
+                uniqueAttendanceRecordList.getRecordsByStudentId(ALICE_ATTEND_MATH.getStudentId()));
+        assertEquals(recordWithFeedback, uniqueAttendanceRecordList.find(ALICE_ATTEND_MATH).get());
+    }
+
+    @Test
+    public void removeByStudentId_studentWithRecords_removesOnlyStudentRecords() {
+        uniqueAttendanceRecordList.setAll(Arrays.asList(ALICE_ATTEND_ENGLISH, ALICE_ATTEND_MATH, BENSON_ATTEND_MATH,
+                CARL_ATTEND_ENGLISH));
+        assertEquals(List.of(ALICE_ATTEND_MATH, ALICE_ATTEND_ENGLISH),
+                uniqueAttendanceRecordList.removeByStudentId(ALICE_ATTEND_MATH.getStudentId()));
+
+        assertEquals(List.of(BENSON_ATTEND_MATH, CARL_ATTEND_ENGLISH),
+                uniqueAttendanceRecordList.asUnmodifiableObservableList());
+        assertEquals(List.of(BENSON_ATTEND_MATH),
+                uniqueAttendanceRecordList.getRecordsBySessionId(BENSON_ATTEND_MATH.getSessionId()));
+    }
+
+    @Test
+    public void removeBySessionId_sessionWithRecords_removesOnlySessionRecords() {
+        uniqueAttendanceRecordList.setAll(Arrays.asList(ALICE_ATTEND_ENGLISH, ALICE_ATTEND_MATH, BENSON_ATTEND_MATH,
+                CARL_ATTEND_ENGLISH));
+        List<Integer> changeCount = new ArrayList<>();
+        uniqueAttendanceRecordList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<AttendanceRecord>) change -> changeCount.add(1));
+        long version = uniqueAttendanceRecordList.getVersion();
+        assertEquals(List.of(ALICE_ATTEND_ENGLISH, CARL_ATTEND_ENGLISH),
+                uniqueAttendanceRecordList.removeBySessionId(ALICE_ATTEND_ENGLISH.getSessionId()));
+        assertEquals(1, changeCount.size());
+        assertEquals(version + 1, uniqueAttendanceRecordList.getVersion());
+
+        assertEquals(List.of(ALICE_ATTEND_MATH, BENSON_ATTEND_MATH),
+                uniqueAttendanceRecordList.asUnmodifiableObservableList());
+        assertEquals(List.of(), uniqueAttendanceRecordList.removeBySessionId(ALICE_ATTEND_ENGLISH.getSessionId()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,69 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+
+public class AbsentSessionFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        AbsentSessionFilter firstFilter = new AbsentSessionFilter(MATH_SESSION.getId());
+        AbsentSessionFilter secondFilter = new AbsentSessionFilter(ENGLISH_SESSION.getId());
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new AbsentSessionFilter(MATH_SESSION.getId())));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_absentFromSession_returnsTrue() {
+        Predicate<Person> predicate = new AbsentSessionFilter(MATH_SESSION.getId()).toPredicate(addressBook);
+        assertTrue(predicate.test(DANIEL));
+        assertTrue(predicate.test(ELLE));
+    }
+
+    @Test
+    public void test_presentOrNotEnrolled_returnsFalse() {
+        Predicate<Person> predicate = new AbsentSessionFilter(MATH_SESSION.getId()).toPredicate(addressBook);
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void toStringMethod() {
+        int sessionId = MATH_SESSION.getId();
+        AbsentSessionFilter filter = new AbsentSessionFilter(sessionId);
+
+        String expected = AbsentSessionFilter.class.getCanonicalName() + "{sessionId=" + sessionId + "}";
+        assertEquals(expected, filter.toString());
+    }
+
+}
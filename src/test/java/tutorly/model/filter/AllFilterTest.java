@@ -0,0 +1,101 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+public class AllFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        Filter<Person> firstFilter = Filter.all(List.of(new AttendSessionFilter(1)));
+        Filter<Person> secondFilter = Filter.all(List.of(new AttendSessionFilter(2)));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(Filter.all(List.of(new AttendSessionFilter(1)))));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(Filter.any(List.of(new AttendSessionFilter(1)))));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different filters -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void compile_sameResultAsToPredicate() {
+        List<Filter<Person>> filters = List.of(
+                Filter.all(List.of(new AttendSessionFilter(MATH_SESSION.getId()),
+                        new NameContainsKeywordsFilter(List.of("meier", "Ali")))),
+                Filter.all(List.of(new AttendSessionFilter(ENGLISH_SESSION.getId()),
+                        Filter.not(new AbsentSessionFilter(ENGLISH_SESSION.getId())),
+                        Filter.all(List.of(new PhoneContainsKeywordsFilter(List.of("9")))))),
+                Filter.all(List.of(new FuzzyNameFilter(List.of("meyer")),
+                        Filter.any(List.of(new AttendAllSessionsFilter(List.of(1, 2)),
+                                new AttendanceBelowFilter(50))))),
+                Filter.all(List.of(Filter.not(new NameContainsKeywordsFilter(List.of("a"))))),
+                Filter.all(List.of()));
+
+        for (Filter<Person> filter : filters) {
+            Predicate<Person> expected = filter.toPredicate(addressBook);
+            Predicate<Person> actual = filter.compile(addressBook);
+            for (Person person : addressBook.getPersonList()) {
+                assertEquals(expected.test(person), actual.test(person), filter + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void getCandidates_intersectsIndexedFilters() {
+        Filter<Person> filter = Filter.all(List.of(new AttendSessionFilter(MATH_SESSION.getId()),
+                new AttendSessionFilter(ENGLISH_SESSION.getId()),
+                Filter.not(new NameContainsKeywordsFilter(List.of("xyz")))));
+        assertEquals(Set.of(ALICE, DANIEL), new HashSet<>(filter.getCandidates(addressBook).orElseThrow()));
+
+        Filter<Person> unindexedFilter = Filter.all(List.of(Filter.not(new AttendSessionFilter(1))));
+        assertTrue(unindexedFilter.getCandidates(addressBook).isEmpty());
+    }
+
+    @Test
+    public void compile_withCandidates_testsOnlyCandidates() {
+        List<Person> tested = new ArrayList<>();
+        Filter<Person> unindexed = new Filter<>() {
+            @Override
+            public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+                return tested::add;
+            }
+        };
+
+        Predicate<Person> predicate = Filter.all(List.of(unindexed, new NameContainsKeywordsFilter(List.of("Benson"))))
+                .compile(addressBook);
+        assertEquals(List.of(BENSON), tested);
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+    }
+
+}
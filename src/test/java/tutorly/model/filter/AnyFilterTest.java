@@ -0,0 +1,73 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+
+public class AnyFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void compile_sameResultAsToPredicate() {
+        Filter<Person> filter = Filter.any(List.of(
+                new AttendSessionFilter(MATH_SESSION.getId()),
+                new NameContainsKeywordsFilter(List.of("meier", "Ali")),
+                Filter.any(List.of(new PhoneContainsKeywordsFilter(List.of("9482")),
+                        new NameContainsKeywordsFilter(List.of("meier", "Ali"))))));
+
+        Predicate<Person> expected = filter.toPredicate(addressBook);
+        Predicate<Person> actual = filter.compile(addressBook);
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(expected.test(person), actual.test(person), person.toString());
+        }
+    }
+
+    @Test
+    public void compile_nestedEmptyFilter_matchesAll() {
+        Filter<Person> filter = Filter.any(List.of(new NameContainsKeywordsFilter(List.of("xyz")),
+                Filter.any(List.of())));
+        assertTrue(addressBook.getPersonList().stream().allMatch(filter.compile(addressBook)));
+    }
+
+    @Test
+    public void compile_cheaperFiltersTestedFirst() {
+        List<String> tested = new ArrayList<>();
+        Filter<Person> expensive = new Filter<>() {
+            @Override
+            public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+                return person -> {
+                    tested.add("expensive");
+                    return false;
+                };
+            }
+        };
+        Filter<Person> cheap = new Filter<>() {
+            @Override
+            public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+                return person -> tested.add("cheap");
+            }
+
+            @Override
+            public int getCost() {
+                return COST_FIELD;
+            }
+        };
+
+        assertTrue(Filter.any(List.of(expensive, cheap)).compile(addressBook).test(new PersonBuilder().build()));
+        assertEquals(List.of("cheap"), tested);
+    }
+
+}
@@ -0,0 +1,70 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+
+public class AttendAllSessionsFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final List<Integer> sessionIds = List.of(MATH_SESSION.getId(), ENGLISH_SESSION.getId());
+
+    @Test
+    public void equals() {
+        AttendAllSessionsFilter firstFilter = new AttendAllSessionsFilter(sessionIds);
+        AttendAllSessionsFilter secondFilter = new AttendAllSessionsFilter(List.of(MATH_SESSION.getId()));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new AttendAllSessionsFilter(sessionIds)));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_attendAllSessions_returnsTrue() {
+        Predicate<Person> predicate = new AttendAllSessionsFilter(sessionIds).toPredicate(addressBook);
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(DANIEL));
+    }
+
+    @Test
+    public void test_attendSomeSessions_returnsFalse() {
+        Predicate<Person> predicate = new AttendAllSessionsFilter(sessionIds).toPredicate(addressBook);
+        assertFalse(predicate.test(BENSON));
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AttendAllSessionsFilter filter = new AttendAllSessionsFilter(sessionIds);
+
+        String expected = AttendAllSessionsFilter.class.getCanonicalName() + "{sessionIds=" + sessionIds + "}";
+        assertEquals(expected, filter.toString());
+    }
+
+}
@@ -0,0 +1,78 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.FIONA;
+import static tutorly.testutil.TypicalAddressBook.GEORGE;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+
+public class AttendanceBelowFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void constructor_invalidPercentage_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AttendanceBelowFilter(101));
+        assertThrows(IllegalArgumentException.class, () -> new AttendanceBelowFilter(-1));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceBelowFilter firstFilter = new AttendanceBelowFilter(50);
+        AttendanceBelowFilter secondFilter = new AttendanceBelowFilter(75);
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new AttendanceBelowFilter(50)));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_attendanceBelowPercentage_returnsTrue() {
+        Predicate<Person> predicate = new AttendanceBelowFilter(50).toPredicate(addressBook);
+        assertTrue(predicate.test(DANIEL));
+        assertTrue(predicate.test(FIONA));
+    }
+
+    @Test
+    public void test_attendanceNotBelowPercentage_returnsFalse() {
+        // full attendance
+        assertFalse(new AttendanceBelowFilter(100).toPredicate(addressBook).test(ALICE));
+
+        // no sessions attended
+        assertFalse(new AttendanceBelowFilter(100).toPredicate(addressBook).test(GEORGE));
+
+        // nothing is below 0%
+        assertFalse(new AttendanceBelowFilter(0).toPredicate(addressBook).test(DANIEL));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AttendanceBelowFilter filter = new AttendanceBelowFilter(50);
+
+        String expected = AttendanceBelowFilter.class.getCanonicalName() + "{percentage=50}";
+        assertEquals(expected, filter.toString());
+    }
+
+}
@@ -0,0 +1,98 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.session.Session;
+import tutorly.model.session.Timeslot;
+import tutorly.testutil.SessionBuilder;
+
+public class DateRangeSessionFilterTest {
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final LocalDate firstDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate secondDate = LocalDate.of(2025, 1, 3);
+    private final Session session = new SessionBuilder().withTimeslot(
+            new Timeslot(firstDate.atTime(10, 0), secondDate.atTime(12, 0))).build();
+
+    @Test
+    public void equals() {
+        DateRangeSessionFilter firstFilter = new DateRangeSessionFilter(firstDate, secondDate);
+        DateRangeSessionFilter secondFilter = new DateRangeSessionFilter(firstDate, LocalDate.MAX);
+
+        // same object -> returns true
+        assertEquals(firstFilter, firstFilter);
+
+        // same values -> returns true
+        assertEquals(firstFilter, new DateRangeSessionFilter(firstDate, secondDate));
+
+        // different types -> returns false
+        assertNotEquals(firstFilter, 1);
+
+        // null -> returns false
+        assertNotEquals(firstFilter, null);
+
+        // different range -> returns false
+        assertNotEquals(firstFilter, secondFilter);
+    }
+
+    @Test
+    public void test_sessionInRange_returnsTrue() {
+        // overlaps start of session
+        assertTrue(new DateRangeSessionFilter(LocalDate.MIN, firstDate).toPredicate(addressBook).test(session));
+
+        // within session
+        assertTrue(new DateRangeSessionFilter(firstDate.plusDays(1), firstDate.plusDays(1))
+                .toPredicate(addressBook).test(session));
+
+        // overlaps end of session
+        assertTrue(new DateRangeSessionFilter(secondDate, LocalDate.MAX).toPredicate(addressBook).test(session));
+    }
+
+    @Test
+    public void test_sessionNotInRange_returnsFalse() {
+        assertFalse(new DateRangeSessionFilter(LocalDate.MIN, firstDate.minusDays(1))
+                .toPredicate(addressBook).test(session));
+        assertFalse(new DateRangeSessionFilter(secondDate.plusDays(1), LocalDate.MAX)
+                .toPredicate(addressBook).test(session));
+    }
+
+    @Test
+    public void compile_sameResultAsToPredicate() {
+        addressBook.addSession(session);
+        DateRangeSessionFilter filter = new DateRangeSessionFilter(firstDate.plusDays(1), LocalDate.MAX);
+        Predicate<Session> expected = filter.toPredicate(addressBook);
+        Predicate<Session> actual = filter.compile(addressBook);
+        for (Session sessionInAddressBook : addressBook.getSessionList()) {
+            assertEquals(expected.test(sessionInAddressBook), actual.test(sessionInAddressBook));
+        }
+        assertTrue(actual.test(session));
+    }
+
+    @Test
+    public void compile_rangeBeforeAllSessions_matchesNothing() {
+        addressBook.addSession(session);
+        Predicate<Session> predicate = new DateRangeSessionFilter(LocalDate.MIN, firstDate.minusDays(1))
+                .compile(addressBook);
+        for (Session sessionInAddressBook : addressBook.getSessionList()) {
+            assertFalse(predicate.test(sessionInAddressBook));
+        }
+    }
+
+    @Test
+    public void toStringMethod() {
+        DateRangeSessionFilter filter = new DateRangeSessionFilter(firstDate, secondDate);
+
+        String expected = DateRangeSessionFilter.class.getCanonicalName() + "{from=" + firstDate + ", to="
+                + secondDate + "}";
+        assertEquals(expected, filter.toString());
+    }
+}
@@ -0,0 +1,101 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+
+public class FuzzyNameFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        FuzzyNameFilter firstFilter = new FuzzyNameFilter(List.of("first"));
+        FuzzyNameFilter secondFilter = new FuzzyNameFilter(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new FuzzyNameFilter(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_nameWithinTypoTolerance_returnsTrue() {
+        // transposed letters
+        assertTrue(new FuzzyNameFilter(List.of("Alcie")).toPredicate(addressBook).test(ALICE));
+
+        // missing letter
+        assertTrue(new FuzzyNameFilter(List.of("bensn")).toPredicate(addressBook).test(BENSON));
+
+        // wrong letter
+        assertTrue(new FuzzyNameFilter(List.of("meyer")).toPredicate(addressBook).test(DANIEL));
+
+        // only one keyword matches
+        assertTrue(new FuzzyNameFilter(List.of("xyz", "Pualine")).toPredicate(addressBook).test(ALICE));
+    }
+
+    @Test
+    public void test_nameBeyondTypoTolerance_returnsFalse() {
+        // short words must match exactly
+        assertFalse(new FuzzyNameFilter(List.of("Al")).toPredicate(addressBook).test(ALICE));
+
+        // too many typos
+        assertFalse(new FuzzyNameFilter(List.of("Alxei")).toPredicate(addressBook).test(ALICE));
+    }
+
+    @Test
+    public void compile_matchesToPredicate() {
+        List<List<String>> keywordLists = List.of(List.of("meier"), List.of("alcie", "kurz"), List.of("xyz"),
+                List.of("Benson", "Best"), List.of());
+        for (List<String> keywords : keywordLists) {
+            FuzzyNameFilter filter = new FuzzyNameFilter(keywords);
+            Predicate<Person> expected = filter.toPredicate(addressBook);
+            Predicate<Person> compiled = filter.compile(addressBook);
+            for (Person person : addressBook.getPersonList()) {
+                assertEquals(expected.test(person), compiled.test(person), keywords + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void compile_personNotInAddressBook_returnsFalse() {
+        Person person = new PersonBuilder().withName("Alice Pauline").build();
+        assertFalse(new FuzzyNameFilter(List.of("alice")).compile(addressBook).test(person));
+    }
+
+    @Test
+    public void toRanking_closerMatchesFirst() {
+        FuzzyNameFilter filter = new FuzzyNameFilter(List.of("Meier", "Daniel"));
+        List<Person> matches = new ArrayList<>(List.of(ELLE, BENSON, DANIEL));
+        Comparator<Person> ranking = filter.toRanking(addressBook).orElseThrow();
+        matches.sort(ranking);
+        assertEquals(List.of(DANIEL, BENSON, ELLE), matches);
+    }
+
+}
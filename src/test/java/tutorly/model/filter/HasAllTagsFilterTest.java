@@ -0,0 +1,81 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+public class HasAllTagsFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final List<String> tagNames = List.of("owesmoney", "FRIENDS");
+
+    @Test
+    public void equals() {
+        HasAllTagsFilter firstFilter = new HasAllTagsFilter(tagNames);
+        HasAllTagsFilter secondFilter = new HasAllTagsFilter(List.of("friends"));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new HasAllTagsFilter(tagNames)));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+
+        // any tag instead of all tags -> returns false
+        assertFalse(firstFilter.equals(new HasTagFilter(tagNames)));
+    }
+
+    @Test
+    public void test_hasAllTags_returnsTrue() {
+        Predicate<Person> predicate = new HasAllTagsFilter(tagNames).toPredicate(addressBook);
+        assertTrue(predicate.test(BENSON));
+    }
+
+    @Test
+    public void test_hasSomeTags_returnsFalse() {
+        Predicate<Person> predicate = new HasAllTagsFilter(tagNames).toPredicate(addressBook);
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(CARL));
+        assertFalse(new HasAllTagsFilter(List.of("friends", "unknown")).toPredicate(addressBook).test(BENSON));
+    }
+
+    @Test
+    public void getCandidates_matchesScanningAddressBook() {
+        // The snapshot scans its persons instead of using the tag index
+        ReadOnlyAddressBook scanningAddressBook = addressBook.snapshot();
+        assertEquals(Set.of(BENSON), new HasAllTagsFilter(tagNames).getCandidates(addressBook).get());
+        assertEquals(addressBook.getPersonIdsWithAllTags(tagNames),
+                scanningAddressBook.getPersonIdsWithAllTags(tagNames));
+    }
+
+    @Test
+    public void toStringMethod() {
+        HasAllTagsFilter filter = new HasAllTagsFilter(tagNames);
+
+        String expected = HasAllTagsFilter.class.getCanonicalName() + "{tagNames=" + tagNames + "}";
+        assertEquals(expected, filter.toString());
+    }
+
+}
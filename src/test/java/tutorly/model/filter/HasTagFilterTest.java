@@ -0,0 +1,81 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+public class HasTagFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final List<String> tagNames = List.of("owesmoney", "FRIENDS");
+
+    @Test
+    public void equals() {
+        HasTagFilter firstFilter = new HasTagFilter(tagNames);
+        HasTagFilter secondFilter = new HasTagFilter(List.of("friends"));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new HasTagFilter(tagNames)));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_hasAnyTag_returnsTrue() {
+        Predicate<Person> predicate = new HasTagFilter(tagNames).toPredicate(addressBook);
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertTrue(predicate.test(DANIEL));
+    }
+
+    @Test
+    public void test_hasNoTag_returnsFalse() {
+        assertFalse(new HasTagFilter(tagNames).toPredicate(addressBook).test(CARL));
+        assertFalse(new HasTagFilter(List.of("friend")).toPredicate(addressBook).test(ALICE));
+    }
+
+    @Test
+    public void getCandidates_matchesScanningAddressBook() {
+        // The snapshot scans its persons instead of using the tag index
+        ReadOnlyAddressBook scanningAddressBook = addressBook.snapshot();
+        Optional<Set<Person>> candidates = new HasTagFilter(tagNames).getCandidates(addressBook);
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), candidates.get());
+        assertEquals(addressBook.getPersonIdsWithAnyTag(tagNames),
+                scanningAddressBook.getPersonIdsWithAnyTag(tagNames));
+    }
+
+    @Test
+    public void toStringMethod() {
+        HasTagFilter filter = new HasTagFilter(tagNames);
+
+        String expected = HasTagFilter.class.getCanonicalName() + "{tagNames=" + tagNames + "}";
+        assertEquals(expected, filter.toString());
+    }
+
+}
@@ -11,7 +11,9 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import tutorly.commons.util.StringUtil;
 import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
 import tutorly.testutil.PersonBuilder;
 
 public class NameContainsKeywordsFilterTest {
@@ -78,6 +80,21 @@ public class NameContainsKeywordsFilterTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_personsInAddressBook_sameAsContainsWordIgnoreCase() {
+        List<String> keywords = List.of("a", "MEI", "eier", "Kurz", "xyz", "nso");
+        for (String keyword : keywords) {
+            NameContainsKeywordsFilter filter = new NameContainsKeywordsFilter(List.of(keyword));
+            List<Person> expected = addressBook.getPersonList().stream()
+                    .filter(person -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword))
+                    .toList();
+            List<Person> actual = addressBook.getPersonList().stream()
+                    .filter(filter.toPredicate(addressBook))
+                    .toList();
+            assertEquals(expected, actual);
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
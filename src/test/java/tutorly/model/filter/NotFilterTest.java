@@ -0,0 +1,59 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.GEORGE;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+
+public class NotFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        Filter<Person> firstFilter = Filter.not(new AttendSessionFilter(1));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(Filter.not(new AttendSessionFilter(1))));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(new AttendSessionFilter(1)));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different filters -> returns false
+        assertFalse(firstFilter.equals(Filter.not(new AttendSessionFilter(2))));
+    }
+
+    @Test
+    public void test_negatesFilter() {
+        Filter<Person> filter = Filter.not(new NameContainsKeywordsFilter(List.of("Alice")));
+        for (Predicate<Person> predicate : List.of(filter.toPredicate(addressBook), filter.compile(addressBook))) {
+            assertFalse(predicate.test(ALICE));
+            assertTrue(predicate.test(GEORGE));
+        }
+    }
+
+    @Test
+    public void compile_doubleNegation_matchesFilter() {
+        Filter<Person> filter = Filter.not(Filter.not(new NameContainsKeywordsFilter(List.of("Alice"))));
+        Predicate<Person> predicate = filter.compile(addressBook);
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(GEORGE));
+        assertTrue(filter.getCandidates(addressBook).isEmpty());
+    }
+
+}
@@ -1,13 +1,43 @@
 package tutorly.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
 
+    @Test
+    public void constructor_differentCase_keepsSpelling() {
+        // names differing only in case are equal but keep their own spelling
+        Name differentCase = new Name("alice pauline");
+        assertEquals(new Name("Alice Pauline"), differentCase);
+        assertEquals("alice pauline", differentCase.fullName);
+    }
+
+    @Test
+    public void hashCode_equalNames_sameHashCode() {
+        assertEquals(new Name("Alice Pauline").hashCode(), new Name("aLICE pAULINE").hashCode());
+        assertEquals(new Name("Ödön Σωκράτης").hashCode(), new Name("öDÖN ΣΩΚΡΆΤΗΣ").hashCode());
+        // lowercasing a dotted capital I adds a combining dot, but it equals a plain i ignoring case
+        assertEquals(new Name("İlkay"), new Name("ilkay"));
+        assertEquals(new Name("İlkay").hashCode(), new Name("ilkay").hashCode());
+
+        // the hash does not depend on the default locale, which lowercases I to a dotless i in Turkish
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals(new Name("IRMAK"), new Name("irmak"));
+            assertEquals(new Name("IRMAK").hashCode(), new Name("irmak").hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Name(null));
@@ -60,4 +90,9 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertEquals(new Name("Valid Name").hashCode(), new Name("VALID name").hashCode());
+    }
 }
@@ -4,17 +4,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static tutorly.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static tutorly.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static tutorly.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE;
 import static tutorly.testutil.TypicalAddressBook.BOB;
+import static tutorly.testutil.TypicalAddressBook.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import tutorly.model.uniquelist.exceptions.DuplicateElementException;
 import tutorly.model.uniquelist.exceptions.ElementNotFoundException;
 import tutorly.testutil.PersonBuilder;
@@ -162,6 +169,20 @@ public class UniquePersonListTest {
         assertThrows(DuplicateElementException.class, () -> uniquePersonList.setAll(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithNonAdjacentSameNamePersons_throwsDuplicateElementException() {
+        Person aliceWithDifferentCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .withId(CARL.getId() + 1).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, CARL, aliceWithDifferentCase);
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicateElementException.class, () -> uniquePersonList.setAll(listWithDuplicatePersons));
+
+        // list and its indexes are left unchanged
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.getPersonByName(BOB.getName()).isPresent());
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void getPersonById_personExists_returnsPerson() {
         uniquePersonList.add(ALICE);
@@ -192,12 +213,115 @@ public class UniquePersonListTest {
         assertFalse(uniquePersonList.getPersonByName(BOB.getName()).isPresent());
     }
 
+    @Test
+    public void getPersonByName_differentCase_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        Name upperCaseName = new Name(ALICE.getName().fullName.toUpperCase());
+        assertEquals(ALICE, uniquePersonList.getPersonByName(upperCaseName).get());
+    }
+
+    @Test
+    public void getPersonById_afterRemove_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.getPersonById(ALICE.getId()).isPresent());
+        assertFalse(uniquePersonList.getPersonByName(ALICE.getName()).isPresent());
+    }
+
+    @Test
+    public void getPersonByName_afterSet_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        uniquePersonList.set(ALICE, renamedAlice);
+        assertFalse(uniquePersonList.getPersonByName(ALICE.getName()).isPresent());
+        assertEquals(renamedAlice, uniquePersonList.getPersonByName(renamedAlice.getName()).get());
+        assertEquals(renamedAlice, uniquePersonList.getPersonById(ALICE.getId()).get());
+    }
+
+    @Test
+    public void getPersonById_afterSetAll_returnsReplacementPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setAll(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.getPersonById(ALICE.getId()).isPresent());
+        assertEquals(BOB, uniquePersonList.getPersonById(BOB.getId()).get());
+    }
+
+    @Test
+    public void add_outOfOrder_insertsInSortedPositionWithSingleChange() {
+        uniquePersonList.add(BOB);
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add((change.wasPermutated() ? "permutated" : "added") + " at " + change.getFrom());
+            }
+        });
+
+        uniquePersonList.add(ALICE);
+
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of("added at 0"), changes);
+    }
+
+    @Test
+    public void set_editedPersonHasDifferentOrder_movesPerson() {
+        uniquePersonList.setAll(Arrays.asList(BOB, ALICE, CARL));
+        assertEquals(Arrays.asList(ALICE, CARL, BOB), uniquePersonList.asUnmodifiableObservableList());
+
+        Person movedAlice = new PersonBuilder(ALICE).withId(BOB.getId() + 1).build();
+        uniquePersonList.set(ALICE, movedAlice);
+        assertEquals(Arrays.asList(CARL, BOB, movedAlice), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(movedAlice, uniquePersonList.getPersonById(movedAlice.getId()).get());
+    }
+
+    @Test
+    public void getPersonIdsWithTags_afterAddSetAndRemove_updatesTagIndex() {
+        // ALICE is tagged "friends", and BOB is tagged "friend" and "husband"
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(bitSetOf(ALICE.getId(), BOB.getId()),
+                uniquePersonList.getPersonIdsWithAnyTag(List.of("FRIENDS", VALID_TAG_FRIEND)));
+        assertEquals(bitSetOf(BOB.getId()),
+                uniquePersonList.getPersonIdsWithAllTags(List.of(VALID_TAG_FRIEND, VALID_TAG_HUSBAND)));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.set(ALICE, editedAlice);
+        assertEquals(new BitSet(), uniquePersonList.getPersonIdsWithAnyTag(List.of("friends")));
+        assertEquals(bitSetOf(ALICE.getId(), BOB.getId()),
+                uniquePersonList.getPersonIdsWithAllTags(List.of(VALID_TAG_HUSBAND)));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(new BitSet(), uniquePersonList.getPersonIdsWithAnyTag(List.of(VALID_TAG_FRIEND)));
+        assertEquals(bitSetOf(ALICE.getId()), uniquePersonList.getPersonIdsWithAllTags(List.of(VALID_TAG_HUSBAND)));
+    }
+
+    @Test
+    public void getTagKey_tagNamesEqualIgnoringCase_sameKey() {
+        assertEquals(UniquePersonList.getTagKey("Friends"), UniquePersonList.getTagKey("fRIENDS"));
+        assertEquals(UniquePersonList.getTagKey("İleri"), UniquePersonList.getTagKey("ileri"));
+
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals(UniquePersonList.getTagKey("IRMAK"), UniquePersonList.getTagKey("irmak"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
                 -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    private static BitSet bitSetOf(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
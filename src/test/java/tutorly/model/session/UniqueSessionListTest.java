@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Iterator;
 import java.util.List;
@@ -64,6 +65,72 @@ public class UniqueSessionListTest {
         assertThrows(DuplicateElementException.class, () -> sessionList.add(session));
     }
 
+    @Test
+    void testHasOverlappingSession() {
+        sessionList.add(session1);
+        assertTrue(sessionList.hasOverlappingSession(session2));
+        assertFalse(sessionList.hasOverlappingSession(session3)); // starts exactly when session1 ends
+        assertFalse(sessionList.hasOverlappingSession(session1)); // conflicts with itself are ignored
+    }
+
+    @Test
+    void testHasOverlappingSessionAfterRemoveAndSet() {
+        sessionList.add(session1);
+        sessionList.remove(session1);
+        assertFalse(sessionList.hasOverlappingSession(session2));
+
+        sessionList.add(session1);
+        Session movedSession1 = new SessionBuilder().withId(1).withTimeslot(session3.getTimeslot()).build();
+        sessionList.set(session1, movedSession1);
+        assertFalse(sessionList.hasOverlappingSession(new SessionBuilder().withId(4)
+                .withTimeslot(session1.getTimeslot()).build()));
+        assertTrue(sessionList.hasOverlappingSession(session2));
+    }
+
+    @Test
+    void testHasOverlappingSessionWithLongSession() {
+        Session longSession = new SessionBuilder().withId(4).withTimeslot(new Timeslot(
+                LocalDateTime.of(2025, 3, 20, 10, 0), LocalDateTime.of(2025, 3, 30, 10, 0))).build();
+        sessionList.add(longSession);
+        sessionList.add(session1);
+        assertTrue(sessionList.hasOverlappingSession(session3));
+    }
+
+    @Test
+    void testGetSessionsInRange() {
+        sessionList.setAll(List.of(session3, session1));
+        assertEquals(List.of(session1, session3), sessionList.getSessionsInRange(
+                LocalDateTime.of(2025, 3, 25, 0, 0), LocalDateTime.of(2025, 3, 26, 0, 0)));
+        assertEquals(List.of(session1), sessionList.getSessionsInRange(
+                LocalDateTime.of(2025, 3, 25, 11, 0), LocalDateTime.of(2025, 3, 25, 12, 0)));
+        assertEquals(List.of(), sessionList.getSessionsInRange(
+                LocalDateTime.of(2025, 3, 25, 13, 0), LocalDateTime.of(2025, 3, 25, 14, 0)));
+    }
+
+    @Test
+    void testGetSessionsOnDates() {
+        Session overnightSession = new SessionBuilder().withId(4).withTimeslot(new Timeslot(
+                LocalDateTime.of(2025, 3, 20, 22, 0), LocalDateTime.of(2025, 3, 21, 0, 0))).build();
+        sessionList.setAll(List.of(session3, session1, overnightSession));
+        assertEquals(List.of(session1, session3), sessionList.getSessionsOnDates(
+                LocalDate.of(2025, 3, 25), LocalDate.of(2025, 3, 25)));
+        assertEquals(List.of(overnightSession), sessionList.getSessionsOnDates(
+                LocalDate.of(2025, 3, 21), LocalDate.of(2025, 3, 24)));
+        assertEquals(List.of(overnightSession, session1, session3), sessionList.getSessionsOnDates(
+                LocalDate.MIN, LocalDate.MAX));
+        assertEquals(List.of(), sessionList.getSessionsOnDates(
+                LocalDate.of(2025, 3, 26), LocalDate.MAX));
+    }
+
+    @Test
+    void testGetSessionsOnDatesBeforeAllSessions() {
+        sessionList.setAll(List.of(session3, session1));
+        assertEquals(List.of(), sessionList.getSessionsOnDates(
+                LocalDate.of(2025, 3, 24), LocalDate.of(2025, 3, 24)));
+        assertEquals(List.of(), sessionList.getSessionsOnDates(
+                LocalDate.MIN, LocalDate.of(2025, 3, 24)));
+    }
+
     @Test
     void testRemoveSuccess() {
         sessionList.add(session1);
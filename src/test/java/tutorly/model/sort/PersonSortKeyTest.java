@@ -0,0 +1,97 @@
+package tutorly.model.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.FIONA;
+import static tutorly.testutil.TypicalAddressBook.GEORGE;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.model.session.Timeslot;
+import tutorly.testutil.AddressBookBuilder;
+import tutorly.testutil.AttendanceRecordBuilder;
+import tutorly.testutil.SessionBuilder;
+
+public class PersonSortKeyTest {
+
+    @Test
+    public void toComparator_name_sortsAlphabetically() {
+        List<Person> persons = List.of(GEORGE, DANIEL, ALICE, FIONA);
+        assertEquals(List.of(ALICE, DANIEL, FIONA, GEORGE), sort(persons, PersonSortKey.NAME, new AddressBook()));
+    }
+
+    @Test
+    public void toComparator_attendance_sortsLowestFirst() {
+        // Persons without attendance records are last
+        List<Person> persons = List.of(GEORGE, ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
+        assertEquals(List.of(DANIEL, ELLE, FIONA, ALICE, BENSON, CARL, GEORGE),
+                sort(persons, PersonSortKey.ATTENDANCE, getTypicalAddressBook()));
+    }
+
+    @Test
+    public void toComparator_upcoming_sortsSoonestFirst() {
+        LocalDateTime now = LocalDateTime.now();
+        Session past = new SessionBuilder().withId(1)
+                .withTimeslot(new Timeslot(now.minusDays(2), now.minusDays(2).plusHours(1))).build();
+        Session soon = new SessionBuilder().withId(2)
+                .withTimeslot(new Timeslot(now.plusDays(1), now.plusDays(1).plusHours(1))).build();
+        Session later = new SessionBuilder().withId(3)
+                .withTimeslot(new Timeslot(now.plusDays(5), now.plusDays(5).plusHours(1))).build();
+        AddressBook addressBook = new AddressBookBuilder()
+                .withPerson(ALICE).withPerson(BENSON).withPerson(CARL)
+                .withSession(past).withSession(soon).withSession(later)
+                .withAttendanceRecord(new AttendanceRecordBuilder().withPerson(ALICE).withSession(later).build())
+                .withAttendanceRecord(new AttendanceRecordBuilder().withPerson(BENSON).withSession(past).build())
+                .withAttendanceRecord(new AttendanceRecordBuilder().withPerson(BENSON).withSession(soon).build())
+                .withAttendanceRecord(new AttendanceRecordBuilder().withPerson(CARL).withSession(past).build())
+                .build();
+
+        // Persons without upcoming sessions are last
+        assertEquals(List.of(BENSON, ALICE, CARL),
+                sort(List.of(CARL, ALICE, BENSON), PersonSortKey.UPCOMING, addressBook));
+    }
+
+    @Test
+    public void toComparator_feedback_sortsMostRecentFirst() {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 10, 0);
+        Session earlier = new SessionBuilder().withId(1)
+                .withTimeslot(new Timeslot(start, start.plusHours(1))).build();
+        Session recent = new SessionBuilder().withId(2)
+                .withTimeslot(new Timeslot(start.plusDays(7), start.plusDays(7).plusHours(1))).build();
+        Feedback feedback = new Feedback("Good work");
+        AddressBook addressBook = new AddressBookBuilder()
+                .withPerson(ALICE).withPerson(BENSON).withPerson(CARL)
+                .withSession(earlier).withSession(recent)
+                .withAttendanceRecord(new AttendanceRecordBuilder().withPerson(ALICE).withSession(earlier)
+                        .withFeedback(feedback).build())
+                .withAttendanceRecord(new AttendanceRecordBuilder().withPerson(ALICE).withSession(recent).build())
+                .withAttendanceRecord(new AttendanceRecordBuilder().withPerson(BENSON).withSession(recent)
+                        .withFeedback(feedback).build())
+                .withAttendanceRecord(new AttendanceRecordBuilder().withPerson(CARL).withSession(recent).build())
+                .build();
+
+        // Persons without feedback are last
+        assertEquals(List.of(BENSON, ALICE, CARL),
+                sort(List.of(CARL, ALICE, BENSON), PersonSortKey.FEEDBACK, addressBook));
+    }
+
+    private List<Person> sort(List<Person> persons, PersonSortKey key, AddressBook addressBook) {
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(key.toComparator(addressBook).thenComparingInt(Person::getId));
+        return sorted;
+    }
+
+}
@@ -0,0 +1,50 @@
+package tutorly.model.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION_OVERLAP;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.session.Session;
+
+public class SessionSortKeyTest {
+
+    @Test
+    public void toComparator_time_sortsEarliestFirst() {
+        assertEquals(List.of(MATH_SESSION, MATH_SESSION_OVERLAP, ENGLISH_SESSION),
+                sort(List.of(ENGLISH_SESSION, MATH_SESSION_OVERLAP, MATH_SESSION), SessionSortKey.TIME));
+    }
+
+    @Test
+    public void toComparator_subject_sortsAlphabetically() {
+        assertEquals(List.of(ENGLISH_SESSION, MATH_SESSION),
+                sort(List.of(MATH_SESSION, ENGLISH_SESSION), SessionSortKey.SUBJECT));
+    }
+
+    @Test
+    public void toComparator_attendance_sortsLowestFirst() {
+        // Both sessions have half of their students present, and sessions without records are last
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(List.of(MATH_SESSION, ENGLISH_SESSION, MATH_SESSION_OVERLAP),
+                sort(List.of(MATH_SESSION_OVERLAP, ENGLISH_SESSION, MATH_SESSION), SessionSortKey.ATTENDANCE,
+                        addressBook));
+    }
+
+    private List<Session> sort(List<Session> sessions, SessionSortKey key) {
+        return sort(sessions, key, new AddressBook());
+    }
+
+    private List<Session> sort(List<Session> sessions, SessionSortKey key, AddressBook addressBook) {
+        List<Session> sorted = new ArrayList<>(sessions);
+        sorted.sort(key.toComparator(addressBook).thenComparingInt(Session::getId));
+        return sorted;
+    }
+
+}
@@ -0,0 +1,43 @@
+package tutorly.model.sort;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.person.Person;
+
+public class SortOrderTest {
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortOrder<Person>(Optional.empty(), 0));
+    }
+
+    @Test
+    public void equals() {
+        SortOrder<Person> order = new SortOrder<>(Optional.of(PersonSortKey.NAME), 5);
+
+        // same values -> returns true
+        assertTrue(order.equals(new SortOrder<>(Optional.of(PersonSortKey.NAME), 5)));
+
+        // same object -> returns true
+        assertTrue(order.equals(order));
+
+        // null -> returns false
+        assertFalse(order.equals(null));
+
+        // different key -> returns false
+        assertFalse(order.equals(new SortOrder<>(Optional.of(PersonSortKey.ATTENDANCE), 5)));
+
+        // different limit -> returns false
+        assertFalse(order.equals(new SortOrder<>(Optional.of(PersonSortKey.NAME), 6)));
+
+        // no key and limit -> returns false
+        assertFalse(order.equals(SortOrder.none()));
+    }
+
+}
@@ -1,6 +1,8 @@
 package tutorly.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 
@@ -19,6 +21,18 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        assertSame(Tag.of("friends"), Tag.of(new String("friends")));
+        assertNotSame(Tag.of("friends"), Tag.of("colleagues"));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
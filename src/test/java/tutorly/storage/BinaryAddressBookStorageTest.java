@@ -0,0 +1,156 @@
+package tutorly.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.HOON;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorly.commons.exceptions.DataLoadingException;
+import tutorly.commons.util.JsonUtil;
+import tutorly.model.AddressBook;
+import tutorly.model.session.Session;
+import tutorly.model.session.Timeslot;
+import tutorly.testutil.SessionBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "tutorly.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "tutorly.json")));
+        assertEquals(Paths.get("tutorly.bin"), BinaryAddressBookStorage.getBinaryFilePath(Paths.get("tutorly")));
+        assertEquals(Paths.get(".tutorly.bin"), BinaryAddressBookStorage.getBinaryFilePath(Paths.get(".tutorly")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(getTypicalAddressBook()), filePath);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // The version follows the four byte magic number
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[4] = BinaryAddressBookCodec.VERSION + 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("ab.bin.tmp")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_timeslotWithSeconds_keepsSeconds() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = new AddressBook();
+        original.addSession(new SessionBuilder().withTimeslot(new Timeslot(
+                LocalDateTime.parse("2025-03-25T10:00:30"), LocalDateTime.parse("2025-03-25T11:59:59"))).build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_minuteVersion_success() throws Exception {
+        LocalDateTime startTime = LocalDateTime.parse("2025-03-25T10:00");
+        long startMinute = startTime.toEpochSecond(ZoneOffset.UTC) / 60;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookCodec.MAGIC);
+        // Version, next person ID, next session ID, and the string table with one subject
+        out.write(new byte[] {1, 1, 2, 1, 4});
+        out.write("Math".getBytes(StandardCharsets.UTF_8));
+        // No persons, and one session with its ID, start minute, length in minutes and subject
+        out.write(new byte[] {0, 1, 1});
+        for (long value = startMinute << 1; value != 0; value >>>= 7) {
+            out.writeByte((int) ((value & 0x7F) | (value >>> 7 != 0 ? 0x80 : 0)));
+        }
+        // No attendance records
+        out.write(new byte[] {60, 0, 0});
+        Path filePath = testFolder.resolve("ab.bin");
+        Files.write(filePath, bytes.toByteArray());
+
+        Session expectedSession = new SessionBuilder().withId(1)
+                .withTimeslot(new Timeslot(startTime, startTime.plusHours(1))).withSubject("Math").build();
+        assertEquals(List.of(expectedSession),
+                new BinaryAddressBookStorage(filePath).readAddressBook().get().getSessionList());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -0,0 +1,194 @@
+package tutorly.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.HOON;
+import static tutorly.testutil.TypicalAddressBook.IDA;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorly.commons.exceptions.DataLoadingException;
+import tutorly.model.AddressBook;
+import tutorly.testutil.AttendanceRecordBuilder;
+
+public class JournaledAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonAddressBook_throwDataLoadingException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_snapshotWithoutJournal_success() throws Exception {
+        // Address books saved by JsonAddressBookStorage are snapshots without a journal
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JournaledAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = testFolder.resolve("ab.json.journal");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        // The first save writes a snapshot
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        // Saving an unchanged address book writes nothing
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+
+        // Later saves only append the changes
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setAttendanceRecord(BENSON_ATTEND_MATH,
+                new AttendanceRecordBuilder(BENSON_ATTEND_MATH).withIsPresent(false).build());
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_copyOfReadAddressBook_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = testFolder.resolve("ab.json.journal");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        // The changes of a copy of the address book that was read are collected from the read address book
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook copy = new AddressBook(storage.readAddressBook().get());
+        copy.removeSession(MATH_SESSION);
+        storage.saveAddressBook(copy.snapshot());
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(copy, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Replacing the lists as a whole writes a snapshot
+        copy.resetData(new AddressBook());
+        storage.saveAddressBook(copy.snapshot());
+        assertFalse(Files.exists(journalPath));
+        assertEquals(copy, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Reading waits for the compaction to finish
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("ab.json.journal")));
+        assertFalse(Files.exists(testFolder.resolve("ab.json.journal.old")));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Another storage only reads the files once the compaction has finished
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = testFolder.resolve("ab.json.journal");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(journalPath, "{\"persons\":[{\"id\":9,".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+
+        // An unreadable entry followed by other entries is an error
+        Files.write(journalPath, "\n{}\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_partlyCompactedJournal_replaysBothJournals() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // The journal is moved aside when compaction starts, and later changes go to a new journal
+        Files.move(testFolder.resolve("ab.json.journal"), testFolder.resolve("ab.json.journal.old"));
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(testFolder.resolve("ab.json.journal")));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+
+        // The old journal is replayed again if the snapshot was written but the old journal was not deleted
+        Path oldJournalPath = testFolder.resolve("ab.json.journal.old");
+        String oldJournal = Files.readString(oldJournalPath);
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+        Files.writeString(oldJournalPath, oldJournal);
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshot() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(testFolder.resolve("ab.json")).saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(testFolder.resolve("ab.json")));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
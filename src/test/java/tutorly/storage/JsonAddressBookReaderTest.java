@@ -0,0 +1,107 @@
+package tutorly.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorly.commons.exceptions.IllegalValueException;
+import tutorly.commons.util.JsonUtil;
+import tutorly.model.AddressBook;
+import tutorly.testutil.TypicalAddressBook;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_ADDRESS_BOOK_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path INVALID_NEXT_PERSON_ID_FILE =
+            TEST_DATA_FOLDER.resolve("invalidNextPersonIdAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_SESSION_FILE = TEST_DATA_FOLDER.resolve("duplicateSessionAddressBook.json");
+    private static final Path NOT_JSON_FORMAT_FILE =
+            Paths.get("src", "test", "data", "JsonAddressBookStorageTest", "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookReader.read(null));
+    }
+
+    @Test
+    public void read_typicalAddressBookFile_success() throws Exception {
+        assertEquals(TypicalAddressBook.getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_ADDRESS_BOOK_FILE));
+    }
+
+    @Test
+    public void read_sameAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(TypicalAddressBook.getTypicalAddressBook()), filePath);
+
+        assertEquals(JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType(),
+                JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_fieldsInAnyOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Files.writeString(filePath, "{ \"nextSessionId\": 1, \"unknown\": { \"persons\": 5 }, "
+                + "\"sessions\": null, \"nextPersonId\": 3, \"persons\": [ { \"id\": 2, \"name\": \"Alice\" } ] }");
+
+        AddressBook addressBook = JsonAddressBookReader.read(filePath);
+        assertEquals(1, addressBook.getPersonList().size());
+        assertEquals(2, addressBook.getPersonList().get(0).getId());
+        assertEquals(3, addressBook.getNextPersonId());
+        assertEquals(1, addressBook.getNextSessionId());
+    }
+
+    @Test
+    public void read_attendanceRecordsBeforePersonsAndSessions_keepsRecords() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Files.writeString(filePath, "{ \"attendanceRecords\": [ { \"studentId\": 2, \"sessionId\": 1, "
+                + "\"isPresent\": true } ], \"persons\": [ { \"id\": 2, \"name\": \"Alice\" } ], "
+                + "\"sessions\": [ { \"id\": 1, \"startTime\": \"2025-03-25T10:00\", "
+                + "\"endTime\": \"2025-03-25T12:00\", \"subject\": \"Math\" } ], "
+                + "\"nextPersonId\": 3, \"nextSessionId\": 2 }");
+
+        AddressBook addressBook = JsonAddressBookReader.read(filePath);
+        assertEquals(1, addressBook.getAttendanceRecordsList().size());
+        assertEquals(2, addressBook.getAttendanceRecordsList().get(0).getStudentId());
+    }
+
+    @Test
+    public void read_invalidValues_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_NEXT_PERSON_ID_FILE));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_SESSION, () ->
+                JsonAddressBookReader.read(DUPLICATE_SESSION_FILE));
+    }
+
+    @Test
+    public void read_invalidFormat_throwsIoException() throws Exception {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(NOT_JSON_FORMAT_FILE));
+
+        Path filePath = testFolder.resolve("ab.json");
+        Files.writeString(filePath, "[]");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+
+        Files.writeString(filePath, "{ \"persons\": { } }");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+
+        Files.writeString(filePath, "{ \"persons\": [ { \"id\": 1, \"name\": \"Alice\" }");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+
+        Files.writeString(filePath, "{ \"nextPersonId\": [ 1 ] }");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+}
@@ -5,12 +5,14 @@ import static tutorly.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import tutorly.commons.exceptions.IllegalValueException;
 import tutorly.commons.util.JsonUtil;
 import tutorly.model.AddressBook;
+import tutorly.testutil.AttendanceRecordBuilder;
 import tutorly.testutil.TypicalAddressBook;
 
 public class JsonSerializableAddressBookTest {
@@ -24,6 +26,8 @@ public class JsonSerializableAddressBookTest {
             TEST_DATA_FOLDER.resolve("invalidNextSessionIdAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
     private static final Path DUPLICATE_SESSION_FILE = TEST_DATA_FOLDER.resolve("duplicateSessionAddressBook.json");
+    private static final Path ORPHAN_ATTENDANCE_RECORD_FILE =
+            TEST_DATA_FOLDER.resolve("orphanAttendanceRecordAddressBook.json");
 
     @Test
     public void toModelType_typicalAddressBookFile_success() throws Exception {
@@ -73,4 +77,13 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_orphanAttendanceRecords_dropsOrphans() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(ORPHAN_ATTENDANCE_RECORD_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertEquals(List.of(new AttendanceRecordBuilder().withStudentId(1).withSessionId(1).withIsPresent(true)
+                .build()), addressBookFromFile.getAttendanceRecordsList());
+    }
+
 }
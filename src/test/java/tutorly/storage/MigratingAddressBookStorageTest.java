@@ -0,0 +1,112 @@
+package tutorly.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.HOON;
+import static tutorly.testutil.TypicalAddressBook.IDA;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorly.model.AddressBook;
+
+public class MigratingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> new MigratingAddressBookStorage(null, storage));
+        assertThrows(NullPointerException.class, () -> new MigratingAddressBookStorage(storage, null));
+    }
+
+    @Test
+    public void readAddressBook_noData_emptyResult() throws Exception {
+        MigratingAddressBookStorage storage = new MigratingAddressBookStorage(
+                new BinaryAddressBookStorage(testFolder.resolve("ab.bin")),
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_onlyPreviousData_migratesData() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        // Import the JSON data file into the binary format
+        MigratingAddressBookStorage storage = new MigratingAddressBookStorage(binaryStorage, jsonStorage);
+        assertEquals(testFolder.resolve("ab.bin"), storage.getAddressBookFilePath());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(binaryStorage.readAddressBook().get()));
+
+        // Export the binary data file back to JSON
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        JsonAddressBookStorage exportedStorage = new JsonAddressBookStorage(exportedFilePath);
+        assertEquals(modified, new AddressBook(
+                new MigratingAddressBookStorage(exportedStorage, binaryStorage).readAddressBook().get()));
+        assertEquals(modified, new AddressBook(exportedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_currentData_ignoresPreviousData() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        jsonStorage.saveAddressBook(new AddressBook());
+        binaryStorage.saveAddressBook(getTypicalAddressBook());
+
+        MigratingAddressBookStorage storage = new MigratingAddressBookStorage(binaryStorage, jsonStorage);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_otherFilePath_doesNotMigrate() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+
+        MigratingAddressBookStorage storage = new MigratingAddressBookStorage(
+                new BinaryAddressBookStorage(testFolder.resolve("ab.bin")), jsonStorage);
+        assertFalse(storage.readAddressBook(testFolder.resolve("other.bin")).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_formatChangedBack_migratesEditedData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        new JournaledAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        // Change the format to binary and edit the data
+        MigratingAddressBookStorage binaryStorage = new MigratingAddressBookStorage(
+                new BinaryAddressBookStorage(binaryFilePath), new JournaledAddressBookStorage(jsonFilePath));
+        AddressBook edited = new AddressBook(binaryStorage.readAddressBook().get());
+        edited.addPerson(HOON);
+        binaryStorage.saveAddressBook(edited);
+        assertFalse(Files.exists(jsonFilePath));
+        assertTrue(Files.exists(testFolder.resolve("ab.json" + MigratingAddressBookStorage.MIGRATED_FILE_SUFFIX)));
+
+        // Change the format back to JSON and edit the data again
+        MigratingAddressBookStorage jsonStorage = new MigratingAddressBookStorage(
+                new JournaledAddressBookStorage(jsonFilePath), new BinaryAddressBookStorage(binaryFilePath));
+        assertEquals(edited, new AddressBook(jsonStorage.readAddressBook().get()));
+        assertFalse(Files.exists(binaryFilePath));
+        assertTrue(Files.exists(testFolder.resolve("ab.bin" + MigratingAddressBookStorage.MIGRATED_FILE_SUFFIX)));
+        edited.addPerson(IDA);
+        jsonStorage.saveAddressBook(edited);
+
+        // Change the format to binary once more
+        MigratingAddressBookStorage storage = new MigratingAddressBookStorage(
+                new BinaryAddressBookStorage(binaryFilePath), new JournaledAddressBookStorage(jsonFilePath));
+        assertEquals(edited, new AddressBook(storage.readAddressBook().get()));
+    }
+}
@@ -0,0 +1,170 @@
+package tutorly.storage;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.ReadOnlyAddressBook;
+
+public class SaveSchedulerTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    private final List<Runnable> queuedTasks = Collections.synchronizedList(new ArrayList<>());
+    private final AddressBookStorageStub storage = new AddressBookStorageStub();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SaveScheduler(null));
+        assertThrows(NullPointerException.class, () -> new SaveScheduler(storage, null));
+    }
+
+    @Test
+    public void schedule_burstOfSnapshots_writesLatestSnapshotOnce() {
+        SaveScheduler saveScheduler = new SaveScheduler(storage, queuedTasks::add);
+        AddressBook first = new AddressBook();
+        AddressBook second = getTypicalAddressBook();
+        AddressBook third = getTypicalAddressBook();
+
+        saveScheduler.schedule(first);
+        saveScheduler.schedule(second);
+        saveScheduler.schedule(third);
+        assertEquals(1, queuedTasks.size());
+
+        runQueuedTasks();
+        assertEquals(1, storage.savedSnapshots.size());
+        assertSame(third, storage.savedSnapshots.get(0));
+
+        // A snapshot scheduled after the write is written separately
+        saveScheduler.schedule(first);
+        runQueuedTasks();
+        assertEquals(List.of(third, first), storage.savedSnapshots);
+    }
+
+    @Test
+    public void checkFailure_writeFailed_throwsOnce() {
+        SaveScheduler saveScheduler = new SaveScheduler(storage, Runnable::run);
+        storage.failuresLeft = 1;
+
+        saveScheduler.schedule(new AddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), saveScheduler::checkFailure);
+        assertDoesNotThrow(saveScheduler::checkFailure);
+    }
+
+    @Test
+    public void checkFailure_laterWriteSucceeded_doesNotThrow() {
+        SaveScheduler saveScheduler = new SaveScheduler(storage, Runnable::run);
+        storage.failuresLeft = 1;
+
+        saveScheduler.schedule(new AddressBook());
+        saveScheduler.schedule(getTypicalAddressBook());
+        assertDoesNotThrow(saveScheduler::checkFailure);
+    }
+
+    @Test
+    public void flush_pendingSnapshot_writesSnapshot() throws Exception {
+        SaveScheduler saveScheduler = new SaveScheduler(storage, queuedTasks::add);
+        AddressBook snapshot = getTypicalAddressBook();
+        saveScheduler.schedule(snapshot);
+
+        // Flushing waits for the queued write to run
+        Thread flushThread = new Thread(() -> assertDoesNotThrow(saveScheduler::flush));
+        flushThread.start();
+        while (queuedTasks.size() < 2) {
+            Thread.onSpinWait();
+        }
+        runQueuedTasks();
+        flushThread.join();
+        assertEquals(List.of(snapshot), storage.savedSnapshots);
+    }
+
+    @Test
+    public void flush_writeFailed_writesFailedSnapshotAgain() throws Exception {
+        SaveScheduler saveScheduler = new SaveScheduler(storage, Runnable::run);
+        AddressBook snapshot = getTypicalAddressBook();
+        storage.failuresLeft = 1;
+        saveScheduler.schedule(snapshot);
+
+        saveScheduler.flush();
+        assertEquals(List.of(snapshot), storage.savedSnapshots);
+        assertDoesNotThrow(saveScheduler::checkFailure);
+
+        // Nothing is left to write after a successful flush
+        saveScheduler.flush();
+        assertEquals(List.of(snapshot), storage.savedSnapshots);
+    }
+
+    @Test
+    public void flush_writeFailsAgain_throwsIoException() throws Exception {
+        SaveScheduler saveScheduler = new SaveScheduler(storage, Runnable::run);
+        AddressBook snapshot = getTypicalAddressBook();
+        storage.failuresLeft = 2;
+        saveScheduler.schedule(snapshot);
+
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), saveScheduler::flush);
+
+        // The snapshot is kept for the next flush
+        saveScheduler.flush();
+        assertEquals(List.of(snapshot), storage.savedSnapshots);
+    }
+
+    @Test
+    public void flush_backgroundThread_writesLatestSnapshot() throws Exception {
+        SaveScheduler saveScheduler = new SaveScheduler(storage);
+        AddressBook latest = null;
+        for (int i = 0; i < 100; i++) {
+            latest = new AddressBook();
+            saveScheduler.schedule(latest);
+        }
+
+        saveScheduler.flush();
+        synchronized (storage) {
+            assertSame(latest, storage.savedSnapshots.get(storage.savedSnapshots.size() - 1));
+        }
+    }
+
+    private void runQueuedTasks() {
+        while (true) {
+            Runnable task;
+            synchronized (queuedTasks) {
+                if (queuedTasks.isEmpty()) {
+                    return;
+                }
+                task = queuedTasks.remove(0);
+            }
+            task.run();
+        }
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the snapshots it saves, after failing a given number of times.
+     */
+    private static class AddressBookStorageStub extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedSnapshots = new ArrayList<>();
+        private int failuresLeft;
+
+        AddressBookStorageStub() {
+            super(Path.of("unused.json"));
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            savedSnapshots.add(addressBook);
+        }
+    }
+}